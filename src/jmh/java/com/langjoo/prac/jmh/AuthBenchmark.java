@@ -0,0 +1,78 @@
+package com.langjoo.prac.jmh;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.langjoo.prac.auth.dto.AuthResponse;
+import com.langjoo.prac.auth.dto.LoginRequest;
+import com.langjoo.prac.auth.jwt.JwtTokenProvider;
+import com.langjoo.prac.auth.service.AuthService;
+import com.langjoo.prac.domain.User;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 📌 인증 경로
+// - validateTokenCached: 요청마다 호출되는 토큰 검증 (검증된 토큰 캐시 적중)
+// - parseSignedToken   : 캐시 없이 서명 검증 + 클레임 파싱 (처음 보는 토큰의 비용)
+// - bcryptMatches      : 비밀번호 비교 (BCrypt, 기본 cost 10)
+// - login              : AuthServiceImpl.login 전체 (유저 조회 + BCrypt + 토큰 2개 발급)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthBenchmark {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private PasswordEncoder passwordEncoder;
+    private AuthService authService;
+    private String accessToken;
+    private String encodedPassword;
+    private LoginRequest loginRequest;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkDataset dataset) throws Exception {
+        jwtTokenProvider = dataset.bean(JwtTokenProvider.class);
+        passwordEncoder = dataset.bean(PasswordEncoder.class);
+        authService = dataset.bean(AuthService.class);
+
+        User reader = dataset.reader();
+        accessToken = jwtTokenProvider.createAccessToken(reader.getId(), reader.getLoginId());
+        encodedPassword = reader.getPassword();
+        loginRequest = dataset.bean(ObjectMapper.class).convertValue(
+                Map.of("loginId", reader.getLoginId(), "password", BenchmarkDataset.PASSWORD), LoginRequest.class);
+    }
+
+    @Benchmark
+    public boolean validateTokenCached() {
+        return jwtTokenProvider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public Claims parseSignedToken() {
+        return jwtTokenProvider.getClaimsFromToken(accessToken);
+    }
+
+    @Benchmark
+    public boolean bcryptMatches() {
+        return passwordEncoder.matches(BenchmarkDataset.PASSWORD, encodedPassword);
+    }
+
+    @Benchmark
+    public AuthResponse login() {
+        return authService.login(loginRequest);
+    }
+}
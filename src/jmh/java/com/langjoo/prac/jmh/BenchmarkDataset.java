@@ -0,0 +1,173 @@
+package com.langjoo.prac.jmh;
+
+import com.langjoo.prac.PracApplication;
+import com.langjoo.prac.domain.Bookmark;
+import com.langjoo.prac.domain.Follow;
+import com.langjoo.prac.domain.Like;
+import com.langjoo.prac.domain.RetweetType;
+import com.langjoo.prac.domain.Tweet;
+import com.langjoo.prac.domain.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Consumer;
+
+// 📌 벤치마크 공용 데이터셋: 임베디드 H2로 애플리케이션을 띄우고 고정 시드로 유저/팔로우/트윗/좋아요/북마크 생성
+// 같은 시드이므로 실행마다 같은 데이터 → 릴리스 간 결과 비교 가능
+// reader(첫 번째 유저)가 측정 대상 요청을 보내는 유저입니다.
+@State(Scope.Benchmark)
+public class BenchmarkDataset {
+
+    public static final String PASSWORD = "password123";
+    public static final int PAGE_SIZE = 20;
+
+    private static final long SEED = 42L;
+    private static final int USERS = 500;
+    private static final int FOLLOWS_PER_USER = 50;
+    private static final int ORIGINALS_PER_USER = 16;
+    private static final int RETWEETS_PER_USER = 4; // 절반은 순수 리트윗, 절반은 인용 트윗
+    private static final int LIKES_PER_USER = 100;
+    private static final int BOOKMARKS_PER_USER = 20;
+    private static final int FLUSH_EVERY = 50; // hibernate.jdbc.batch_size와 동일
+
+    private ConfigurableApplicationContext context;
+    private User reader;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(PracApplication.class)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:jmh;MODE=MYSQL",
+                        "server.port=0",
+                        "spring.h2.console.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public User reader() {
+        return reader;
+    }
+
+    // -------------------------------------------------------------
+    // 데이터 생성
+    // -------------------------------------------------------------
+    private void seed() {
+        Random random = new Random(SEED);
+        String encodedPassword = bean(PasswordEncoder.class).encode(PASSWORD); // BCrypt는 한 번만 (모든 유저 같은 해시)
+
+        List<User> users = new ArrayList<>();
+        inTransaction(em -> {
+            for (int i = 0; i < USERS; i++) {
+                User user = new User("jmh" + i, "jmh" + i, "jmh" + i, encodedPassword);
+                em.persist(user);
+                users.add(user);
+                flushEvery(em, i);
+            }
+        });
+        reader = users.get(0);
+
+        inTransaction(em -> {
+            int count = 0;
+            for (int i = 0; i < users.size(); i++) {
+                User follower = em.getReference(User.class, users.get(i).getId());
+                for (int index : distinct(random, FOLLOWS_PER_USER, users.size(), i)) {
+                    em.persist(new Follow(follower,
+                            em.getReference(User.class, users.get(index).getId())));
+                    flushEvery(em, count++);
+                }
+            }
+        });
+
+        List<Tweet> tweets = new ArrayList<>();
+        inTransaction(em -> {
+            int count = 0;
+            for (User user : users) {
+                User author = em.getReference(User.class, user.getId());
+                for (int i = 0; i < ORIGINALS_PER_USER; i++) {
+                    Tweet tweet = new Tweet(author, "jmh tweet " + i + " by " + user.getUsername(), null, RetweetType.ORIGINAL, null);
+                    em.persist(tweet);
+                    tweets.add(tweet);
+                    flushEvery(em, count++);
+                }
+            }
+            for (User user : users) {
+                User author = em.getReference(User.class, user.getId());
+                for (int i = 0; i < RETWEETS_PER_USER; i++) {
+                    Tweet original = em.getReference(Tweet.class, tweets.get(random.nextInt(tweets.size())).getId());
+                    em.persist(i % 2 == 0
+                            ? Tweet.createRetweet(author, original, null, RetweetType.PURE_RETWEET)
+                            : Tweet.createRetweet(author, original, "jmh quote " + i, RetweetType.QUOTE_RETWEET));
+                    flushEvery(em, count++);
+                }
+            }
+        });
+
+        inTransaction(em -> {
+            int count = 0;
+            for (User user : users) {
+                User liker = em.getReference(User.class, user.getId());
+                for (int index : distinct(random, LIKES_PER_USER, tweets.size(), -1)) {
+                    em.persist(new Like(liker, em.getReference(Tweet.class, tweets.get(index).getId())));
+                    flushEvery(em, count++);
+                }
+                for (int index : distinct(random, BOOKMARKS_PER_USER, tweets.size(), -1)) {
+                    em.persist(new Bookmark(liker, em.getReference(Tweet.class, tweets.get(index).getId())));
+                    flushEvery(em, count++);
+                }
+            }
+        });
+    }
+
+    // [0, bound) 범위에서 excluded를 뺀 서로 다른 정수 count개
+    private static Set<Integer> distinct(Random random, int count, int bound, int excluded) {
+        Set<Integer> picked = new HashSet<>();
+        while (picked.size() < count) {
+            int index = random.nextInt(bound);
+            if (index != excluded) {
+                picked.add(index);
+            }
+        }
+        return picked;
+    }
+
+    private void inTransaction(Consumer<EntityManager> work) {
+        EntityManager em = bean(EntityManagerFactory.class).createEntityManager();
+        try {
+            em.getTransaction().begin();
+            work.accept(em);
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+    }
+
+    private static void flushEvery(EntityManager em, int count) {
+        if ((count + 1) % FLUSH_EVERY == 0) {
+            em.flush();
+            em.clear();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.langjoo.prac.jmh;
+
+import com.langjoo.prac.domain.Like;
+import com.langjoo.prac.domain.RetweetType;
+import com.langjoo.prac.domain.Tweet;
+import com.langjoo.prac.domain.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+// 📌 대량 트윗/좋아요 INSERT 처리량 (초당 행 수)
+// - batchSize=1 : IDENTITY 시절과 같은 "INSERT 1건당 1 round trip"
+// - batchSize=50: hibernate.jdbc.batch_size와 같은 크기 + ID 사전 할당
+// - insertTweets: 한 트랜잭션에서 트윗 ROWS건 작성
+// - insertLikes : 새 유저 한 명이 트윗 ROWS건에 좋아요 (유저 생성은 측정에서 제외)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InsertThroughputBenchmark {
+
+    private static final int ROWS = 500;
+    private static final int FLUSH_EVERY = 50; // 영속성 컨텍스트가 커지지 않도록 주기적으로 flush + clear
+
+    @Param({"1", "50"})
+    public int batchSize;
+
+    private EntityManagerFactory entityManagerFactory;
+    private Long authorId;
+    private final List<Long> likedTweetIds = new ArrayList<>(ROWS);
+    private int likerSequence;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkDataset dataset) {
+        entityManagerFactory = dataset.bean(EntityManagerFactory.class);
+        authorId = dataset.reader().getId();
+
+        // 좋아요 대상 트윗 (매 호출마다 새 유저가 같은 트윗들에 좋아요)
+        List<Tweet> tweets = new ArrayList<>(ROWS);
+        inTransaction(FLUSH_EVERY, em -> persistTweets(em, tweets));
+        tweets.forEach(tweet -> likedTweetIds.add(tweet.getId()));
+    }
+
+    // 📌 좋아요를 누를 새 유저 (user_id, tweet_id 유니크 제약 때문에 호출마다 새로 생성)
+    @State(Scope.Thread)
+    public static class Liker {
+
+        private Long userId;
+
+        @Setup(Level.Invocation)
+        public void create(InsertThroughputBenchmark benchmark) {
+            String name = "jmhliker" + benchmark.likerSequence++;
+            User user = new User(name, name, name, "password");
+            benchmark.inTransaction(1, em -> em.persist(user));
+            userId = user.getId();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void insertTweets() {
+        inTransaction(batchSize, em -> persistTweets(em, new ArrayList<>(ROWS)));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void insertLikes(Liker liker) {
+        inTransaction(batchSize, em -> {
+            User user = em.getReference(User.class, liker.userId);
+            for (int i = 0; i < likedTweetIds.size(); i++) {
+                em.persist(new Like(user, em.getReference(Tweet.class, likedTweetIds.get(i))));
+                flushEvery(em, i);
+            }
+        });
+    }
+
+    private void persistTweets(EntityManager em, List<Tweet> tweets) {
+        User author = em.getReference(User.class, authorId);
+        for (int i = 0; i < ROWS; i++) {
+            Tweet tweet = new Tweet(author, "jmh bulk tweet " + i, null, RetweetType.ORIGINAL, null);
+            em.persist(tweet);
+            tweets.add(tweet);
+            flushEvery(em, i);
+        }
+    }
+
+    private void inTransaction(int jdbcBatchSize, Consumer<EntityManager> work) {
+        EntityManager em = entityManagerFactory.createEntityManager();
+        try {
+            em.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+            em.getTransaction().begin();
+            work.accept(em);
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+    }
+
+    private static void flushEvery(EntityManager em, int index) {
+        if ((index + 1) % FLUSH_EVERY == 0) {
+            em.flush();
+            em.clear();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.langjoo.prac.jmh;
+
+import com.langjoo.prac.domain.Tweet;
+import com.langjoo.prac.follow.graph.FollowGraph;
+import com.langjoo.prac.tweet.dto.TweetCursor;
+import com.langjoo.prac.tweet.dto.TweetResponse;
+import com.langjoo.prac.tweet.repository.TweetRepository;
+import com.langjoo.prac.tweet.service.TweetService;
+import com.langjoo.prac.tweet.service.ViewerStateHydrator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// 📌 홈 피드 한 페이지 조회 경로
+// - tweetResponseFrom : 엔티티 → DTO 변환 (TweetResponse.from, DB 조회 없음)
+// - viewerStateHydrate: 좋아요/리트윗/북마크 여부 플래그 (UNION ALL 1회 조회)
+// - homeFeedFirstPage : getTimelineFeed 전체 (타임라인 저장소 + 트윗 조회 + 플래그 + 미반영 카운트)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TimelineBenchmark {
+
+    private TweetService tweetService;
+    private ViewerStateHydrator viewerStateHydrator;
+    private Long readerId;
+    private List<Tweet> page;
+    private List<TweetResponse> responses;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkDataset dataset) {
+        tweetService = dataset.bean(TweetService.class);
+        viewerStateHydrator = dataset.bean(ViewerStateHydrator.class);
+        readerId = dataset.reader().getId();
+
+        // 피드와 같은 조회로 연관 엔티티까지 적재된 한 페이지
+        List<Long> authorIds = dataset.bean(FollowGraph.class).followingIds(readerId).toList();
+        page = dataset.bean(TweetRepository.class)
+                .findFeedByUserIdIn(authorIds, TweetCursor.FIRST.getTweetId(), PageRequest.of(0, BenchmarkDataset.PAGE_SIZE));
+        responses = page.stream().map(TweetResponse::from).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<TweetResponse> tweetResponseFrom() {
+        return page.stream().map(TweetResponse::from).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<TweetResponse> viewerStateHydrate() {
+        List<TweetResponse> copies = responses.stream()
+                .map(response -> response.toBuilder().build())
+                .collect(Collectors.toList());
+        viewerStateHydrator.hydrate(readerId, copies);
+        return copies;
+    }
+
+    @Benchmark
+    public Object homeFeedFirstPage() {
+        return tweetService.getTimelineFeed(readerId, null, BenchmarkDataset.PAGE_SIZE);
+    }
+}
@@ -0,0 +1,133 @@
+package com.langjoo.prac.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+// 📌 동시 접속 수별 처리량/p99 비교: 플랫폼 스레드 서버 vs 가상 스레드 서버
+// 클라이언트 N개가 각자 "응답을 받으면 바로 다음 요청"을 반복 (closed loop, 비동기 HttpClient라 스레드 N개가 필요 없음)
+// 실행 예: 같은 데이터로 서버 두 개를 띄운 뒤
+//   ./gradlew loadTestServer                                                                 (JDK 17/21, 플랫폼 스레드)
+//   ./gradlew loadTestServer -PjavaVersion=21 -Ploadtest.server.args="--server.port=8081 --spring.threads.virtual.enabled=true"
+//   ./gradlew concurrencyBenchmark -Ploadtest.args="--targets=platform=http://localhost:8080,virtual=http://localhost:8081"
+// 옵션: --concurrency=1000,5000 --duration-s=20 --warmup-s=5 --path=/api/users/load1 --login-id=load0
+public class ConcurrencyBenchmark {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Map<String, String> targets;
+    private final List<Integer> concurrencyLevels = new ArrayList<>();
+    private final int warmupSeconds;
+    private final int durationSeconds;
+    private final String path;
+    private final String loginId;
+    private final String password;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private ConcurrencyBenchmark(Map<String, String> options) {
+        this.targets = new LinkedHashMap<>();
+        for (String target : options.getOrDefault("targets", "current=http://localhost:8080").split(",")) {
+            targets.put(target.substring(0, target.indexOf('=')), target.substring(target.indexOf('=') + 1));
+        }
+        for (String level : options.getOrDefault("concurrency", "1000,5000").split(",")) {
+            concurrencyLevels.add(Integer.parseInt(level.trim()));
+        }
+        this.warmupSeconds = Integer.parseInt(options.getOrDefault("warmup-s", "5"));
+        this.durationSeconds = Integer.parseInt(options.getOrDefault("duration-s", "20"));
+        this.path = options.getOrDefault("path", "/api/users/" + LoadTestDataSeeder.USERNAME_PREFIX + 1);
+        this.loginId = options.getOrDefault("login-id", LoadTestDataSeeder.USERNAME_PREFIX + 0);
+        this.password = options.getOrDefault("password", "password123");
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("옵션은 --key=value 형식이어야 합니다: " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        new ConcurrencyBenchmark(options).run();
+    }
+
+    private void run() throws Exception {
+        Map<String, LatencySamples> results = new LinkedHashMap<>();
+        for (Map.Entry<String, String> target : targets.entrySet()) {
+            String token = login(target.getValue());
+            for (int concurrency : concurrencyLevels) {
+                System.out.printf("%s: 동시 클라이언트 %d, 워밍업 %ds, 측정 %ds%n",
+                        target.getKey(), concurrency, warmupSeconds, durationSeconds);
+                results.put(target.getKey() + " @ " + concurrency, measure(target.getValue(), token, concurrency));
+            }
+        }
+
+        LatencySamples.printHeader("GET " + path);
+        results.forEach((label, samples) -> samples.printRow(label, durationSeconds));
+    }
+
+    // 클라이언트마다 요청 → 응답 → 다음 요청을 측정 종료 시각까지 반복
+    private LatencySamples measure(String baseUrl, String token, int concurrency) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+        long measureFrom = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long measureUntil = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        List<LatencySamples> perClient = new ArrayList<>();
+        CountDownLatch finished = new CountDownLatch(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            LatencySamples samples = new LatencySamples();
+            perClient.add(samples);
+            loop(request, samples, measureFrom, measureUntil, finished);
+        }
+        finished.await();
+
+        LatencySamples merged = new LatencySamples();
+        perClient.forEach(merged::addAll);
+        return merged;
+    }
+
+    private void loop(HttpRequest request, LatencySamples samples, long measureFrom, long measureUntil, CountDownLatch finished) {
+        long started = System.nanoTime();
+        if (started >= measureUntil) {
+            finished.countDown();
+            return;
+        }
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenCompleteAsync((response, error) -> { // 즉시 실패해도 스택이 쌓이지 않도록 다른 스레드에서 이어감
+                    if (started >= measureFrom) {
+                        samples.add(System.nanoTime() - started, error == null && response.statusCode() / 100 == 2);
+                    }
+                    loop(request, samples, measureFrom, measureUntil, finished);
+                });
+    }
+
+    private String login(String baseUrl) throws Exception {
+        String body = MAPPER.writeValueAsString(Map.of("loginId", loginId, "password", password));
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/users/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(baseUrl + " 로그인 실패 (" + response.statusCode() + "): " + response.body());
+        }
+        return MAPPER.readTree(response.body()).get("accessToken").asText();
+    }
+}
@@ -0,0 +1,52 @@
+package com.langjoo.prac.loadtest;
+
+import java.util.Arrays;
+
+// 📌 지연 시간(ns) 모음: 스레드(또는 클라이언트)마다 하나씩 모으고 측정이 끝난 뒤 합쳐서 백분위 계산
+// 스레드 안전하지 않으므로 한 스레드에서만 add 합니다.
+class LatencySamples {
+
+    private long[] latencies = new long[1024];
+    private int size;
+    private long errors;
+
+    void add(long latencyNanos, boolean ok) {
+        if (size == latencies.length) {
+            latencies = Arrays.copyOf(latencies, size * 2);
+        }
+        latencies[size++] = latencyNanos;
+        if (!ok) {
+            errors++;
+        }
+    }
+
+    void addAll(LatencySamples other) {
+        for (int i = 0; i < other.size; i++) {
+            add(other.latencies[i], true);
+        }
+        errors += other.errors;
+    }
+
+    // 표 머리글 / 한 줄 (label, 요청 수, 오류 수, 초당 요청, p50, p99, max)
+    static void printHeader(String label) {
+        System.out.printf("%n%-34s %9s %7s %10s %9s %9s %9s%n",
+                label, "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms");
+    }
+
+    void printRow(String label, int durationSeconds) {
+        long[] sorted = Arrays.copyOf(latencies, size);
+        Arrays.sort(sorted);
+        System.out.printf("%-34s %9d %7d %10.1f %9.2f %9.2f %9.2f%n",
+                label, size, errors, size / (double) durationSeconds,
+                percentile(sorted, 0.50), percentile(sorted, 0.99),
+                size == 0 ? 0 : sorted[size - 1] / 1_000_000.0);
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,268 @@
+package com.langjoo.prac.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 📌 부하 발생기: LoadTestDataSeeder로 적재한 서버에 요청을 보내고 엔드포인트별 p50/p99 지연과 처리량을 출력
+// 실행: ./gradlew loadTestServer 로 서버를 띄운 뒤 ./gradlew loadTest -Ploadtest.args="--threads=32 --duration-s=60"
+//
+// 요청 구성 (가중치는 --mix=home:50,like:20,search:15,profile:15)
+// - home   : GET /api/home, nextCursor를 따라 1 ~ scroll-depth 페이지까지 내려감 (깊은 스크롤)
+// - like   : PUT/DELETE /api/tweets/{id}/like, 대상은 소수의 바이럴 트윗 (같은 행/카운터에 몰리는 부하)
+// - search : GET /api/search/all?keyword=topicN (트윗 내용의 #topicN)
+// - profile: GET /api/users/{username}, 대상 유저는 Zipf 분포 (셀럽 프로필에 조회가 몰림)
+// 로그인은 sessions명만 미리 해 두고 (BCrypt 비용은 측정에서 제외) 워커가 무작위로 골라 사용합니다.
+public class LoadDriver {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final String HOME = "GET /api/home";
+    private static final String LIKE = "PUT|DELETE /api/tweets/{id}/like";
+    private static final String SEARCH = "GET /api/search/all";
+    private static final String PROFILE = "GET /api/users/{username}";
+
+    private final String baseUrl;
+    private final int seededUsers;
+    private final int sessions;
+    private final int threads;
+    private final int warmupSeconds;
+    private final int durationSeconds;
+    private final int scrollDepth;
+    private final int viralTweets;
+    private final double zipfExponent;
+    private final String password;
+    private final Map<String, Integer> mix;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private LoadDriver(Map<String, String> options) {
+        this.baseUrl = options.getOrDefault("base-url", "http://localhost:8080");
+        this.seededUsers = Integer.parseInt(options.getOrDefault("seeded-users", "10000"));
+        this.sessions = Integer.parseInt(options.getOrDefault("sessions", "50"));
+        this.threads = Integer.parseInt(options.getOrDefault("threads", "16"));
+        this.warmupSeconds = Integer.parseInt(options.getOrDefault("warmup-s", "5"));
+        this.durationSeconds = Integer.parseInt(options.getOrDefault("duration-s", "30"));
+        this.scrollDepth = Integer.parseInt(options.getOrDefault("scroll-depth", "5"));
+        this.viralTweets = Integer.parseInt(options.getOrDefault("viral-tweets", "10"));
+        this.zipfExponent = Double.parseDouble(options.getOrDefault("zipf-exponent", "1.0"));
+        this.password = options.getOrDefault("password", "password123");
+        this.mix = parseMix(options.getOrDefault("mix", "home:50,like:20,search:15,profile:15"));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("옵션은 --key=value 형식이어야 합니다: " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        new LoadDriver(options).run();
+    }
+
+    // -------------------------------------------------------------
+    // 1. 준비 → 워밍업 → 측정 → 결과 출력
+    // -------------------------------------------------------------
+    private void run() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<String> tokens = login(executor);
+            List<Long> viral = findViralTweets(tokens.get(0));
+            System.out.printf("세션 %d개, 바이럴 트윗 %d개, 스레드 %d, 워밍업 %ds, 측정 %ds%n",
+                    tokens.size(), viral.size(), threads, warmupSeconds, durationSeconds);
+
+            long measureFrom = System.nanoTime() + warmupSeconds * 1_000_000_000L;
+            long measureUntil = measureFrom + durationSeconds * 1_000_000_000L;
+
+            List<Future<Map<String, LatencySamples>>> workers = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                workers.add(executor.submit(() -> work(tokens, viral, measureFrom, measureUntil)));
+            }
+            Map<String, LatencySamples> merged = new LinkedHashMap<>();
+            for (String endpoint : List.of(HOME, LIKE, SEARCH, PROFILE)) {
+                merged.put(endpoint, new LatencySamples());
+            }
+            for (Future<Map<String, LatencySamples>> worker : workers) {
+                worker.get().forEach((endpoint, samples) -> merged.get(endpoint).addAll(samples));
+            }
+            report(merged);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Map<String, LatencySamples> work(List<String> tokens, List<Long> viral, long measureFrom, long measureUntil) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        ZipfSampler popularity = new ZipfSampler(seededUsers, zipfExponent);
+        int totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        Map<String, LatencySamples> samples = new HashMap<>();
+
+        while (System.nanoTime() < measureUntil) {
+            String token = tokens.get(random.nextInt(tokens.size()));
+            Recorder recorder = (endpoint, started, ok) -> {
+                if (started >= measureFrom) {
+                    samples.computeIfAbsent(endpoint, e -> new LatencySamples()).add(System.nanoTime() - started, ok);
+                }
+            };
+
+            int pick = random.nextInt(totalWeight);
+            String op = null;
+            for (Map.Entry<String, Integer> entry : mix.entrySet()) {
+                pick -= entry.getValue();
+                if (pick < 0) {
+                    op = entry.getKey();
+                    break;
+                }
+            }
+            switch (op) {
+                case "home" -> scrollHome(token, 1 + random.nextInt(scrollDepth), recorder);
+                case "like" -> {
+                    long tweetId = viral.get(random.nextInt(viral.size()));
+                    timed(LIKE, random.nextBoolean() ? "PUT" : "DELETE", "/api/tweets/" + tweetId + "/like", token, recorder);
+                }
+                case "search" -> timed(SEARCH, "GET",
+                        "/api/search/all?keyword=topic" + random.nextInt(LoadTestDataSeeder.TOPICS), token, recorder);
+                case "profile" -> timed(PROFILE, "GET", "/api/users/"
+                        + LoadTestDataSeeder.USERNAME_PREFIX + popularity.sample(random), token, recorder);
+                default -> throw new IllegalArgumentException("알 수 없는 요청 종류: " + op);
+            }
+        }
+        return samples;
+    }
+
+    // nextCursor를 따라 pages 페이지까지 (각 페이지를 한 건으로 기록)
+    private void scrollHome(String token, int pages, Recorder recorder) {
+        String cursor = null;
+        for (int page = 0; page < pages; page++) {
+            String path = "/api/home" + (cursor == null ? "" : "?cursor=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8));
+            JsonNode body = timed(HOME, "GET", path, token, recorder);
+            if (body == null || !body.hasNonNull("nextCursor")) {
+                return;
+            }
+            cursor = body.get("nextCursor").asText();
+        }
+    }
+
+    // -------------------------------------------------------------
+    // 2. 준비 단계
+    // -------------------------------------------------------------
+
+    // 로그인 대상은 load0 ~ load{seeded-users - 1} 중 무작위 (고정 시드)
+    private List<String> login(ExecutorService executor) throws Exception {
+        Random random = new Random(42);
+        List<Future<String>> logins = new ArrayList<>();
+        for (int i = 0; i < sessions; i++) {
+            String loginId = LoadTestDataSeeder.USERNAME_PREFIX + random.nextInt(seededUsers);
+            logins.add(executor.submit(() -> {
+                String body = MAPPER.writeValueAsString(Map.of("loginId", loginId, "password", password));
+                HttpResponse<String> response = client.send(request("POST", "/api/users/login", null)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(), HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() != 200) {
+                    throw new IllegalStateException(loginId + " 로그인 실패 (" + response.statusCode() + "): " + response.body());
+                }
+                return MAPPER.readTree(response.body()).get("accessToken").asText();
+            }));
+        }
+        List<String> tokens = new ArrayList<>();
+        for (Future<String> login : logins) {
+            tokens.add(login.get());
+        }
+        return tokens;
+    }
+
+    // 바이럴 트윗: 가장 인기 있는 유저(load0, load1, ...)의 가장 오래된 원본 트윗
+    // (데이터 생성기가 앞쪽 트윗일수록 Zipf로 리트윗/좋아요를 몰아주므로 분포의 머리 부분에 해당)
+    private List<Long> findViralTweets(String token) throws Exception {
+        List<Long> viral = new ArrayList<>();
+        for (int user = 0; user < Math.min(viralTweets, seededUsers); user++) {
+            HttpResponse<String> response = client.send(
+                    request("GET", "/api/users/" + LoadTestDataSeeder.USERNAME_PREFIX + user, token).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            long oldest = Long.MAX_VALUE;
+            for (JsonNode tweet : MAPPER.readTree(response.body()).path("recentTweets")) {
+                if ("ORIGINAL".equals(tweet.path("type").asText())) {
+                    oldest = Math.min(oldest, tweet.get("tweetId").asLong());
+                }
+            }
+            if (oldest != Long.MAX_VALUE) {
+                viral.add(oldest);
+            }
+        }
+        if (viral.isEmpty()) {
+            throw new IllegalStateException("바이럴 트윗을 찾지 못했습니다. 서버를 ./gradlew loadTestServer 로 띄웠는지 확인하세요.");
+        }
+        return viral;
+    }
+
+    // -------------------------------------------------------------
+    // 3. 요청 / 기록
+    // -------------------------------------------------------------
+    private JsonNode timed(String endpoint, String method, String path, String token, Recorder recorder) {
+        long started = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(request(method, path, token)
+                    .method(method, HttpRequest.BodyPublishers.noBody())
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            boolean ok = response.statusCode() / 100 == 2;
+            recorder.record(endpoint, started, ok);
+            return ok && !response.body().isEmpty() ? MAPPER.readTree(response.body()) : null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (Exception e) {
+            recorder.record(endpoint, started, false);
+            return null;
+        }
+    }
+
+    private HttpRequest.Builder request(String method, String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private void report(Map<String, LatencySamples> results) {
+        LatencySamples.printHeader("endpoint");
+        results.forEach((endpoint, samples) -> samples.printRow(endpoint, durationSeconds));
+    }
+
+    private static Map<String, Integer> parseMix(String value) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String part : value.split(",")) {
+            String[] pair = part.split(":");
+            weights.put(pair[0].trim(), Integer.parseInt(pair[1].trim()));
+        }
+        return weights;
+    }
+
+    @FunctionalInterface
+    private interface Recorder {
+        void record(String endpoint, long startedNanos, boolean ok);
+    }
+}
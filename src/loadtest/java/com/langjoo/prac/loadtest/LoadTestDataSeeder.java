@@ -0,0 +1,231 @@
+package com.langjoo.prac.loadtest;
+
+import com.langjoo.prac.domain.Follow;
+import com.langjoo.prac.domain.Like;
+import com.langjoo.prac.domain.RetweetType;
+import com.langjoo.prac.domain.Tweet;
+import com.langjoo.prac.domain.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+// 📌 부하 테스트용 데이터 생성기 (loadtest 소스셋, ./gradlew loadTestServer 로 띄운 서버에서 기동 직후 한 번 실행)
+// 운영과 비슷한 모양의 데이터를 H2/MySQL에 대량으로 적재합니다.
+// - 유저: load0 ~ load{N-1}, 비밀번호는 모두 loadtest.seed.password (BCrypt는 한 번만 계산)
+// - 팔로우: 유저마다 follows-per-user명을 Zipf 분포로 선택 → 순위가 높은(번호가 작은) 유저에게 팔로워가 몰림
+// - 트윗: 유저마다 tweets-per-user개 (내용에 #topic0 ~ #topic99 포함, 검색 부하용)
+//         + 전체의 retweet-ratio만큼 순수 리트윗 (원본은 Zipf로 선택 → 소수의 바이럴 트윗)
+// - 좋아요: 유저마다 likes-per-user개 (Zipf로 선택 → 바이럴 트윗에 집중)
+// - 집계 컬럼(팔로워/팔로잉/트윗/좋아요/리트윗 수)은 마지막에 UPDATE 한 번씩으로 맞춤
+// 📌 적재 경로: JDBC batch(hibernate.jdbc.batch_size), chunk-size 행마다 커밋
+//    ID는 엔티티와 같은 생성기 (유저/팔로우/좋아요: pooled 시퀀스, 트윗: Snowflake ID)
+// 같은 random-seed면 같은 데이터가 만들어집니다. (빈 DB 기준)
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "loadtest.seed.enabled", havingValue = "true")
+public class LoadTestDataSeeder implements ApplicationRunner {
+
+    public static final String USERNAME_PREFIX = "load";
+    public static final int TOPICS = 100;
+
+    private static final int FLUSH_EVERY = 50; // hibernate.jdbc.batch_size와 동일
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+
+    private final int users;
+    private final int followsPerUser;
+    private final int tweetsPerUser;
+    private final double retweetRatio;
+    private final int likesPerUser;
+    private final double zipfExponent;
+    private final String password;
+    private final long randomSeed;
+    private final int chunkSize;
+
+    public LoadTestDataSeeder(PlatformTransactionManager transactionManager,
+                              PasswordEncoder passwordEncoder,
+                              @Value("${loadtest.seed.users:10000}") int users,
+                              @Value("${loadtest.seed.follows-per-user:30}") int followsPerUser,
+                              @Value("${loadtest.seed.tweets-per-user:10}") int tweetsPerUser,
+                              @Value("${loadtest.seed.retweet-ratio:0.1}") double retweetRatio,
+                              @Value("${loadtest.seed.likes-per-user:20}") int likesPerUser,
+                              @Value("${loadtest.seed.zipf-exponent:1.0}") double zipfExponent,
+                              @Value("${loadtest.seed.password:password123}") String password,
+                              @Value("${loadtest.seed.random-seed:42}") long randomSeed,
+                              @Value("${loadtest.seed.chunk-size:10000}") int chunkSize) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.passwordEncoder = passwordEncoder;
+        this.users = users;
+        this.followsPerUser = Math.min(followsPerUser, users - 1);
+        this.tweetsPerUser = tweetsPerUser;
+        this.retweetRatio = retweetRatio;
+        this.likesPerUser = likesPerUser;
+        this.zipfExponent = zipfExponent;
+        this.password = password;
+        this.randomSeed = randomSeed;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long started = System.nanoTime();
+        Random random = new Random(randomSeed);
+
+        long[] userIds = seedUsers();
+        seedFollows(random, userIds);
+        long[] tweetIds = seedTweets(random, userIds);
+        seedLikes(random, userIds, tweetIds);
+        updateCounters();
+
+        log.info("부하 테스트 데이터 적재 완료: 유저 {}, 트윗 {} ({} ms)",
+                userIds.length, tweetIds.length, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    // -------------------------------------------------------------
+    // 1. 유저
+    // -------------------------------------------------------------
+    private long[] seedUsers() {
+        String encodedPassword = passwordEncoder.encode(password);
+        long[] userIds = new long[users];
+        inChunks("users", users, i -> {
+            User user = new User(USERNAME_PREFIX + i, USERNAME_PREFIX + i, "load user " + i, encodedPassword);
+            entityManager.persist(user);
+            userIds[i] = user.getId();
+        });
+        return userIds;
+    }
+
+    // -------------------------------------------------------------
+    // 2. 팔로우 (Zipf: 번호가 작은 유저일수록 팔로워가 많음)
+    // -------------------------------------------------------------
+    private void seedFollows(Random random, long[] userIds) {
+        ZipfSampler popularity = new ZipfSampler(userIds.length, zipfExponent);
+        int[] following = new int[userIds.length * followsPerUser];
+        for (int follower = 0; follower < userIds.length; follower++) {
+            int[] picked = distinct(random, popularity, followsPerUser, follower);
+            System.arraycopy(picked, 0, following, follower * followsPerUser, followsPerUser);
+        }
+        inChunks("follows", following.length, i -> entityManager.persist(new Follow(
+                entityManager.getReference(User.class, userIds[i / followsPerUser]),
+                entityManager.getReference(User.class, userIds[following[i]]))));
+    }
+
+    // -------------------------------------------------------------
+    // 3. 트윗 + 순수 리트윗 (리트윗 원본은 Zipf: 앞쪽 트윗일수록 바이럴)
+    // -------------------------------------------------------------
+    private long[] seedTweets(Random random, long[] userIds) {
+        int originals = userIds.length * tweetsPerUser;
+        int retweets = (int) (originals * retweetRatio);
+        long[] tweetIds = new long[originals];
+
+        inChunks("tweets", originals, i -> {
+            int author = i % userIds.length; // 작성 순서를 유저 간에 섞어서 타임라인이 시간순으로 섞이도록
+            Tweet tweet = new Tweet(entityManager.getReference(User.class, userIds[author]),
+                    "load tweet " + i + " from " + USERNAME_PREFIX + author + " #topic" + random.nextInt(TOPICS),
+                    null, RetweetType.ORIGINAL, null);
+            entityManager.persist(tweet);
+            tweetIds[i] = tweet.getId();
+        });
+
+        ZipfSampler virality = new ZipfSampler(originals, zipfExponent);
+        Set<Long> retweeted = new HashSet<>(); // (유저, 원본) 쌍당 순수 리트윗은 하나
+        inChunks("retweets", retweets, i -> {
+            int retweeter;
+            int original;
+            do {
+                retweeter = random.nextInt(userIds.length);
+                original = virality.sample(random);
+            } while (!retweeted.add((long) retweeter * originals + original));
+            entityManager.persist(Tweet.createRetweet(
+                    entityManager.getReference(User.class, userIds[retweeter]),
+                    entityManager.getReference(Tweet.class, tweetIds[original]),
+                    null, RetweetType.PURE_RETWEET));
+        });
+        return tweetIds;
+    }
+
+    // -------------------------------------------------------------
+    // 4. 좋아요 (Zipf: 바이럴 트윗에 집중)
+    // -------------------------------------------------------------
+    private void seedLikes(Random random, long[] userIds, long[] tweetIds) {
+        ZipfSampler virality = new ZipfSampler(tweetIds.length, zipfExponent);
+        int perUser = Math.min(likesPerUser, tweetIds.length);
+        int[] liked = new int[userIds.length * perUser];
+        for (int user = 0; user < userIds.length; user++) {
+            System.arraycopy(distinct(random, virality, perUser, -1), 0, liked, user * perUser, perUser);
+        }
+        inChunks("likes", liked.length, i -> entityManager.persist(new Like(
+                entityManager.getReference(User.class, userIds[i / perUser]),
+                entityManager.getReference(Tweet.class, tweetIds[liked[i]]))));
+    }
+
+    // -------------------------------------------------------------
+    // 5. 집계 컬럼 (행 단위 증감 대신 테이블당 UPDATE 한 번)
+    // -------------------------------------------------------------
+    private void updateCounters() {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createNativeQuery("UPDATE users u SET" +
+                    " follower_count = (SELECT COUNT(*) FROM follow f WHERE f.following_id = u.user_id)," +
+                    " following_count = (SELECT COUNT(*) FROM follow f WHERE f.follower_id = u.user_id)," +
+                    " tweet_count = (SELECT COUNT(*) FROM tweets t WHERE t.user_id = u.user_id)").executeUpdate();
+            entityManager.createNativeQuery("UPDATE tweets t SET" +
+                    " like_count = (SELECT COUNT(*) FROM likes l WHERE l.tweet_id = t.tweet_id)," +
+                    " rt_count = (SELECT COUNT(*) FROM tweets r WHERE r.original_tweet_id = t.tweet_id)").executeUpdate();
+        });
+    }
+
+    // -------------------------------------------------------------
+    // 유틸리티
+    // -------------------------------------------------------------
+
+    // chunk-size 행마다 커밋, 그 안에서는 batch 크기마다 flush/clear (영속성 컨텍스트가 커지지 않도록)
+    private void inChunks(String name, int rows, IntConsumer insert) {
+        long started = System.nanoTime();
+        for (int from = 0; from < rows; from += chunkSize) {
+            int start = from;
+            int end = Math.min(rows, from + chunkSize);
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = start; i < end; i++) {
+                    insert.accept(i);
+                    if ((i - start + 1) % FLUSH_EVERY == 0) {
+                        entityManager.flush();
+                        entityManager.clear();
+                    }
+                }
+            });
+        }
+        long elapsedMillis = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+        log.info("부하 테스트 데이터 {}: {}행 ({} ms, {}행/s)", name, rows, elapsedMillis, rows * 1000L / elapsedMillis);
+    }
+
+    // Zipf 분포에서 excluded를 뺀 서로 다른 순위 count개
+    private static int[] distinct(Random random, ZipfSampler sampler, int count, int excluded) {
+        Set<Integer> picked = new HashSet<>();
+        int[] result = new int[count];
+        int size = 0;
+        while (size < count) {
+            int rank = sampler.sample(random);
+            if (rank != excluded && picked.add(rank)) {
+                result[size++] = rank;
+            }
+        }
+        return result;
+    }
+}
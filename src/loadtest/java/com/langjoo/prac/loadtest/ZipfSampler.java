@@ -0,0 +1,30 @@
+package com.langjoo.prac.loadtest;
+
+import java.util.Arrays;
+import java.util.Random;
+
+// 📌 Zipf 분포 샘플러: 순위 r(0부터)이 뽑힐 확률 ∝ 1 / (r + 1)^exponent
+// 누적 확률 배열을 한 번 만들고 이진 탐색으로 샘플링 (n개 double, 샘플당 O(log n))
+// 순위 0이 가장 인기 있는 유저/트윗 → 소수의 셀럽/바이럴 트윗에 팔로우와 좋아요가 몰리는 분포
+public class ZipfSampler {
+
+    private final double[] cumulative;
+
+    public ZipfSampler(int n, double exponent) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("n은 1 이상이어야 합니다: " + n);
+        }
+        cumulative = new double[n];
+        double sum = 0;
+        for (int rank = 0; rank < n; rank++) {
+            sum += 1.0 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = sum;
+        }
+    }
+
+    public int sample(Random random) {
+        double target = random.nextDouble() * cumulative[cumulative.length - 1];
+        int index = Arrays.binarySearch(cumulative, target);
+        return index >= 0 ? index : Math.min(-index - 1, cumulative.length - 1);
+    }
+}
@@ -3,8 +3,10 @@ package com.langjoo.prac;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableJpaAuditing // JPA Auditing 활성화
+@EnableScheduling // 카운터 주기 반영 (EngagementCounterService)
 @SpringBootApplication
 public class PracApplication {
 
@@ -11,31 +11,43 @@ import java.util.Collections;
 @Getter
 public class UserDetailsImpl implements UserDetails {
 
-    // 📌 [수정] 엔티티 자체를 필드로 가집니다.
+    // 📌 JWT 클레임에서 바로 얻을 수 있는 값 (요청마다 DB를 조회하지 않음)
+    private final Long userId;
+    private final String loginId;
+
+    // 📌 엔티티가 필요한 경우에만 채워짐 (UserDetailsServiceImpl.loadUserById), 토큰 인증 시에는 null
     private final User user;
 
     // User 엔티티를 받아 필드에 할당합니다.
     public UserDetailsImpl(User user) {
+        this.userId = user.getId();
+        this.loginId = user.getLoginId();
         this.user = user;
     }
 
+    private UserDetailsImpl(Long userId, String loginId) {
+        this.userId = userId;
+        this.loginId = loginId;
+        this.user = null;
+    }
+
+    // 📌 검증된 토큰의 클레임만으로 만드는 인증 주체 (stateless)
+    public static UserDetailsImpl fromClaims(Long userId, String loginId) {
+        return new UserDetailsImpl(userId, loginId);
+    }
+
     // --- UserDetails 인터페이스 구현 메서드 ---
 
     @Override
     public String getPassword() {
-        // 📌 엔티티에서 직접 가져옵니다.
-        return user.getPassword();
+        // 📌 토큰 인증 주체는 비밀번호를 갖지 않습니다.
+        return user != null ? user.getPassword() : null;
     }
 
     @Override
     public String getUsername() {
-        // 📌 엔티티에서 직접 가져옵니다. (loginId가 username 역할)
-        return user.getLoginId();
-    }
-
-    // 💡 편의를 위해 userId를 반환하는 메서드를 유지하거나 추가할 수 있습니다.
-    public Long getUserId() {
-        return user.getId();
+        // 📌 loginId가 username 역할
+        return loginId;
     }
 
     @Override
@@ -54,4 +66,4 @@ public class UserDetailsImpl implements UserDetails {
 
     @Override
     public boolean isEnabled() { return true; }
-}
\ No newline at end of file
+}
@@ -2,29 +2,121 @@ package com.langjoo.prac.auth.config;// UserDetailsServiceImpl.java (auth.config
 
 import com.langjoo.prac.domain.User;
 import com.langjoo.prac.user.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 📌 토큰 인증은 클레임만으로 처리하고(JwtAuthenticationFilter), 엔티티가 꼭 필요한 곳에서만 이 서비스를 사용합니다.
+// - 조회 결과는 짧은 TTL 동안 캐시 (auth.user-cache.ttl-ms, 0이면 캐시하지 않음)
+// - 회원 정보 수정 시 evict, 탈퇴 시 revoke (남아 있는 토큰으로 인증되지 않도록)
+// - revoke는 이 서버의 메모리에만 남으므로(재시작/다른 서버에서는 모름), 쓰기 요청은 existsActive()로 유저가 아직 있는지 DB에서 확인
 @Service
-@RequiredArgsConstructor
 public class UserDetailsServiceImpl implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final long ttlMillis;
+
+    // 탈퇴한 유저의 토큰이 만료될 때까지 거부 (refresh 토큰 만료 시간만큼 유지)
+    private final long revocationMillis;
+
+    // accessOrder = true → LRU, max-size명까지만 유지
+    private final Map<Long, CachedUser> cache;
+
+    // 유저 ID → 거부를 끝내는 시각 (epoch millis)
+    private final Map<Long, Long> revokedUntil = new ConcurrentHashMap<>();
+
+    public UserDetailsServiceImpl(UserRepository userRepository,
+                                  @Value("${auth.user-cache.ttl-ms:60000}") long ttlMillis,
+                                  @Value("${auth.user-cache.max-size:10000}") int maxSize,
+                                  @Value("${jwt.refresh-expiration}") long revocationMillis) {
+        this.userRepository = userRepository;
+        this.ttlMillis = ttlMillis;
+        this.revocationMillis = revocationMillis;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedUser> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
 
     // Spring Security가 인증 과정에서 사용자 ID(String)를 받아 이 메서드를 호출
     @Override
     public UserDetails loadUserByUsername(String userIdString) throws UsernameNotFoundException {
-        // 1. JWT에서 넘어온 String 타입의 ID를 Long 타입으로 변환
-        Long userId = Long.parseLong(userIdString);
+        // JWT에서 넘어온 String 타입의 ID를 Long 타입으로 변환
+        return loadUserById(Long.parseLong(userIdString));
+    }
+
+    // 📌 엔티티가 포함된 UserDetailsImpl (캐시에 있으면 DB 조회 없음)
+    public UserDetailsImpl loadUserById(Long userId) {
+        long now = System.currentTimeMillis();
+        synchronized (cache) {
+            CachedUser cached = cache.get(userId);
+            if (cached != null && cached.expiresAt > now) {
+                return cached.userDetails;
+            }
+        }
+
+        // UserRepository의 findById(Long id)를 사용하여 User 엔티티 조회
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + userId));
+        UserDetailsImpl userDetails = new UserDetailsImpl(user);
+
+        if (ttlMillis > 0) {
+            synchronized (cache) {
+                cache.put(userId, new CachedUser(userDetails, now + ttlMillis));
+            }
+        }
+        return userDetails;
+    }
+
+    // 📌 회원 정보가 바뀐 경우: 다음 조회 시 DB에서 다시 읽음
+    public void evict(Long userId) {
+        synchronized (cache) {
+            cache.remove(userId);
+        }
+    }
+
+    // 📌 탈퇴한 경우: 캐시 제거 + 이미 발급된 토큰으로 인증되지 않도록 거부 목록에 추가
+    public void revoke(Long userId) {
+        evict(userId);
+        long now = System.currentTimeMillis();
+        revokedUntil.put(userId, now + revocationMillis);
+        revokedUntil.values().removeIf(until -> until <= now); // 만료된 항목 정리
+    }
+
+    public boolean isRevoked(Long userId) {
+        Long until = revokedUntil.get(userId);
+        return until != null && until > System.currentTimeMillis();
+    }
+
+    // 📌 쓰기 요청용: 거부 목록 + PK 존재 확인 (인덱스 조회 한 번)
+    // 다른 서버에서 탈퇴했거나 재시작으로 거부 목록이 사라진 경우에도 남은 토큰으로 쓰기가 진행되지 않음 (FK 오류 방지)
+    // 없으면 이 서버의 거부 목록에도 추가 → 이후 조회 요청도 DB 확인 없이 거부
+    public boolean existsActive(Long userId) {
+        if (isRevoked(userId)) {
+            return false;
+        }
+        if (userRepository.existsById(userId)) {
+            return true;
+        }
+        revoke(userId);
+        return false;
+    }
 
-        // 2. 📌 UserRepository의 findById(Long id)를 사용하여 User 엔티티 조회
-        User user = userRepository.findById(userId) // 👈 findByLoginId 대신 findById 사용
-                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + userIdString));
+    private static final class CachedUser {
+        private final UserDetailsImpl userDetails;
+        private final long expiresAt;
 
-        // 조회된 User 엔티티를 기반으로 UserDetailsImpl 객체를 생성하여 반환
-        return new UserDetailsImpl(user);
+        private CachedUser(UserDetailsImpl userDetails, long expiresAt) {
+            this.userDetails = userDetails;
+            this.expiresAt = expiresAt;
+        }
     }
-}
\ No newline at end of file
+}
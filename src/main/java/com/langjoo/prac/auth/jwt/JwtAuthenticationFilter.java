@@ -1,5 +1,8 @@
 package com.langjoo.prac.auth.jwt; // 패키지명은 프로젝트에 맞게 수정하세요.
 
+import com.langjoo.prac.auth.config.UserDetailsImpl;
+import com.langjoo.prac.auth.config.UserDetailsServiceImpl;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -7,8 +10,6 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
@@ -18,8 +19,8 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
-    // 💡 UserDetailsService: Spring Security에서 사용자 정보를 로드하는 인터페이스 (구현체가 필요합니다)
-    private final UserDetailsService userDetailsService;
+    // 💡 탈퇴한 유저의 토큰 거부 여부 확인용 (조회 요청은 DB 조회 없음, 쓰기 요청은 PK 존재 확인)
+    private final UserDetailsServiceImpl userDetailsService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -28,13 +29,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 1. 요청 헤더에서 JWT 토큰 추출 ("Bearer xxxxxx" 형태)
         String jwt = resolveToken(request);
 
-        // 2. 토큰 유효성 검사 및 인증 처리
-        if (jwt != null && tokenProvider.validateToken(jwt)) {
-            // 토큰이 유효한 경우
-            Long userId = tokenProvider.getUserIdFromToken(jwt);
+        // 2. 토큰 유효성 검사 및 클레임 추출 (📌 한 번만 파싱)
+        Claims claims = jwt != null ? tokenProvider.parseVerifiedClaims(jwt) : null;
+        Long userId = claims != null ? tokenProvider.getUserId(claims) : null;
 
-            // UserDetailsService를 통해 사용자 정보를 로드 (DB 조회)
-            UserDetails userDetails = userDetailsService.loadUserByUsername(userId.toString());
+        if (userId != null && isActive(userId, request)) {
+            // 📌 DB 조회 없이 검증된 클레임(userId, loginId)만으로 인증 주체 생성
+            UserDetailsImpl userDetails = UserDetailsImpl.fromClaims(userId, claims.getSubject());
 
             // 인증 객체 생성
             UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
@@ -48,6 +49,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    // 📌 조회(GET/HEAD/OPTIONS)는 메모리의 거부 목록만, 쓰기는 유저가 아직 DB에 있는지까지 확인
+    // (거부 목록은 서버마다 따로이고 재시작하면 사라지므로, 탈퇴한 유저의 남은 토큰으로 쓰기가 진행되지 않도록)
+    private boolean isActive(Long userId, HttpServletRequest request) {
+        String method = request.getMethod();
+        boolean readOnly = "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method);
+        return readOnly ? !userDetailsService.isRevoked(userId) : userDetailsService.existsActive(userId);
+    }
+
     // "Bearer " 접두사를 제거하고 실제 JWT 토큰만 추출하는 헬퍼 메서드
     private String resolveToken(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
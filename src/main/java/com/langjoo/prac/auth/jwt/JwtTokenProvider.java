@@ -4,14 +4,25 @@ import com.langjoo.prac.common.exception.AuthException;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Slf4j
 @Component
@@ -31,12 +42,44 @@ public class JwtTokenProvider {
 
     private Key key;
 
+    // 📌 검증용 파서: 불변이므로 한 번만 만들어 모든 요청에서 재사용
+    private JwtParser parser;
+
+    // -------------------------------------------------------------
+    // 📌 검증된 토큰 캐시: 토큰 SHA-256 digest → 클레임 (토큰 원문은 보관하지 않음)
+    // 같은 토큰으로 반복 호출 시 서명 검증/JSON 파싱 없이 해시 조회로 끝나며, exp가 지나면 캐시에 있어도 만료 처리
+    // 💡 한도에 도달하면 한 번에 한도의 90%까지 비움 → 전체 순회는 (한도 × 10%)번의 미스마다 한 번 (미스당 상수 비용)
+    // -------------------------------------------------------------
+    private static final double SWEEP_TARGET_RATIO = 0.9;
+
+    private final int verifiedCacheMaxSize;
+    private final int sweepTargetSize;
+    private final Map<ByteBuffer, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    // 📌 튜닝용 지표 (/actuator/metrics/auth.token.cache)
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+    private final Counter cacheSweeps;
+
+    public JwtTokenProvider(MeterRegistry meterRegistry,
+                            @Value("${jwt.verified-cache.max-size:10000}") int verifiedCacheMaxSize) {
+        this.verifiedCacheMaxSize = verifiedCacheMaxSize;
+        this.sweepTargetSize = (int) (verifiedCacheMaxSize * SWEEP_TARGET_RATIO);
+        this.cacheHits = meterRegistry.counter("auth.token.cache", "result", "hit");
+        this.cacheMisses = meterRegistry.counter("auth.token.cache", "result", "miss");
+        this.cacheSweeps = meterRegistry.counter("auth.token.cache.sweeps");
+        Gauge.builder("auth.token.cache.size", verifiedTokens, Map::size)
+                .register(meterRegistry);
+    }
+
     // 📌 2. Secret Key 초기화
     // 빈이 생성된 후, 주입받은 문자열 Secret Key를 암호화에 사용할 Key 객체로 변환합니다.
     @PostConstruct
     public void init() {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parser().verifyWith((SecretKey) key).build();
     }
 
     // -------------------------------------------------------------
@@ -69,9 +112,36 @@ public class JwtTokenProvider {
     // 6. 토큰 유효성 검증
     // -------------------------------------------------------------
     public boolean validateToken(String authToken) {
+        return parseVerifiedClaims(authToken) != null;
+    }
+
+    // 📌 서명/만료를 검증하면서 클레임까지 한 번에 추출 (검증 + 추출을 위해 두 번 파싱하지 않음)
+    // 유효하지 않은 토큰이면 null, 만료된 토큰이면 AuthException
+    public Claims parseVerifiedClaims(String authToken) {
+        if (authToken == null || authToken.isEmpty()) {
+            log.info("JWT 토큰이 잘못되었습니다.");
+            return null;
+        }
+
+        // 1. 이미 검증한 토큰이면 exp만 확인
+        ByteBuffer digest = digest(authToken);
+        VerifiedToken cached = verifiedTokens.get(digest);
+        if (cached != null) {
+            if (cached.expiresAt > System.currentTimeMillis()) {
+                cacheHits.increment();
+                return cached.claims;
+            }
+            verifiedTokens.remove(digest);
+            log.info("만료된 JWT 토큰입니다.");
+            throw new AuthException("만료된 토큰입니다.");
+        }
+
+        // 2. 처음 보는 토큰: 서명/만료 검증 후 캐시에 보관 (검증에 실패한 토큰은 보관하지 않음)
+        cacheMisses.increment();
         try {
-            Jwts.parser().verifyWith((SecretKey) key).build().parseSignedClaims(authToken);
-            return true;
+            Claims claims = parser.parseSignedClaims(authToken).getPayload();
+            cache(digest, claims);
+            return claims;
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("잘못된 JWT 서명입니다.");
         } catch (ExpiredJwtException e) {
@@ -82,7 +152,56 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.info("JWT 토큰이 잘못되었습니다.");
         }
-        return false;
+        return null;
+    }
+
+    private void cache(ByteBuffer digest, Claims claims) {
+        if (claims.getExpiration() == null) {
+            return; // 만료 시각이 없는 토큰은 보관하지 않음 (이 서버는 항상 exp를 넣어 발급)
+        }
+        if (verifiedTokens.size() >= verifiedCacheMaxSize) {
+            evictForSpace();
+        }
+        verifiedTokens.put(digest, new VerifiedToken(claims, claims.getExpiration().getTime()));
+    }
+
+    // 한도에 도달하면 만료된 토큰부터 정리하고, 그래도 목표 크기보다 크면 임의의 항목을 제거 (다음 요청 시 다시 검증될 뿐)
+    // 동시에 여러 미스가 한도에 걸려도 정리는 한 스레드만 수행 (나머지는 그대로 넣고 진행 → 잠시 한도를 조금 넘을 수 있음)
+    private void evictForSpace() {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            cacheSweeps.increment();
+            long now = System.currentTimeMillis();
+            verifiedTokens.values().removeIf(token -> token.expiresAt <= now);
+            Iterator<ByteBuffer> keys = verifiedTokens.keySet().iterator();
+            while (verifiedTokens.size() > sweepTargetSize && keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private static ByteBuffer digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static final class VerifiedToken {
+        private final Claims claims;
+        private final long expiresAt;
+
+        private VerifiedToken(Claims claims, long expiresAt) {
+            this.claims = claims;
+            this.expiresAt = expiresAt;
+        }
     }
 
     // -------------------------------------------------------------
@@ -90,7 +209,7 @@ public class JwtTokenProvider {
     // -------------------------------------------------------------
     public Claims getClaimsFromToken(String authToken) {
         try {
-            return Jwts.parser().verifyWith((SecretKey) key).build().parseSignedClaims(authToken).getBody();
+            return parser.parseSignedClaims(authToken).getPayload();
         } catch (ExpiredJwtException e) {
             // 만료된 토큰이라도 클레임은 필요할 때 (예: 재발급 시)
             return e.getClaims();
@@ -107,9 +226,11 @@ public class JwtTokenProvider {
 // 이 메서드는 JwtAuthenticationFilter에서 사용될 것입니다.
     public Long getUserIdFromToken(String authToken) {
         // 1. getClaimsFromToken 메서드를 호출하여 Claims 객체를 얻습니다.
-        Claims claims = getClaimsFromToken(authToken);
+        return getUserId(getClaimsFromToken(authToken));
+    }
 
-        // 2. Claims에서 'userId' 키를 사용하여 Long 타입으로 값을 추출합니다.
+    // 📌 이미 추출한 Claims에서 'userId' 값을 Long으로 변환
+    public Long getUserId(Claims claims) {
         // 참고: JWT 생성 시 claim("userId", userId)로 저장했다고 가정합니다.
         Object userIdObj = claims.get("userId");
 
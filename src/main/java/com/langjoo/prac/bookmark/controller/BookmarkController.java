@@ -3,6 +3,8 @@ package com.langjoo.prac.bookmark.controller;
 import com.langjoo.prac.auth.config.UserDetailsImpl;
 import com.langjoo.prac.bookmark.dto.BookmarkToggleResponse;
 import com.langjoo.prac.bookmark.service.BookmarkService;
+import com.langjoo.prac.common.dto.CursorResponse;
+import com.langjoo.prac.common.dto.ToggleResult;
 import com.langjoo.prac.tweet.dto.TweetResponse;
 import com.langjoo.prac.tweet.dto.TweetSearchRequest;
 import io.swagger.v3.oas.annotations.Operation;
@@ -12,7 +14,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -29,31 +30,48 @@ public class BookmarkController {
             @AuthenticationPrincipal UserDetailsImpl currentUser,
             @PathVariable Long tweetId) {
         // 좋아요 생성/취소 후 현재 상태(true/false)를 반환
-        boolean isBookmarked = bookmarkService.toggleBookmark(currentUser.getUserId(), tweetId);
-
-        int currentBookmarkCount = bookmarkService.getBookmarkCount(tweetId); // 필요시 추가
+        // 📌 상태와 카운트를 한 번에 받아옴 (별도 COUNT 쿼리 없음)
+        ToggleResult result = bookmarkService.toggleBookmark(currentUser.getUserId(), tweetId);
 
         // 2. DTO 생성 및 반환
-        BookmarkToggleResponse response = BookmarkToggleResponse.builder()
-                .tweetId(tweetId)
-                .isBookmarked(isBookmarked)
-                .bookmarkCount(currentBookmarkCount)
-                .build();
+        return ResponseEntity.ok(toResponse(tweetId, result));
+    }
 
-        return ResponseEntity.ok(response);
+    // 📌 멱등 API: 여러 번 보내도 결과가 같으므로 재시도/더블탭에 안전
+    // PUT /tweets/{tweetId}/bookmark
+    @PutMapping("/tweets/{tweetId}/bookmark")
+    @Operation(summary = "북마크 등록", description = "이미 북마크 상태여도 성공합니다.")
+    public ResponseEntity<BookmarkToggleResponse> bookmark(@AuthenticationPrincipal UserDetailsImpl currentUser,
+                                                           @PathVariable Long tweetId) {
+        return ResponseEntity.ok(toResponse(tweetId, bookmarkService.setBookmarked(currentUser.getUserId(), tweetId, true)));
+    }
 
+    // DELETE /tweets/{tweetId}/bookmark
+    @DeleteMapping("/tweets/{tweetId}/bookmark")
+    @Operation(summary = "북마크 취소", description = "북마크 상태가 아니어도 성공합니다.")
+    public ResponseEntity<BookmarkToggleResponse> unbookmark(@AuthenticationPrincipal UserDetailsImpl currentUser,
+                                                             @PathVariable Long tweetId) {
+        return ResponseEntity.ok(toResponse(tweetId, bookmarkService.setBookmarked(currentUser.getUserId(), tweetId, false)));
+    }
+
+    private BookmarkToggleResponse toResponse(Long tweetId, ToggleResult result) {
+        return BookmarkToggleResponse.builder()
+                .tweetId(tweetId)
+                .isBookmarked(result.isActive())
+                .bookmarkCount(result.getCount())
+                .build();
     }
 
     // 2. 내가 북마크 해놓은 트윗 중 검색
 // GET /api/tweets/bookmarks/search?keyword=...&since=...
     @GetMapping("/search/bookmarks")
-    @Operation(summary = "북마크 해놓은 트윗 중 검색", description = "키워드 검색&작성 시기 검색 가능")
-    public ResponseEntity<List<TweetResponse>> searchBookmarkedTweets(
+    @Operation(summary = "북마크 해놓은 트윗 중 검색", description = "키워드 검색&작성 시기 검색 가능, cursor/size로 페이지네이션. 영문/숫자 키워드는 단어 단위로 일치")
+    public ResponseEntity<CursorResponse<TweetResponse>> searchBookmarkedTweets(
             @AuthenticationPrincipal UserDetailsImpl currentUser,
             @ModelAttribute TweetSearchRequest request) {
 
         // 현재 로그인 유저의 ID를 사용하여 북마크 트윗 검색
-        List<TweetResponse> results = bookmarkService.searchBookmarkedTweets(currentUser.getUserId(), request);
+        CursorResponse<TweetResponse> results = bookmarkService.searchBookmarkedTweets(currentUser.getUserId(), request);
         return ResponseEntity.ok(results);
     }
 }
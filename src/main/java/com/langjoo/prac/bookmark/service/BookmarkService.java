@@ -1,15 +1,17 @@
 package com.langjoo.prac.bookmark.service;
 
-import com.langjoo.prac.domain.Tweet;
+import com.langjoo.prac.common.dto.CursorResponse;
+import com.langjoo.prac.common.dto.ToggleResult;
 import com.langjoo.prac.tweet.dto.TweetResponse;
 import com.langjoo.prac.tweet.dto.TweetSearchRequest;
 
-import java.util.List;
-
 public interface BookmarkService {
-    // 북마크 생성/취소 토글
-    boolean toggleBookmark(Long userId, Long tweetId);
-    public List<TweetResponse> searchBookmarkedTweets(Long currentUserId, TweetSearchRequest request);
+    // 북마크 생성/취소 토글 → 최종 상태 + 현재 북마크 수
+    ToggleResult toggleBookmark(Long userId, Long tweetId);
+
+    // 북마크 등록(bookmarked = true)/취소(false) → 이미 그 상태여도 성공 (멱등)
+    ToggleResult setBookmarked(Long userId, Long tweetId, boolean bookmarked);
 
-    int getBookmarkCount(Long tweetId);
+    // 내 북마크 중 검색 (cursor/size 페이지네이션, 정렬 기준은 트윗 검색과 같음)
+    CursorResponse<TweetResponse> searchBookmarkedTweets(Long currentUserId, TweetSearchRequest request);
 }
@@ -1,23 +1,43 @@
 package com.langjoo.prac.bookmark.service;
 
 import com.langjoo.prac.bookmark.repository.BookmarkRepository;
+import com.langjoo.prac.common.dto.CursorResponse;
+import com.langjoo.prac.common.dto.ToggleResult;
 import com.langjoo.prac.common.exception.NotFoundException;
-import com.langjoo.prac.domain.Bookmark;
 import com.langjoo.prac.domain.Tweet;
 import com.langjoo.prac.domain.User;
+import com.langjoo.prac.engagement.EngagementLink;
+import com.langjoo.prac.engagement.EngagementType;
+import com.langjoo.prac.engagement.repository.EngagementLinkRepository;
+import com.langjoo.prac.engagement.service.EngagementCounterService;
+import com.langjoo.prac.search.index.SearchHit;
+import com.langjoo.prac.search.index.SearchQuery;
+import com.langjoo.prac.search.service.TweetSearchService;
+import com.langjoo.prac.tweet.dto.RelevanceCursor;
+import com.langjoo.prac.tweet.dto.SearchSort;
+import com.langjoo.prac.tweet.dto.TweetCursor;
 import com.langjoo.prac.tweet.dto.TweetResponse;
 import com.langjoo.prac.tweet.dto.TweetSearchRequest;
 import com.langjoo.prac.tweet.repository.TweetRepository;
+import com.langjoo.prac.tweet.service.ViewerStateHydrator;
 import com.langjoo.prac.user.repository.UserRepository;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static com.langjoo.prac.common.GlobalConstants.DEFAULT_PAGE_SIZE;
+import static com.langjoo.prac.common.GlobalConstants.MAX_PAGE_SIZE;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -26,68 +46,129 @@ public class BookmarkServiceImpl implements BookmarkService {
     private final UserRepository userRepository;
     private final TweetRepository tweetRepository;
     private final BookmarkRepository bookmarkRepository;
+    private final EngagementLinkRepository engagementLinkRepository; // 📌 조건부 INSERT
+    private final EngagementCounterService engagementCounterService; // 📌 미반영 카운트 합산용
+    private final TweetSearchService tweetSearchService; // 📌 키워드 검색 색인
+    private final ViewerStateHydrator viewerStateHydrator; // 📌 좋아요/리트윗/북마크 여부 플래그
 
+    // 📌 토글: DELETE를 먼저 시도하고, 지울 것이 없었으면 INSERT (조회 후 저장하지 않으므로 동시 요청에도 예외 없음)
     @Override
-    public boolean toggleBookmark(Long userId, Long tweetId) {
-        User user = findUserById(userId);
-        Tweet tweet = findTweetById(tweetId);
-
-        Optional<Bookmark> existingBookmark = bookmarkRepository.findByUserAndTweet(user, tweet);
+    public ToggleResult toggleBookmark(Long userId, Long tweetId) {
+        int bookmarkCount = findBookmarkCount(tweetId);
 
-        if (existingBookmark.isPresent()) {
-            // 1. 이미 좋아요를 눌렀다면: 좋아요 취소 (DELETE)
-            bookmarkRepository.delete(existingBookmark.get());
+        // 1. 이미 북마크했다면: 북마크 취소 (DELETE 1행)
+        int removed = bookmarkRepository.deleteByUserIdAndTweetId(userId, tweetId);
+        if (removed > 0) {
+            return applied(tweetId, bookmarkCount, false, -removed);
+        }
 
-            return false; // 좋아요 취소됨
+        // 2. 북마크하지 않았다면: 북마크 생성 (그 사이 다른 요청이 먼저 등록했으면 0행 → 이미 북마크 상태)
+        return applied(tweetId, bookmarkCount, true, insertBookmark(userId, tweetId));
+    }
 
-        } else {
-            // 1. 좋아요를 누르지 않았다면: 좋아요 생성 (INSERT)
-            Bookmark newBookmark = new Bookmark(user, tweet);
-            bookmarkRepository.save(newBookmark);
+    // 📌 멱등 등록/취소: 같은 요청을 여러 번 보내도 결과가 같음 (바뀐 행이 있을 때만 카운트 증감)
+    @Override
+    public ToggleResult setBookmarked(Long userId, Long tweetId, boolean bookmarked) {
+        int bookmarkCount = findBookmarkCount(tweetId);
+        int delta = bookmarked
+                ? insertBookmark(userId, tweetId)
+                : -bookmarkRepository.deleteByUserIdAndTweetId(userId, tweetId);
+        return applied(tweetId, bookmarkCount, bookmarked, delta);
+    }
 
-            return true; // 좋아요 생성됨
+    // 📌 바뀐 행 수만큼 북마크 수 증감 (카운터 서비스가 모아서 반영)
+    // 결과 북마크 수: 트윗의 카운트 + 미반영 증감분 + 이번 증감 (COUNT 쿼리 없이 O(1))
+    private ToggleResult applied(Long tweetId, int bookmarkCount, boolean bookmarked, int delta) {
+        if (delta != 0) {
+            engagementCounterService.increment(tweetId, EngagementType.BOOKMARK, delta);
         }
+        return new ToggleResult(bookmarked, engagementCounterService.withPending(bookmarkCount + delta, tweetId, EngagementType.BOOKMARK));
     }
 
     // 2. 내가 북마크 해놓은 트윗 중 검색
     @Override
-    public List<TweetResponse> searchBookmarkedTweets(Long currentUserId, TweetSearchRequest request) {
+    @Transactional(readOnly = true) // 📌 replica에서 읽음 (방금 직접 쓴 유저는 primary)
+    public CursorResponse<TweetResponse> searchBookmarkedTweets(Long currentUserId, TweetSearchRequest request) {
         if (!request.isValid()) {
             throw new IllegalArgumentException("검색 키워드 또는 기간이 필요합니다.");
         }
 
         User currentUser = findUserById(currentUserId); // 유틸리티 메서드 가정
 
-        // -------------------------------------------------------------
-        // 📌 [추가] 검색 기간 LocalTime 설정 로직
-        // -------------------------------------------------------------
-        LocalDateTime since = null;
-        if (request.getSince() != null) {
-            // 'since' 날짜의 시작 시간 (00:00:00)으로 변환
-            since = request.getSince().atStartOfDay();
-        }
-
-        LocalDateTime until = null;
-        if (request.getUntil() != null) {
-            // 'until' 날짜의 종료 시간 (23:59:59.999...)으로 변환
-            // JDBC/JPA는 보통 23:59:59.999999999까지 처리할 수 있지만,
-            // 안전하게 다음 날의 시작 시간 직전으로 처리하는 것이 일반적입니다.
-            // 여기서는 명확성을 위해 23:59:59로 설정합니다.
-            until = request.getUntil().atTime(23, 59, 59);
+        // 📌 키워드가 있으면 검색 색인에서 내 북마크 트윗으로 제한하여 검색, 기간만 있으면 DB에서 최신순 조회
+        int limit = resolvePageSize(request.getSize());
+        if (request.hasKeyword()) {
+            return searchBookmarkedTweetsByIndex(currentUser, request, limit);
         }
-        // -------------------------------------------------------------
 
-        // 📌 [가정] BookmarkRepository에 북마크된 트윗을 조건으로 검색하는 메서드가 있다고 가정
-        // List<Tweet> findBookmarkedTweetsByConditions(User user, TweetSearchRequest request);
+        // 📌 기간은 트윗 ID 범위로 변환 (createdAt 조건 없음)
         List<Tweet> tweets = bookmarkRepository.findBookmarkedTweetsByConditions(
                 currentUser,
-                request.getKeyword(),
-                since, // 변환된 LocalDateTime
-                until // 변환된 LocalDateTime
+                request.minTweetId(),
+                Math.min(TweetCursor.decode(request.getCursor()).getTweetId(), request.maxTweetIdExclusive()), // 📌 커서 이후 + 종료 시점 이전
+                PageRequest.of(0, limit) // 📌 한 페이지 분량만 조회
         );
+        String nextCursor = tweets.size() < limit ? null : new TweetCursor(tweets.get(tweets.size() - 1).getId()).encode();
+        return new CursorResponse<>(toResponses(currentUserId, tweets), nextCursor);
+    }
+
+    // 📌 색인 검색도 트윗 검색과 같은 방식으로 한 페이지(limit개)씩 반환 (관련도순: RelevanceCursor, 최신순: TweetCursor)
+    private CursorResponse<TweetResponse> searchBookmarkedTweetsByIndex(User currentUser, TweetSearchRequest request, int limit) {
+        Set<Long> bookmarkedTweetIds = new HashSet<>(bookmarkRepository.findTweetIdsByUser(currentUser));
+        if (bookmarkedTweetIds.isEmpty()) {
+            return new CursorResponse<>(List.of(), null);
+        }
 
-        // 플래그 처리는 여기서도 필요합니다.
-        return tweets.stream().map(TweetResponse::from).collect(Collectors.toList());
+        SearchSort sort = request.getSort() == null ? SearchSort.RELEVANCE : request.getSort();
+        SearchQuery.SearchQueryBuilder query = SearchQuery.builder()
+                .keyword(request.getKeyword())
+                .minTweetId(request.minTweetId())
+                .maxTweetIdExclusive(request.maxTweetIdExclusive())
+                .tweetIds(bookmarkedTweetIds)
+                .sort(sort)
+                .limit(limit);
+        if (sort == SearchSort.LATEST) {
+            query.latestCursor(TweetCursor.decode(request.getCursor()));
+        } else {
+            query.relevanceCursor(RelevanceCursor.decode(request.getCursor()));
+        }
+        List<SearchHit> hits = tweetSearchService.search(query.build());
+
+        // 색인 순서(관련도/최신순)를 유지하며 트윗 조회
+        Map<Long, Tweet> tweetMap = tweetRepository.findAllWithResponseGraphByIdIn(hits.stream()
+                        .map(SearchHit::getTweetId)
+                        .collect(Collectors.toList())).stream()
+                .collect(Collectors.toMap(Tweet::getId, Function.identity()));
+        List<Tweet> tweets = hits.stream()
+                .map(hit -> tweetMap.get(hit.getTweetId()))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        // 색인 결과가 limit개를 꽉 채웠다면 마지막 결과 위치가 다음 커서
+        String nextCursor = null;
+        if (hits.size() >= limit) {
+            SearchHit last = hits.get(hits.size() - 1);
+            nextCursor = sort == SearchSort.LATEST
+                    ? new TweetCursor(last.getTweetId()).encode()
+                    : new RelevanceCursor(last.getScore(), last.getTweetId()).encode();
+        }
+        return new CursorResponse<>(toResponses(currentUser.getId(), tweets), nextCursor);
+    }
+
+    // 📌 플래그 처리 (좋아요/리트윗/북마크 여부, 한 번의 쿼리) + 아직 DB에 반영되지 않은 카운트 합산
+    private List<TweetResponse> toResponses(Long currentUserId, List<Tweet> tweets) {
+        List<TweetResponse> responses = tweets.stream().map(TweetResponse::from).collect(Collectors.toList());
+        viewerStateHydrator.hydrate(currentUserId, responses);
+        engagementCounterService.mergePending(responses);
+        return responses;
+    }
+
+    // 📌 페이지 크기 보정 (생략 시 기본값, 1 ~ MAX_PAGE_SIZE)
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
     }
 
     // -------------------------------------------------------------
@@ -99,16 +180,20 @@ public class BookmarkServiceImpl implements BookmarkService {
     }
 
     // -------------------------------------------------------------
-    // 📌 [추가] 유틸리티 메서드: ID로 Tweet을 찾거나 예외를 던짐
+    // 📌 [추가] 유틸리티 메서드: 트윗의 북마크 수를 조회하거나 예외를 던짐 (엔티티 로딩 없이 컬럼만)
     // -------------------------------------------------------------
-    private Tweet findTweetById(Long tweetId) {
-        return tweetRepository.findById(tweetId)
+    private int findBookmarkCount(Long tweetId) {
+        return tweetRepository.findBookmarkCountById(tweetId)
                 .orElseThrow(() -> new NotFoundException("트윗을 찾을 수 없습니다: ID " + tweetId));
     }
-    @Override
-    @Transactional
-    public int getBookmarkCount(Long tweetId) {
-        return bookmarkRepository.countByTweet_Id(tweetId);
+
+    // 📌 카운트를 읽은 뒤 트윗이 삭제되었으면 외래 키 위반 → 404 (등록되지 않았는데 북마크 상태로 응답하지 않도록)
+    private int insertBookmark(Long userId, Long tweetId) {
+        try {
+            return engagementLinkRepository.insertIfAbsent(EngagementLink.BOOKMARK, userId, tweetId);
+        } catch (DataIntegrityViolationException e) {
+            throw new NotFoundException("트윗을 찾을 수 없습니다: ID " + tweetId);
+        }
     }
 
 }
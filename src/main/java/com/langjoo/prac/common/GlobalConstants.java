@@ -11,6 +11,13 @@ public final class GlobalConstants {
     // 📌 트윗 길이 제한 상수
     public static final int TWEET_MAX_LENGTH = 280;
 
+    // 📌 커서 페이지네이션 기본/최대 페이지 크기 (요청 한 번에 메모리에 올리는 트윗 수 상한)
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    // 📌 엔티티 ID 시퀀스를 한 번에 할당받는 크기 (hibernate.jdbc.batch_size와 맞춤)
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     // (만약 필요하다면 다른 전역 상수들을 여기에 추가할 수 있습니다.)
     // public static final String DEFAULT_PROFILE_IMAGE_URL = "...";
 }
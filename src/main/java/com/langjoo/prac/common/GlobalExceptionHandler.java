@@ -1,7 +1,6 @@
 package com.langjoo.prac.common;
 
 import com.langjoo.prac.common.exception.*;
-import org.springframework.data.crossstore.ChangeSetPersister;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import com.langjoo.prac.common.dto.ErrorResponse;
@@ -37,7 +36,7 @@ public class GlobalExceptionHandler {
     }
 
     //404 Not Found
-    @ExceptionHandler(ChangeSetPersister.NotFoundException.class)
+    @ExceptionHandler(NotFoundException.class)
     public ResponseEntity<ErrorResponse> handleNotFoundException(NotFoundException e) {
         ErrorResponse errorResponse = new ErrorResponse(e.getMessage());
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
@@ -57,6 +56,20 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse(e.getMessage()));
     }
 
+    // 📌 TooManyRequestsException 핸들러 (429 Too Many Requests)
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequestsException(TooManyRequestsException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS) // HTTP 429
+                .body(new ErrorResponse(e.getMessage()));
+    }
+
+    // 📌 ServiceUnavailableException 핸들러 (503 Service Unavailable)
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailableException(ServiceUnavailableException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE) // HTTP 503
+                .body(new ErrorResponse(e.getMessage()));
+    }
+
     //500 서버 내부 오류
     @ExceptionHandler(value = Exception.class)
     public ResponseEntity<ErrorResponse> handleUnknownException(Exception e) {
@@ -0,0 +1,27 @@
+package com.langjoo.prac.common;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 📌 트랜잭션 커밋 이후에 실행해야 하는 작업(캐시/타임라인/카운터 반영)을 등록하는 유틸리티
+// 롤백된 변경이 메모리 상태에 남지 않도록 합니다.
+public final class TransactionHooks {
+
+    private TransactionHooks() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    // 트랜잭션 안이면 커밋 후 실행, 트랜잭션 밖이면 즉시 실행
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
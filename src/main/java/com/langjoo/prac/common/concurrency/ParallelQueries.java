@@ -0,0 +1,159 @@
+package com.langjoo.prac.common.concurrency;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// 📌 서로 의존하지 않는 조회 쿼리를 동시에 실행 (응답 시간 ≈ 쿼리 시간의 합 → 가장 느린 쿼리)
+// 사용법: scope를 열고 fork()로 쿼리를 띄운 뒤 join()으로 모두 기다림 (try-with-resources로 닫으면 남은 쿼리는 취소)
+//   try (ParallelQueries.Scope scope = parallelQueries.open()) {
+//       Supplier<A> a = scope.fork(() -> ...);
+//       Supplier<B> b = scope.fork(() -> ...);
+//       scope.join(); // 하나라도 실패하면 나머지를 기다리지 않고 그 예외를 그대로 던짐
+//       a.get(); b.get();
+//   }
+// - 쿼리마다 별도 읽기 전용 트랜잭션 (각자 커넥션을 잡았다가 바로 반납)
+//   → 호출하는 쪽은 트랜잭션/커넥션을 잡지 않은 채로 기다려야 커넥션 풀 고갈 시 서로 기다리는 상황이 생기지 않음
+// - 호출하는 쪽이 이미 트랜잭션 안이면 같은 스레드에서 순서대로 실행 (커밋 전 변경을 봐야 하므로)
+// - 실행기: query-fanout.threads개로 제한된 풀 (가상 스레드 모드에서는 같은 개수 제한의 가상 스레드)
+//   대기열(query-fanout.queue-capacity)까지 차면 호출한 스레드가 직접 실행 → 순차 실행으로 자연스럽게 후퇴
+// - 호출한 스레드의 인증 정보(SecurityContext)를 그대로 넘김 (replica 라우팅의 read-your-writes 판단에 사용)
+@Component
+public class ParallelQueries {
+
+    private final boolean enabled;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Executor executor;
+    private final ThreadPoolExecutor threadPool; // 가상 스레드 모드면 null
+
+    public ParallelQueries(PlatformTransactionManager transactionManager,
+                           Environment environment,
+                           @Value("${query-fanout.enabled:true}") boolean enabled,
+                           @Value("${query-fanout.threads:8}") int threads,
+                           @Value("${query-fanout.queue-capacity:100}") int queueCapacity) {
+        this.enabled = enabled;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor virtualThreads = new SimpleAsyncTaskExecutor("query-fanout-");
+            virtualThreads.setVirtualThreads(true);
+            virtualThreads.setConcurrencyLimit(threads); // 한도를 넘으면 fork()하는 쪽이 자리가 날 때까지 대기
+            this.executor = new DelegatingSecurityContextExecutor(virtualThreads);
+            this.threadPool = null;
+        } else {
+            AtomicInteger sequence = new AtomicInteger();
+            this.threadPool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "query-fanout-" + sequence.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    (runnable, pool) -> runnable.run()); // 대기열이 차거나 종료 중이면 호출한 스레드에서 실행
+            this.threadPool.allowCoreThreadTimeOut(true);
+            this.executor = new DelegatingSecurityContextExecutor(threadPool);
+        }
+    }
+
+    public Scope open() {
+        boolean parallel = enabled && !TransactionSynchronizationManager.isActualTransactionActive();
+        return new Scope(parallel);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (threadPool != null) {
+            threadPool.shutdownNow();
+        }
+    }
+
+    // 📌 한 번의 동시 조회 구간 (fork → join → close)
+    public class Scope implements AutoCloseable {
+
+        private final boolean parallel;
+        private final List<CompletableFuture<?>> forked = new ArrayList<>();
+        private final CompletableFuture<Void> firstFailure = new CompletableFuture<>();
+
+        private Scope(boolean parallel) {
+            this.parallel = parallel;
+        }
+
+        // 쿼리를 띄우고, join() 이후에 결과를 꺼낼 수 있는 Supplier를 돌려줌
+        public <T> Supplier<T> fork(Supplier<T> query) {
+            if (!parallel) {
+                T result = query.get();
+                return () -> result;
+            }
+
+            CompletableFuture<T> future = CompletableFuture.supplyAsync(
+                    () -> readOnlyTransaction.execute(status -> query.get()), executor);
+            future.whenComplete((result, error) -> {
+                if (error != null) {
+                    firstFailure.completeExceptionally(error);
+                }
+            });
+            forked.add(future);
+            return () -> {
+                if (!future.isDone()) {
+                    throw new IllegalStateException("join() 전에 결과를 꺼낼 수 없습니다.");
+                }
+                return future.join();
+            };
+        }
+
+        // 모두 끝날 때까지 대기, 하나라도 실패하면 즉시 그 예외를 던짐 (NotFoundException 등은 그대로 전달)
+        public void join() {
+            if (forked.isEmpty()) {
+                return;
+            }
+            CompletableFuture<Void> all = CompletableFuture.allOf(forked.toArray(new CompletableFuture[0]));
+            try {
+                CompletableFuture.anyOf(all, firstFailure).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("동시 조회 대기 중 인터럽트되었습니다.", e);
+            } catch (ExecutionException e) {
+                throw rethrow(e.getCause());
+            }
+        }
+
+        // 끝나지 않은 쿼리는 결과를 버림 (이미 실행 중인 쿼리는 끝까지 실행된 뒤 트랜잭션이 정리됨)
+        @Override
+        public void close() {
+            for (CompletableFuture<?> future : forked) {
+                future.cancel(false);
+            }
+        }
+
+        private RuntimeException rethrow(Throwable error) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (cause instanceof RuntimeException runtimeException) {
+                return runtimeException;
+            }
+            if (cause instanceof Error e) {
+                throw e;
+            }
+            return new IllegalStateException("동시 조회에 실패했습니다.", cause);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.langjoo.prac.common.concurrency;
+
+import com.langjoo.prac.common.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// 📌 동시에 처리하는 API 요청 수를 permits개로 제한 (가상 스레드 모드 전용, VirtualThreadConfig에서 등록)
+// 가상 스레드는 요청마다 하나씩 만들어지므로 스레드 풀이 동시 요청 수를 막아 주지 않습니다.
+// 제한이 없으면 수천 개의 요청이 한꺼번에 Hikari 커넥션을 기다리다 connection-timeout으로 실패하므로,
+// 커넥션 풀 크기에 맞춘 수만 안으로 들이고 나머지는 timeout까지 여기서 기다리게 한 뒤 503으로 돌려보냅니다.
+public class RequestAdmissionInterceptor implements HandlerInterceptor {
+
+    private static final String ADMITTED = RequestAdmissionInterceptor.class.getName() + ".ADMITTED";
+
+    private final int permits;
+    private final long timeoutMillis;
+    private final Semaphore semaphore;
+
+    // 📌 튜닝용 지표 (/actuator/metrics/http.admission.*)
+    private final Counter admitted;
+    private final Counter rejected;
+
+    public RequestAdmissionInterceptor(int permits, long timeoutMillis, MeterRegistry meterRegistry) {
+        this.permits = permits;
+        this.timeoutMillis = timeoutMillis;
+        this.semaphore = new Semaphore(permits, true); // 먼저 기다린 요청부터 입장
+
+        this.admitted = meterRegistry.counter("http.admission", "result", "admitted");
+        this.rejected = meterRegistry.counter("http.admission", "result", "rejected");
+        Gauge.builder("http.admission.in-flight", semaphore, s -> permits - s.availablePermits())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws InterruptedException {
+        if (request.getAttribute(ADMITTED) != null) {
+            return true; // 같은 요청의 error 디스패치 등은 이미 자리를 차지하고 있음
+        }
+        if (!semaphore.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+            rejected.increment();
+            throw new ServiceUnavailableException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        admitted.increment();
+        request.setAttribute(ADMITTED, Boolean.TRUE);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(ADMITTED) != null) {
+            request.removeAttribute(ADMITTED);
+            semaphore.release();
+        }
+    }
+
+    public int getPermits() {
+        return permits;
+    }
+}
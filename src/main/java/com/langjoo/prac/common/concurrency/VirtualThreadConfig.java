@@ -0,0 +1,37 @@
+package com.langjoo.prac.common.concurrency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// 📌 가상 스레드 모드 (spring.threads.virtual.enabled=true, JDK 21 이상에서 실행할 때만 적용)
+// Tomcat 요청 처리 / @Async(applicationTaskExecutor) / @Scheduled(taskScheduler)는 Spring Boot가 가상 스레드로 바꿔 주고,
+// 여기서는 커넥션 풀 크기에 맞춘 입장 제한만 추가합니다.
+// - 동시 처리 요청 수 = spring.datasource.hikari.maximum-pool-size × virtual-threads.admission.permits-per-connection
+//   (요청 하나가 커넥션을 잡고 있지 않은 시간(JWT/JSON/메모리 캐시)이 있으므로 커넥션 수보다 약간 많이 들임)
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig implements WebMvcConfigurer {
+
+    private final RequestAdmissionInterceptor requestAdmissionInterceptor;
+
+    public VirtualThreadConfig(MeterRegistry meterRegistry,
+                               @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize,
+                               @Value("${virtual-threads.admission.permits-per-connection:2}") int permitsPerConnection,
+                               @Value("${virtual-threads.admission.timeout-ms:1000}") long timeoutMillis) {
+        this.requestAdmissionInterceptor = new RequestAdmissionInterceptor(
+                maximumPoolSize * permitsPerConnection, timeoutMillis, meterRegistry);
+        log.info("가상 스레드 모드: 커넥션 {}개, 동시 처리 요청 {}개", maximumPoolSize, requestAdmissionInterceptor.getPermits());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(requestAdmissionInterceptor).addPathPatterns("/api/**");
+    }
+}
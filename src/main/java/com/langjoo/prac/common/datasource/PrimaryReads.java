@@ -0,0 +1,77 @@
+package com.langjoo.prac.common.datasource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// 📌 공유 캐시를 채우는 조회를 replica 대신 primary에서 읽기 위한 도우미
+// 캐시를 제거한 직후 replica에서 다시 읽으면 복제 지연만큼 오래된 값이 캐시에 들어가 TTL 동안 모든 유저에게 보임
+// (read-your-writes는 쓴 유저 본인만 primary로 보내므로 공유 캐시는 막지 못함)
+// - read(): 별도 읽기 전용 트랜잭션(REQUIRES_NEW)에서 실행 → 바깥 범위가 이미 replica 커넥션을 잡았어도 primary 커넥션을 새로 가져옴
+// - changedRecently(): 제거 시각이 복제 지연(max-lag-ms) 안이면 true → 그때만 primary로 보내고 나머지는 계속 replica
+// - 현재 스레드에서만 유효 (ParallelQueries의 동시 조회 스레드에는 전달되지 않음)
+// 💡 replica를 쓰지 않으면(datasource.replica.enabled=false) 아무 일도 하지 않습니다.
+@Component
+public class PrimaryReads {
+
+    private static final ThreadLocal<Boolean> REQUESTED = new ThreadLocal<>();
+
+    private final boolean enabled;
+    private final long maxLagNanos;
+    private final TransactionTemplate primaryReadTransaction; // replica를 쓰지 않으면 null
+
+    public PrimaryReads(PlatformTransactionManager transactionManager,
+                        @Value("${datasource.replica.enabled:false}") boolean enabled,
+                        @Value("${datasource.replica.max-lag-ms:1000}") long maxLagMillis) {
+        this.enabled = enabled;
+        this.maxLagNanos = enabled ? TimeUnit.MILLISECONDS.toNanos(maxLagMillis) : 0;
+        if (enabled) {
+            this.primaryReadTransaction = new TransactionTemplate(transactionManager);
+            this.primaryReadTransaction.setReadOnly(true);
+            this.primaryReadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        } else {
+            this.primaryReadTransaction = null;
+        }
+    }
+
+    // 캐시와 함께 쓰지 않는 곳(테스트 등)에서 사용하는 꺼진 인스턴스
+    public static PrimaryReads disabled() {
+        return new PrimaryReads(null, false, 0);
+    }
+
+    // 복제 지연 시간 (replica를 쓰지 않으면 0)
+    public long maxLagNanos() {
+        return maxLagNanos;
+    }
+
+    // System.nanoTime() 기준 changedAt 이후로 아직 복제 지연 시간이 지나지 않았으면 true
+    public boolean changedRecently(long changedAt) {
+        return enabled && System.nanoTime() - changedAt < maxLagNanos;
+    }
+
+    // 📌 query를 primary에서 실행 (쓰기 트랜잭션 안이면 이미 primary이므로 그대로 실행)
+    public <T> T read(Supplier<T> query) {
+        if (!enabled || REQUESTED.get() != null
+                || (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly())) {
+            return query.get();
+        }
+        REQUESTED.set(Boolean.TRUE);
+        try {
+            return primaryReadTransaction.execute(status -> query.get());
+        } finally {
+            REQUESTED.remove();
+        }
+    }
+
+    // ReplicaRoutingDataSource가 커넥션을 가져올 때 확인
+    static boolean isRequested() {
+        return REQUESTED.get() != null;
+    }
+}
@@ -0,0 +1,65 @@
+package com.langjoo.prac.common.datasource;
+
+import com.langjoo.prac.auth.config.UserDetailsImpl;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// 📌 read-your-writes: 유저가 직접 쓴 뒤 복제 지연(max-lag) 동안은 그 유저의 읽기를 primary로 보냄
+// 예) 트윗 작성 직후 내 프로필/홈을 보면 replica에는 아직 새 트윗이 없을 수 있음 → 그 유저만 잠시 primary에서 읽음
+// - 기준: 현재 요청의 인증 유저 (SecurityContext, ParallelQueries의 동시 조회 스레드에도 전달됨)
+// - 쓰기 시각: 쓰기 트랜잭션이 커밋된 시각 (ReplicaRoutingDataSource가 기록)
+// 💡 인스턴스 메모리에만 기록하므로 여러 인스턴스로 띄우면 같은 유저의 요청이 같은 인스턴스로 가야 합니다. (sticky session)
+@Component
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReadYourWritesTracker {
+
+    private final long maxLagNanos;
+
+    // 유저 ID → 마지막 쓰기 커밋 시각 (System.nanoTime)
+    private final Map<Long, Long> lastWriteAt = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(@Value("${datasource.replica.max-lag-ms:1000}") long maxLagMillis) {
+        this.maxLagNanos = TimeUnit.MILLISECONDS.toNanos(maxLagMillis);
+    }
+
+    public void recordWrite(Long userId) {
+        lastWriteAt.put(userId, System.nanoTime());
+    }
+
+    // 복제 지연 시간 안에 직접 쓴 적이 있으면 true (지난 기록은 이때 정리)
+    public boolean wroteRecently(Long userId) {
+        Long writtenAt = lastWriteAt.get(userId);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - writtenAt < maxLagNanos) {
+            return true;
+        }
+        lastWriteAt.remove(userId, writtenAt);
+        return false;
+    }
+
+    // 복제 지연 시간이 지난 기록 정리 (다시 읽지 않는 유저의 기록이 남지 않도록)
+    @Scheduled(fixedDelayString = "${datasource.replica.max-lag-ms:1000}")
+    public void evictExpired() {
+        long now = System.nanoTime();
+        lastWriteAt.entrySet().removeIf(entry -> now - entry.getValue() >= maxLagNanos);
+    }
+
+    // 현재 요청의 인증 유저 ID (비로그인/스케줄러 스레드면 null)
+    public static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserDetailsImpl userDetails) {
+            return userDetails.getUserId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,69 @@
+package com.langjoo.prac.common.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+import static com.langjoo.prac.common.TransactionHooks.afterCommit;
+
+// 📌 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 replica, 나머지는 primary로 커넥션을 가져옴
+// - 커넥션을 실제로 가져오는 시점에 결정하므로 반드시 LazyConnectionDataSourceProxy로 감싸서 사용
+//   (트랜잭션 시작 시점에는 아직 readOnly 여부가 등록되지 않음, ReadReplicaDataSourceConfig 참고)
+// - 트랜잭션 밖(스키마 생성, 스케줄러의 batch 반영 등)은 primary
+// - 읽기 전용이어도 현재 유저가 방금 쓴 경우(ReadYourWritesTracker)나 공유 캐시를 채우는 조회(PrimaryReads)는 primary
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica";
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    // 📌 튜닝용 지표 (/actuator/metrics/datasource.routing)
+    private final Counter primaryWrites;
+    private final Counter replicaReads;
+    private final Counter primaryReads;
+    private final Counter primaryCacheFills;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica,
+                                    ReadYourWritesTracker readYourWritesTracker, MeterRegistry meterRegistry) {
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.primaryWrites = meterRegistry.counter("datasource.routing", "target", "primary");
+        this.replicaReads = meterRegistry.counter("datasource.routing", "target", "replica");
+        this.primaryReads = meterRegistry.counter("datasource.routing", "target", "primary-read-your-writes");
+        this.primaryCacheFills = meterRegistry.counter("datasource.routing", "target", "primary-cache-fill");
+
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long userId = ReadYourWritesTracker.currentUserId();
+
+        // 1. 쓰기 가능한 트랜잭션: primary, 로그인 유저의 트랜잭션이면 커밋 시각을 기록
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (userId != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+                afterCommit(() -> readYourWritesTracker.recordWrite(userId));
+            }
+            primaryWrites.increment();
+            return PRIMARY;
+        }
+
+        // 2. 📌 읽기 전용 트랜잭션: 공유 캐시를 채우는 조회와 방금 직접 쓴 유저만 primary
+        if (PrimaryReads.isRequested()) {
+            primaryCacheFills.increment();
+            return PRIMARY;
+        }
+        if (userId != null && readYourWritesTracker.wroteRecently(userId)) {
+            primaryReads.increment();
+            return PRIMARY;
+        }
+        replicaReads.increment();
+        return REPLICA;
+    }
+}
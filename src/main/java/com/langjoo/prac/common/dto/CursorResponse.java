@@ -0,0 +1,24 @@
+package com.langjoo.prac.common.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+// 📌 커서 기반 목록 응답
+// 다음 페이지를 요청할 때는 nextCursor 값을 그대로 cursor 파라미터로 전달하면 됩니다.
+@Getter
+public class CursorResponse<T> {
+
+    private final List<T> items;
+
+    // 다음 페이지가 없으면 null
+    private final String nextCursor;
+
+    private final boolean hasNext;
+
+    public CursorResponse(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+}
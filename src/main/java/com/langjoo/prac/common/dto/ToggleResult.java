@@ -0,0 +1,16 @@
+package com.langjoo.prac.common.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 📌 좋아요/북마크 토글 결과: 최종 상태 + 토글이 반영된 트윗의 현재 개수
+// 개수는 Tweet에 유지되는 카운트 컬럼에서 가져오므로 COUNT 쿼리가 필요 없습니다.
+@Getter
+@RequiredArgsConstructor
+public class ToggleResult {
+
+    // 토글 후 최종 상태 (true: 등록됨, false: 취소됨)
+    private final boolean active;
+
+    private final int count;
+}
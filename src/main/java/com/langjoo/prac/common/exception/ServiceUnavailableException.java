@@ -0,0 +1,8 @@
+package com.langjoo.prac.common.exception;
+
+// 📌 서버 전체가 포화 상태라 지금은 처리할 수 없는 요청 (503 Service Unavailable, 잠시 후 재시도)
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.langjoo.prac.common.exception;
+
+// 📌 서버가 처리할 수 있는 양을 넘은 요청 (429 Too Many Requests, 잠시 후 재시도)
+public class TooManyRequestsException extends RuntimeException {
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,63 @@
+package com.langjoo.prac.common.id;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+
+// 📌 트윗 ID 생성기 설정 (tweet.id.node-id: 인스턴스마다 다른 값, 0 ~ 15)
+@Slf4j
+@Configuration
+public class SnowflakeIdConfig {
+
+    @Bean
+    public SnowflakeIdGenerator tweetIdGenerator(@Value("${tweet.id.node-id:0}") long nodeId,
+                                                 MeterRegistry meterRegistry,
+                                                 DataSource dataSource) {
+        SnowflakeIdGenerator generator = SnowflakeIdGenerator.forNode(nodeId);
+        seedFromIssuedIds(generator, dataSource);
+        SnowflakeIdentifierGenerator.use(generator);
+        log.info("트윗 ID 노드 ID: {}", nodeId);
+
+        // 📌 시계가 뒤로 간 횟수 (/actuator/metrics/tweet.id.clock.regressions)
+        FunctionCounter.builder("tweet.id.clock.regressions", generator, SnowflakeIdGenerator::clockRegressions)
+                .register(meterRegistry);
+        return generator;
+    }
+
+    // 📌 재시작 전에 발급한 ID보다 큰 ID부터 발급 (재시작 시 시계가 뒤로 가 있으면 같은 ID를 다시 만들 수 있으므로)
+    // 트랜잭션 밖이므로 primary에서 조회, 테이블이 아직 없으면(새 스키마) 발급된 ID도 없음
+    private void seedFromIssuedIds(SnowflakeIdGenerator generator, DataSource dataSource) {
+        Long maxIssuedId;
+        try {
+            maxIssuedId = new JdbcTemplate(dataSource).queryForObject("SELECT MAX(tweet_id) FROM tweets", Long.class);
+        } catch (DataAccessException e) {
+            log.info("트윗 테이블이 없어 ID 생성기 시작 위치를 맞추지 않습니다.");
+            return;
+        }
+        if (maxIssuedId == null) {
+            return;
+        }
+        generator.seedAfter(maxIssuedId);
+        Instant issuedAt = SnowflakeIdGenerator.timestampOf(maxIssuedId);
+        if (issuedAt.isAfter(Instant.now())) {
+            log.warn("시계가 마지막으로 발급된 트윗 ID보다 뒤에 있습니다 (마지막 ID 시각: {}). 시계가 따라올 때까지 그 시각 이후의 ID를 발급합니다.", issuedAt);
+        }
+    }
+
+    // EntityManagerFactory(= 첫 INSERT)보다 ID 생성기 설정이 먼저 끝나도록
+    @Configuration
+    static class EntityManagerFactoryDependsOnTweetIdGenerator extends EntityManagerFactoryDependsOnPostProcessor {
+        EntityManagerFactoryDependsOnTweetIdGenerator() {
+            super("tweetIdGenerator");
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.langjoo.prac.common.id;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+// 📌 시간순으로 정렬되는 64비트 ID 생성기 (Snowflake 방식)
+//
+//   [ 41비트: epoch 이후 ms ][ 4비트: 노드 ID ][ 8비트: 같은 ms 안의 순번 ]
+//
+// - 나중에 만든 ID가 항상 더 크므로 "ORDER BY id DESC" 만으로 최신순 정렬/커서가 가능 (PK 범위 스캔)
+// - 전체 53비트: JSON 숫자로 내려가도 JavaScript Number.MAX_SAFE_INTEGER(2^53 - 1)를 넘지 않음
+// - 여러 인스턴스를 띄울 때는 인스턴스마다 다른 노드 ID(tweet.id.node-id, 0 ~ 15)를 설정
+// - 락 없이 (마지막 ms, 순번)을 AtomicLong 하나에 담아 CAS로 갱신
+// - 시계가 뒤로 가면 기다리지 않고 마지막 ms를 계속 사용 (순번이 다 차면 다음 ms를 미리 사용) → ID는 계속 증가
+// - 재시작 시 시계가 뒤로 가 있어도 이전 ID와 겹치지 않도록, 시작할 때 DB의 최대 ID로 마지막 위치를 맞춤 (seedAfter)
+public class SnowflakeIdGenerator {
+
+    // 2024-01-01T00:00:00Z 기준 (41비트 ms = 약 69년)
+    public static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+    public static final int NODE_BITS = 4;
+    public static final int SEQUENCE_BITS = 8;
+    public static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int TIMESTAMP_SHIFT = NODE_BITS + SEQUENCE_BITS;
+
+    // 같은 노드 ID는 프로세스 안에서 하나의 생성기를 공유 (테스트처럼 컨텍스트가 여러 개여도 ID가 겹치지 않도록)
+    private static final Map<Long, SnowflakeIdGenerator> SHARED = new ConcurrentHashMap<>();
+
+    private final long nodeId;
+    private final LongSupplier clock;
+
+    // (epoch 이후 ms << SEQUENCE_BITS) | 순번: 마지막으로 발급한 위치
+    private final AtomicLong lastState = new AtomicLong();
+
+    private final LongAdder clockRegressions = new LongAdder();
+
+    public SnowflakeIdGenerator(long nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    SnowflakeIdGenerator(long nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    public static SnowflakeIdGenerator forNode(long nodeId) {
+        return SHARED.computeIfAbsent(nodeId, SnowflakeIdGenerator::new);
+    }
+
+    public long nextId() {
+        while (true) {
+            long last = lastState.get();
+            long lastMillis = last >>> SEQUENCE_BITS;
+            long now = clock.getAsLong() - EPOCH_MILLIS;
+
+            long millis;
+            long sequence;
+            if (now > lastMillis) {
+                millis = now;
+                sequence = 0;
+            } else if ((last & SEQUENCE_MASK) < SEQUENCE_MASK) {
+                // 같은 ms (또는 시계가 뒤로 감): 마지막 ms에서 순번만 증가
+                millis = lastMillis;
+                sequence = (last & SEQUENCE_MASK) + 1;
+            } else {
+                // 순번을 다 썼으면 다음 ms를 미리 사용 (실제 시계가 따라오면 자연스럽게 맞춰짐)
+                millis = lastMillis + 1;
+                sequence = 0;
+            }
+
+            if (lastState.compareAndSet(last, (millis << SEQUENCE_BITS) | sequence)) {
+                if (now < lastMillis) {
+                    clockRegressions.increment();
+                }
+                return (millis << TIMESTAMP_SHIFT) | (nodeId << SEQUENCE_BITS) | sequence;
+            }
+        }
+    }
+
+    // 📌 이미 발급된 ID(다른 노드 포함)보다 큰 ID만 발급하도록 마지막 위치를 앞당김 (그 ID의 ms는 모두 쓴 것으로 처리)
+    // 마지막 위치는 앞으로만 움직이므로 여러 번, 어느 시점에 호출해도 안전
+    public void seedAfter(long issuedId) {
+        long issuedState = ((issuedId >>> TIMESTAMP_SHIFT) << SEQUENCE_BITS) | SEQUENCE_MASK;
+        lastState.accumulateAndGet(issuedState, Math::max);
+    }
+
+    // 📌 주어진 시각 이후에 만들어진 ID는 모두 이 값 이상 (시간 범위 → ID 범위 변환용)
+    public static long minIdAt(Instant instant) {
+        return Math.max(0, instant.toEpochMilli() - EPOCH_MILLIS) << TIMESTAMP_SHIFT;
+    }
+
+    public static Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> TIMESTAMP_SHIFT) + EPOCH_MILLIS);
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+
+    // 시계가 뒤로 간 것을 감지한 횟수 (지표용)
+    public long clockRegressions() {
+        return clockRegressions.sum();
+    }
+}
@@ -0,0 +1,30 @@
+package com.langjoo.prac.common.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+
+// 📌 Hibernate가 INSERT 전에 호출하는 ID 생성기 (@SnowflakeId)
+// Hibernate가 직접 생성하는 객체이므로, 노드 ID가 설정된 생성기는 SnowflakeIdConfig가 use()로 넘겨줍니다.
+public class SnowflakeIdentifierGenerator implements BeforeExecutionGenerator {
+
+    // 설정 전(스프링 없이 Hibernate만 사용하는 경우)에는 노드 0
+    private static volatile SnowflakeIdGenerator generator = SnowflakeIdGenerator.forNode(0);
+
+    public static void use(SnowflakeIdGenerator configured) {
+        generator = configured;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return generator.nextId();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
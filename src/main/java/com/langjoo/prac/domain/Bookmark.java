@@ -1,5 +1,6 @@
 package com.langjoo.prac.domain;
 
+import com.langjoo.prac.common.GlobalConstants;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -8,14 +9,19 @@ import lombok.NoArgsConstructor;
 @Entity
 @Table(name = "bookmarks",
         uniqueConstraints = { // 📌 유일성 제약 조건: 한 유저는 한 트윗에 한 번만 북마크 가능
-                @UniqueConstraint(columnNames = {"user_id", "tweet_id"})
+                @UniqueConstraint(name = "uk_bookmarks_user_tweet", columnNames = {"user_id", "tweet_id"})
+        },
+        // 📌 트윗별 북마크 개수
+        indexes = {
+                @Index(name = "idx_bookmarks_tweet_id", columnList = "tweet_id")
         })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Bookmark extends BaseEntity{
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bookmark_seq")
+    @SequenceGenerator(name = "bookmark_seq", sequenceName = "bookmark_seq", allocationSize = GlobalConstants.ID_ALLOCATION_SIZE)
     private Long id;
 
     // 북마크를 누른 사용자
@@ -1,6 +1,7 @@
 package com.langjoo.prac.domain;
 
 
+import com.langjoo.prac.common.GlobalConstants;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -8,12 +9,22 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(name = "follow",
+        // 📌 같은 유저를 두 번 팔로우할 수 없음 (팔로잉 목록/여부 확인도 이 인덱스로 처리)
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_follow_follower_following", columnNames = {"follower_id", "following_id"})
+        },
+        // 📌 팔로워 목록/팔로워 ID 조회 (타임라인 fan-out)
+        indexes = {
+                @Index(name = "idx_follow_following_follower", columnList = "following_id, follower_id")
+        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // 👈 JPA 사용을 위해 접근제어자 PROTECTED로 설정 (권장)
 public class Follow extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "follow_seq")
+    @SequenceGenerator(name = "follow_seq", sequenceName = "follow_seq", allocationSize = GlobalConstants.ID_ALLOCATION_SIZE)
     private Long id;
 
     // 팔로우를 하는 사용자 (Follower)
@@ -1,5 +1,6 @@
 package com.langjoo.prac.domain;
 
+import com.langjoo.prac.common.GlobalConstants;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -9,14 +10,20 @@ import lombok.NoArgsConstructor;
 @Table(name = "likes",
         // 📌 user_id와 tweet_id 쌍은 유일해야 함 (중복 좋아요 방지)
         uniqueConstraints = {
-                @UniqueConstraint(columnNames = {"user_id", "tweet_id"})
+                @UniqueConstraint(name = "uk_likes_user_tweet", columnNames = {"user_id", "tweet_id"})
+        },
+        // 📌 트윗별 좋아요 목록/개수
+        indexes = {
+                @Index(name = "idx_likes_tweet_id", columnList = "tweet_id")
         })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // JPA 사용 시 기본 생성자 필수
 public class Like extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 📌 pooled 시퀀스 (INSERT batch 가능)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "like_seq")
+    @SequenceGenerator(name = "like_seq", sequenceName = "like_seq", allocationSize = GlobalConstants.ID_ALLOCATION_SIZE)
     @Column(name = "like_id")
     private Long id;
 
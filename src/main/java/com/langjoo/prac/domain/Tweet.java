@@ -1,5 +1,6 @@
 package com.langjoo.prac.domain;
 
+import com.langjoo.prac.common.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -7,13 +8,38 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "tweets")
+@Table(name = "tweets",
+        // 📌 조회 패턴별 복합 인덱스 (트윗 ID가 시간순이므로 "작성자 + ID"가 곧 작성자별 최신순)
+        indexes = {
+                // 작성자별 최신순 조회/커서 (피드, 프로필, 유저 트윗 검색)
+                @Index(name = "idx_tweets_user_id_tweet_id", columnList = "user_id, tweet_id"),
+                // 리트윗 조회 (원본 트윗 + 리트윗한 유저 + 리트윗 타입)
+                @Index(name = "idx_tweets_original_user_type", columnList = "original_tweet_id, user_id, retweet_type"),
+                // 답글 대상 트윗 (원본 삭제 시 FK 확인)
+                @Index(name = "idx_tweets_reply_to_tweet_id", columnList = "reply_to_tweet_id")
+        })
+// 📌 TweetResponse 변환에 필요한 연관 엔티티를 한 번에 fetch join 하기 위한 그래프
+// (작성자, 원본 트윗, 답글 대상 트윗 + 답글 대상 작성자) → N+1 Lazy Loading 방지
+@NamedEntityGraph(
+        name = Tweet.RESPONSE_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode("user"),
+                @NamedAttributeNode("originalTweet"),
+                @NamedAttributeNode(value = "replyToTweet", subgraph = "replyToTweet")
+        },
+        subgraphs = @NamedSubgraph(name = "replyToTweet", attributeNodes = @NamedAttributeNode("user"))
+)
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Tweet extends BaseEntity{
+
+    public static final String RESPONSE_GRAPH = "Tweet.response";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 📌 시간순 Snowflake ID: 나중에 작성한 트윗의 ID가 항상 더 크므로 최신순 정렬/커서를 PK만으로 처리
+    // (INSERT 전에 ID가 정해지므로 JDBC batch도 그대로 가능)
+    @SnowflakeId
     @Column(name = "tweet_id")
     private Long id;
 
@@ -25,15 +51,20 @@ public class Tweet extends BaseEntity{
     @Column(nullable = false, length = 280)
     private String content;
 
-    @Column(name = "rt_count")
+    // 📌 카운트 컬럼은 EngagementCounterService가 "컬럼 + 증감분" UPDATE로만 갱신합니다.
+    // (updatable = false: 변경 감지로 오래된 값이 덮어써지지 않도록)
+    @Column(name = "rt_count", updatable = false)
     private int retweetCount; // int 타입 유지 (기본값 0)
 
-    @Column(name = "like_count")
+    @Column(name = "like_count", updatable = false)
     private int likeCount; // int 타입 유지 (기본값 0)
 
-    @Column(name = "reply_count")
+    @Column(name = "reply_count", updatable = false)
     private int replyCount = 0; // 📌 답글 개수 필드 추가 (기본값 0)
 
+    @Column(name = "bookmark_count", updatable = false)
+    private int bookmarkCount; // 📌 북마크 개수 (토글 시 COUNT 쿼리 대신 사용)
+
     // 📌 [수정] boolean isRetweet 대신 RetweetType Enum 사용
     @Enumerated(EnumType.STRING) // DB에 문자열로 저장
     @Column(name = "retweet_type", nullable = false)
@@ -76,14 +107,6 @@ public class Tweet extends BaseEntity{
     }
 
 
-    // 📌 개수 조절 메서드
-    public void incrementReplyCount() { this.replyCount++; }
-    public void decrementReplyCount() {
-        if (this.replyCount > 0) { // 0 미만으로 내려가지 않도록 방어 로직
-            this.replyCount--;
-        }
-    }
-
     // 💡 [수정] 리트윗 팩토리 메서드: content와 type을 분리하여 생성
     public static Tweet createRetweet(User user, Tweet originalTweet, String quoteContent, RetweetType type) {
         Tweet retweet = new Tweet();
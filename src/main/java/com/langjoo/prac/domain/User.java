@@ -1,5 +1,6 @@
 package com.langjoo.prac.domain;
 
+import com.langjoo.prac.common.GlobalConstants;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -11,12 +12,17 @@ import java.util.Set;
 @Entity
 @Getter
 @Setter
-@Table(name = "users")
+@Table(name = "users",
+        // 📌 팔로워 수 기준 셀럽 목록 조회 (하이브리드 타임라인)
+        indexes = {
+                @Index(name = "idx_users_follower_count", columnList = "follower_count")
+        })
 @NoArgsConstructor
 public class User extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+    @SequenceGenerator(name = "user_seq", sequenceName = "user_seq", allocationSize = GlobalConstants.ID_ALLOCATION_SIZE)
     @Column(name = "user_id")
     private Long id;
 
@@ -42,6 +48,18 @@ public class User extends BaseEntity {
     @Column(name = "user_pw", nullable = false)
     private String password;
 
+    // 📌 프로필 집계 컬럼 (COUNT 쿼리 대신 사용)
+    // 트윗/팔로우 서비스가 같은 트랜잭션 안에서 "컬럼 + 증감분" UPDATE로만 갱신합니다.
+    // (updatable = false: 변경 감지로 오래된 값이 덮어써지지 않도록)
+    @Column(name = "tweet_count", nullable = false, updatable = false)
+    private long tweetCount; // 작성한 트윗 수 (답글/리트윗 포함)
+
+    @Column(name = "follower_count", nullable = false, updatable = false)
+    private long followerCount;
+
+    @Column(name = "following_count", nullable = false, updatable = false)
+    private long followingCount;
+
 
     // 📌 Follow 엔티티와의 관계 추가
 
@@ -0,0 +1,33 @@
+package com.langjoo.prac.engagement;
+
+import com.langjoo.prac.domain.Bookmark;
+import com.langjoo.prac.domain.Like;
+
+// 📌 유저 → 트윗 한 쌍에 하나만 존재하는 반응(좋아요/북마크)의 엔티티/테이블 매핑
+// (user_id, tweet_id) 유니크 제약이 있어야 조건부 INSERT(EngagementLinkRepository)가 중복을 막을 수 있습니다.
+public enum EngagementLink {
+    LIKE(Like.class, "likes", "like_id"),
+    BOOKMARK(Bookmark.class, "bookmarks", "id");
+
+    private final Class<?> entityType;
+    private final String table;
+    private final String idColumn;
+
+    EngagementLink(Class<?> entityType, String table, String idColumn) {
+        this.entityType = entityType;
+        this.table = table;
+        this.idColumn = idColumn;
+    }
+
+    public Class<?> getEntityType() {
+        return entityType;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public String getIdColumn() {
+        return idColumn;
+    }
+}
@@ -0,0 +1,19 @@
+package com.langjoo.prac.engagement;
+
+// 📌 트윗 단위로 집계되는 반응(engagement) 카운터 종류와 tweets 테이블의 컬럼 매핑
+public enum EngagementType {
+    LIKE("like_count"),
+    RETWEET("rt_count"),
+    REPLY("reply_count"),
+    BOOKMARK("bookmark_count");
+
+    private final String column;
+
+    EngagementType(String column) {
+        this.column = column;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+}
@@ -0,0 +1,15 @@
+package com.langjoo.prac.engagement.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+// 📌 카운터 증감분이 DB에 반영되었음을 알리는 이벤트 (반영 트랜잭션 커밋 후 발행)
+// DB 카운트를 들고 있는 캐시는 이 트윗들의 값을 버려야 함 (반영된 만큼 미반영 증감분이 줄어들었으므로)
+@Getter
+@RequiredArgsConstructor
+public class EngagementFlushedEvent {
+
+    private final List<Long> tweetIds;
+}
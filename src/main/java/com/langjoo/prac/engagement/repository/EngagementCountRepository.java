@@ -0,0 +1,39 @@
+package com.langjoo.prac.engagement.repository;
+
+import com.langjoo.prac.engagement.EngagementType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 📌 누적된 카운터 증감분을 tweets 테이블에 반영하는 JDBC 리포지토리
+// 엔티티를 읽고 다시 쓰지 않고 "현재 값 + 증감분"으로 갱신하므로 동시 갱신 시에도 값이 유실되지 않습니다.
+@Repository
+public class EngagementCountRepository {
+
+    private static final EngagementType[] TYPES = EngagementType.values();
+
+    // 예: UPDATE tweets SET like_count = GREATEST(like_count + ?, 0), ... WHERE tweet_id = ?
+    // 0 미만으로 내려가지 않도록 방어 (취소가 먼저 반영되는 경우 등)
+    private static final String APPLY_DELTAS_SQL = Arrays.stream(TYPES)
+            .map(type -> type.getColumn() + " = GREATEST(" + type.getColumn() + " + ?, 0)")
+            .collect(Collectors.joining(", ", "UPDATE tweets SET ", " WHERE tweet_id = ?"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EngagementCountRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 각 원소: [tweetId, EngagementType 순서대로의 증감분...] → 하나의 JDBC batch로 전송
+    public void applyDeltas(List<long[]> deltas) {
+        jdbcTemplate.batchUpdate(APPLY_DELTAS_SQL, deltas, deltas.size(), (ps, delta) -> {
+            for (EngagementType type : TYPES) {
+                ps.setLong(type.ordinal() + 1, delta[type.ordinal() + 1]);
+            }
+            ps.setLong(TYPES.length + 1, delta[0]);
+        });
+    }
+}
@@ -0,0 +1,135 @@
+package com.langjoo.prac.engagement.repository;
+
+import com.langjoo.prac.engagement.EngagementLink;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+// 📌 좋아요/북마크를 "조회 후 저장" 없이 INSERT 한 문장으로 등록하는 리포지토리
+// - INSERT ... ON DUPLICATE KEY UPDATE id = id: 이미 있으면 (user_id, tweet_id) 유니크 제약에 걸린 행만 아무것도 바꾸지 않고 0을 반환
+//   → 같은 요청이 동시에 두 번 들어와도 하나만 등록되고, 다른 하나는 "이미 등록됨"으로 끝남
+//   INSERT IGNORE는 외래 키 위반(그 사이 삭제된 트윗)까지 경고로 바꿔 0을 반환하므로 쓰지 않음 → 중복만 삼키고 나머지는 예외
+// 💡 MySQL에서는 JDBC URL에 useAffectedRows=true가 필요합니다. (기본값이면 바뀌지 않은 중복 행도 1로 알려줘 새로 등록된 것과 구분되지 않음)
+// - ID는 엔티티와 같은 Hibernate 생성기(pooled 시퀀스)에서 받으므로 save()로 저장한 행과 겹치지 않음
+// - User/Tweet 엔티티를 로딩하지 않고 외래 키 값만 사용
+// 📌 batch 메서드(좋아요 write-behind 반영용): 쌍 목록은 [userId, tweetId] 배열
+@Repository
+public class EngagementLinkRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EngagementLinkRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 반영된 행 수 (1: 새로 등록, 0: 이미 등록되어 있음), 트윗/유저가 없으면 DataIntegrityViolationException
+    public int insertIfAbsent(EngagementLink link, Long userId, Long tweetId) {
+        LocalDateTime now = LocalDateTime.now();
+        return entityManager.createNativeQuery(
+                        "INSERT INTO " + link.getTable() +
+                                " (" + link.getIdColumn() + ", user_id, tweet_id, created_at, updated_at)" +
+                                " VALUES (?1, ?2, ?3, ?4, ?5)" + onDuplicateKeyKeep(link))
+                .setParameter(1, nextId(link))
+                .setParameter(2, userId)
+                .setParameter(3, tweetId)
+                .setParameter(4, now)
+                .setParameter(5, now)
+                .executeUpdate();
+    }
+
+    // 주어진 유저들 × 트윗들 중 이미 등록된 쌍 ((user_id, tweet_id) 유니크 인덱스의 user_id 구간만 읽음)
+    public List<long[]> findExisting(EngagementLink link, Collection<Long> userIds, Collection<Long> tweetIds) {
+        if (userIds.isEmpty() || tweetIds.isEmpty()) {
+            return List.of();
+        }
+        String sql = "SELECT user_id, tweet_id FROM " + link.getTable() +
+                " WHERE user_id IN (" + placeholders(userIds.size()) + ")" +
+                " AND tweet_id IN (" + placeholders(tweetIds.size()) + ")";
+        Object[] args = new Object[userIds.size() + tweetIds.size()];
+        int i = 0;
+        for (Long userId : userIds) {
+            args[i++] = userId;
+        }
+        for (Long tweetId : tweetIds) {
+            args[i++] = tweetId;
+        }
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)}, args);
+    }
+
+    // 하나의 JDBC batch로 INSERT → 실제로 등록된 쌍 (그 사이 다른 경로로 이미 등록된 쌍은 0행이므로 제외)
+    // 삭제된 트윗이 섞여 있으면 batch 전체가 예외 (호출하는 쪽에서 한 건씩 다시 시도)
+    public List<long[]> insertAll(EngagementLink link, List<long[]> userTweetIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] counts = jdbcTemplate.batchUpdate(
+                "INSERT INTO " + link.getTable() +
+                        " (" + link.getIdColumn() + ", user_id, tweet_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?)" +
+                        onDuplicateKeyKeep(link),
+                userTweetIds, userTweetIds.size(), (ps, pair) -> {
+                    ps.setObject(1, nextId(link));
+                    ps.setLong(2, pair[0]);
+                    ps.setLong(3, pair[1]);
+                    ps.setTimestamp(4, now);
+                    ps.setTimestamp(5, now);
+                });
+        return changed(userTweetIds, counts);
+    }
+
+    // 하나의 JDBC batch로 DELETE → 실제로 삭제된 쌍
+    public List<long[]> deleteAll(EngagementLink link, List<long[]> userTweetIds) {
+        int[][] counts = jdbcTemplate.batchUpdate(
+                "DELETE FROM " + link.getTable() + " WHERE user_id = ? AND tweet_id = ?",
+                userTweetIds, userTweetIds.size(), (ps, pair) -> {
+                    ps.setLong(1, pair[0]);
+                    ps.setLong(2, pair[1]);
+                });
+        return changed(userTweetIds, counts);
+    }
+
+    // 문장별 반영 행 수가 0이 아닌 쌍만 (드라이버가 행 수를 알려주지 않으면(SUCCESS_NO_INFO) 반영된 것으로 간주)
+    private static List<long[]> changed(List<long[]> userTweetIds, int[][] counts) {
+        List<long[]> changed = new ArrayList<>(userTweetIds.size());
+        int i = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                    changed.add(userTweetIds.get(i));
+                }
+                i++;
+            }
+        }
+        return changed;
+    }
+
+    // 중복 키면 기존 행을 그대로 둠 (반영 행 수 0)
+    private static String onDuplicateKeyKeep(EngagementLink link) {
+        return " ON DUPLICATE KEY UPDATE " + link.getIdColumn() + " = " + link.getIdColumn();
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private Object nextId(EngagementLink link) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        BeforeExecutionGenerator generator = (BeforeExecutionGenerator) session.getFactory()
+                .getMappingMetamodel()
+                .getEntityDescriptor(link.getEntityType())
+                .getGenerator();
+        return generator.generate(session, null, null, EventType.INSERT);
+    }
+}
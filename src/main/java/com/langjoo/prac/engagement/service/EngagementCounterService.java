@@ -0,0 +1,24 @@
+package com.langjoo.prac.engagement.service;
+
+import com.langjoo.prac.engagement.EngagementType;
+import com.langjoo.prac.tweet.dto.TweetResponse;
+
+import java.util.List;
+
+public interface EngagementCounterService {
+
+    // 1. 카운터 증감 (트랜잭션 안이면 커밋 후 반영, DB에는 주기적으로 모아서 반영)
+    void increment(Long tweetId, EngagementType type, long delta);
+
+    // 2. 아직 DB에 반영되지 않은 증감분
+    long pending(Long tweetId, EngagementType type);
+
+    // 3. DB에 반영된 값 + 미반영 증감분 (0 미만으로 내려가지 않음)
+    int withPending(int persisted, Long tweetId, EngagementType type);
+
+    // 4. DB 값으로 만든 응답에 미반영 증감분을 더함 (조회 결과가 방금 누른 좋아요를 놓치지 않도록)
+    void mergePending(List<TweetResponse> responses);
+
+    // 5. 누적된 증감분을 DB에 일괄 반영
+    void flush();
+}
@@ -0,0 +1,240 @@
+package com.langjoo.prac.engagement.service;
+
+import static com.langjoo.prac.common.TransactionHooks.afterCommit;
+
+import com.langjoo.prac.domain.RetweetType;
+import com.langjoo.prac.engagement.EngagementType;
+import com.langjoo.prac.engagement.event.EngagementFlushedEvent;
+import com.langjoo.prac.engagement.repository.EngagementCountRepository;
+import com.langjoo.prac.tweet.dto.TweetResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 📌 좋아요/리트윗/답글/북마크 카운터를 메모리에서 모았다가 주기적으로 DB에 반영하는 서비스
+// - 증감: 트윗별 LongAdder에 더하기만 하므로 락 없이 처리 (인기 트윗에 요청이 몰려도 한 row를 두고 경합하지 않음)
+// - 반영: engagement.flush-interval-ms 주기로 "컬럼 = 컬럼 + 증감분" UPDATE를 batch로 실행
+// - 조회: DB 값 + 아직 반영되지 않은 증감분 (반영 중인 증감분은 커밋될 때까지 계속 포함)
+@Slf4j
+@Service
+public class EngagementCounterServiceImpl implements EngagementCounterService {
+
+    private static final EngagementType[] TYPES = EngagementType.values();
+
+    private final EngagementCountRepository engagementCountRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher; // 📌 반영 후 DB 카운트를 들고 있는 캐시 제거
+
+    // 트윗 ID → 아직 DB에 반영되지 않은 증감분
+    private final Map<Long, PendingCounts> pendingCounts = new ConcurrentHashMap<>();
+
+    // 직전 flush에서 맵에서 제거한 항목
+    // 제거 직전에 참조를 얻은 increment가 늦게 더해질 수 있으므로 한 주기 더 반영한 뒤 버립니다.
+    private List<Map.Entry<Long, PendingCounts>> retired = List.of();
+
+    // 📌 카운터에서 꺼냈지만 아직 DB에 커밋되지 않은 증감분 (트윗 ID → [tweetId, 종류별 증감분...])
+    // 꺼내는 순간부터 커밋까지 조회에서 빠지면 그 사이 카운트가 적게 보이므로, 커밋(과 캐시 제거) 뒤에 비웁니다.
+    private final Map<Long, long[]> inFlight = new ConcurrentHashMap<>();
+
+    // 📌 튜닝용 지표 (/actuator/metrics/engagement.*)
+    private final Counter flushedRows;
+    private final Counter failedFlushes;
+
+    public EngagementCounterServiceImpl(EngagementCountRepository engagementCountRepository,
+                                        PlatformTransactionManager transactionManager,
+                                        ApplicationEventPublisher eventPublisher,
+                                        MeterRegistry meterRegistry) {
+        this.engagementCountRepository = engagementCountRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+
+        this.flushedRows = meterRegistry.counter("engagement.flush.rows");
+        this.failedFlushes = meterRegistry.counter("engagement.flush.failures");
+        Gauge.builder("engagement.pending.tweets", pendingCounts, Map::size)
+                .register(meterRegistry);
+    }
+
+    // -------------------------------------------------------------
+    // 1. 증감 / 조회
+    // -------------------------------------------------------------
+    @Override
+    public void increment(Long tweetId, EngagementType type, long delta) {
+        // 📌 트랜잭션이 커밋된 뒤에 반영 (롤백된 좋아요가 카운트에 남지 않도록)
+        afterCommit(() -> add(tweetId, type, delta));
+    }
+
+    private void add(Long tweetId, EngagementType type, long delta) {
+        pendingCounts.computeIfAbsent(tweetId, id -> new PendingCounts()).add(type, delta);
+    }
+
+    @Override
+    public long pending(Long tweetId, EngagementType type) {
+        // 카운터 → 반영 중 순서로 읽음 (collect()는 반영 중에 먼저 넣고 카운터에서 빼므로 어느 시점에도 적게 보이지 않음)
+        PendingCounts counts = pendingCounts.get(tweetId);
+        long pending = counts == null ? 0 : counts.sum(type);
+        long[] flushing = inFlight.get(tweetId);
+        return flushing == null ? pending : pending + flushing[type.ordinal() + 1];
+    }
+
+    @Override
+    public void mergePending(List<TweetResponse> responses) {
+        if (pendingCounts.isEmpty() && inFlight.isEmpty()) {
+            return;
+        }
+        for (TweetResponse response : responses) {
+            // TweetResponse.from()과 같은 기준: 순수 리트윗의 좋아요/리트윗 수는 원본 트윗의 것
+            Long countSourceId = response.getType() == RetweetType.PURE_RETWEET && response.getOriginalTweetId() != null
+                    ? response.getOriginalTweetId()
+                    : response.getTweetId();
+
+            response.setLikeCount(withPending(response.getLikeCount(), countSourceId, EngagementType.LIKE));
+            response.setRetweetCount(withPending(response.getRetweetCount(), countSourceId, EngagementType.RETWEET));
+            response.setReplyCount(withPending(response.getReplyCount(), response.getTweetId(), EngagementType.REPLY));
+        }
+    }
+
+    @Override
+    public int withPending(int persisted, Long tweetId, EngagementType type) {
+        return (int) Math.max(0, persisted + pending(tweetId, type));
+    }
+
+    // -------------------------------------------------------------
+    // 2. DB 반영
+    // -------------------------------------------------------------
+    @Scheduled(fixedDelayString = "${engagement.flush-interval-ms:1000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    // 종료 시 남은 증감분 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    @Override
+    public synchronized void flush() {
+        List<long[]> rows = new ArrayList<>();
+
+        // 1. 직전 주기에 제거한 항목에 늦게 더해진 증감분
+        for (Map.Entry<Long, PendingCounts> entry : retired) {
+            collect(rows, entry.getKey(), entry.getValue());
+        }
+
+        // 2. 증감분을 꺼내고, 이번 주기에 변화가 없던 트윗은 맵에서 제거 (메모리 회수)
+        List<Map.Entry<Long, PendingCounts>> idle = new ArrayList<>();
+        for (Map.Entry<Long, PendingCounts> entry : pendingCounts.entrySet()) {
+            if (!collect(rows, entry.getKey(), entry.getValue())
+                    && pendingCounts.remove(entry.getKey(), entry.getValue())) {
+                idle.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+        }
+        retired = idle;
+
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        // 3. 한 트랜잭션 안에서 batch UPDATE (실패하면 꺼낸 증감분을 되돌려 다음 주기에 재시도)
+        try {
+            transactionTemplate.executeWithoutResult(status -> engagementCountRepository.applyDeltas(rows));
+            flushedRows.increment(rows.size());
+        } catch (RuntimeException e) {
+            failedFlushes.increment();
+            log.warn("카운터 반영에 실패했습니다. 다음 주기에 재시도합니다. ({}건)", rows.size(), e);
+            for (long[] row : rows) {
+                for (EngagementType type : TYPES) {
+                    add(row[0], type, row[type.ordinal() + 1]);
+                }
+            }
+            inFlight.clear(); // 카운터에 되돌린 뒤에 비움
+            return;
+        }
+
+        // 4. 커밋된 트윗 목록을 알림 (트윗 상세 캐시의 카운트 제거) → 그 뒤에 반영 중 목록을 비움
+        // 순서가 반대면 캐시에 남은 이전 DB 카운트 + 빈 반영 중 목록으로 잠깐 적게 보임
+        List<Long> tweetIds = new ArrayList<>(rows.size());
+        for (long[] row : rows) {
+            tweetIds.add(row[0]);
+        }
+        try {
+            eventPublisher.publishEvent(new EngagementFlushedEvent(tweetIds));
+        } finally {
+            inFlight.clear();
+        }
+    }
+
+    // 증감분을 꺼내 rows에 추가, 꺼낸 값이 없으면 false
+    // 📌 반영 중 목록에 먼저 넣고 나서 카운터에서 뺌 → 조회 쪽에서 잠깐 더 많게 보일 수는 있어도 적게 보이지는 않음
+    private boolean collect(List<long[]> rows, Long tweetId, PendingCounts counts) {
+        long[] row = new long[TYPES.length + 1];
+        row[0] = tweetId;
+        boolean changed = false;
+        for (EngagementType type : TYPES) {
+            long delta = counts.sum(type);
+            row[type.ordinal() + 1] = delta;
+            changed |= delta != 0;
+        }
+        if (!changed) {
+            return false;
+        }
+
+        inFlight.merge(tweetId, row.clone(), EngagementCounterServiceImpl::sumRows);
+        for (EngagementType type : TYPES) {
+            counts.subtract(type, row[type.ordinal() + 1]);
+        }
+        rows.add(row);
+        return true;
+    }
+
+    // 같은 트윗이 직전 주기 항목과 이번 주기 항목에 모두 있는 경우
+    private static long[] sumRows(long[] a, long[] b) {
+        long[] sum = a.clone();
+        for (int i = 1; i < sum.length; i++) {
+            sum[i] += b[i];
+        }
+        return sum;
+    }
+
+    // -------------------------------------------------------------
+    // 📌 트윗 하나의 미반영 증감분 (카운터 종류별 LongAdder)
+    // -------------------------------------------------------------
+    static final class PendingCounts {
+
+        private final LongAdder[] adders = new LongAdder[TYPES.length];
+
+        PendingCounts() {
+            for (int i = 0; i < adders.length; i++) {
+                adders[i] = new LongAdder();
+            }
+        }
+
+        void add(EngagementType type, long delta) {
+            adders[type.ordinal()].add(delta);
+        }
+
+        long sum(EngagementType type) {
+            return adders[type.ordinal()].sum();
+        }
+
+        // 📌 sumThenReset()은 동시에 더해지는 값을 잃을 수 있으므로, sum()으로 읽은 만큼만 빼서 꺼냄
+        void subtract(EngagementType type, long delta) {
+            if (delta != 0) {
+                adders[type.ordinal()].add(-delta);
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.langjoo.prac.follow.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 📌 팔로우/언팔로우 이벤트 → 커밋 후 팔로우 그래프(FollowGraph)에 반영
+@Getter
+@RequiredArgsConstructor
+public class FollowChangedEvent {
+
+    private final Long followerId;
+    private final Long followingId;
+    private final boolean followed; // true: 팔로우, false: 언팔로우
+}
@@ -0,0 +1,216 @@
+package com.langjoo.prac.follow.graph;
+
+import com.langjoo.prac.follow.event.FollowChangedEvent;
+import com.langjoo.prac.follow.repository.FollowRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+// 📌 메모리에 보관하는 팔로우 그래프 (유저별 팔로잉/팔로워 ID 집합)
+// - 적재: 처음 조회할 때 DB에서 ID만 한 번 조회 (Follow/User 엔티티 로딩 없음)
+// - 갱신: 팔로우/언팔로우 커밋 후 적재된 집합에만 반영 (FollowChangedEvent)
+// - 크기: 방향별로 보관하는 ID 수의 합이 follow.graph.max-ids를 넘으면 오래 안 쓴 유저부터 제거 (LRU)
+// - 만료: 적재 후 follow.graph.ttl-ms가 지나면 다시 적재 (다른 인스턴스의 변경, cascade 삭제 등 이벤트로 오지 않는 변경도 결국 반영)
+// 타임라인 구성, 팔로우 여부 확인이 DB 조회 없이 끝납니다.
+@Component
+public class FollowGraph {
+
+    // 변경 시각을 기록하는 슬롯 수 (유저 ID로 나눠 담음)
+    private static final int CHANGE_SLOTS = 1024;
+
+    private final FollowRepository followRepository;
+
+    private final Adjacency followings; // 유저 → 내가 팔로우하는 유저
+    private final Adjacency followers;  // 유저 → 나를 팔로우하는 유저
+
+    // 📌 튜닝용 지표 (/actuator/metrics/follow.graph.*)
+    private final Counter hits;
+    private final Counter misses;
+
+    public FollowGraph(FollowRepository followRepository,
+                       MeterRegistry meterRegistry,
+                       @Value("${follow.graph.max-ids:2000000}") long maxIds,
+                       @Value("${follow.graph.ttl-ms:300000}") long ttlMillis) {
+        this.followRepository = followRepository;
+        long ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.followings = new Adjacency(maxIds, ttlNanos);
+        this.followers = new Adjacency(maxIds, ttlNanos);
+
+        this.hits = meterRegistry.counter("follow.graph.cache", "result", "hit");
+        this.misses = meterRegistry.counter("follow.graph.cache", "result", "miss");
+        Gauge.builder("follow.graph.ids", followings, Adjacency::totalIds)
+                .tag("direction", "following")
+                .register(meterRegistry);
+        Gauge.builder("follow.graph.ids", followers, Adjacency::totalIds)
+                .tag("direction", "follower")
+                .register(meterRegistry);
+    }
+
+    // -------------------------------------------------------------
+    // 1. 조회
+    // -------------------------------------------------------------
+
+    // userId가 팔로우하는 유저 ID
+    public LongIdSet followingIds(Long userId) {
+        return load(followings, userId, followRepository::findFollowingIdsByFollowerId);
+    }
+
+    // userId를 팔로우하는 유저 ID (타임라인 fan-out 대상)
+    public LongIdSet followerIds(Long userId) {
+        return load(followers, userId, followRepository::findFollowerIdsByFollowingId);
+    }
+
+    public boolean isFollowing(Long followerId, Long followingId) {
+        return followingIds(followerId).contains(followingId);
+    }
+
+    private LongIdSet load(Adjacency adjacency, Long userId, Function<Long, List<Long>> loader) {
+        LongIdSet cached = adjacency.get(userId);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+
+        // 📌 조회 중에 이 유저의 팔로우 변경이 커밋되면, 조회한(이미 오래된) 집합은 보관하지 않음
+        long loadStartedAt = System.nanoTime();
+        LongIdSet ids = LongIdSet.of(loader.apply(userId));
+        adjacency.put(userId, ids, loadStartedAt);
+        return ids;
+    }
+
+    // -------------------------------------------------------------
+    // 2. 갱신 (트랜잭션 커밋 후, 트랜잭션 밖에서 발행되면 즉시)
+    // -------------------------------------------------------------
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFollowChanged(FollowChangedEvent event) {
+        followings.apply(event.getFollowerId(), event.getFollowingId(), event.isFollowed());
+        followers.apply(event.getFollowingId(), event.getFollowerId(), event.isFollowed());
+    }
+
+    // 📌 이 유저의 팔로잉/팔로워 집합을 버림 (DB와 어긋난 것을 발견했을 때, 다음 조회 시 다시 적재)
+    public void evict(Long userId) {
+        followings.evict(userId);
+        followers.evict(userId);
+    }
+
+    // -------------------------------------------------------------
+    // 📌 한 방향의 인접 리스트: 유저 ID → ID 집합 (LRU, 보관 ID 수 기준)
+    // -------------------------------------------------------------
+    private static final class Adjacency {
+
+        private final long maxIds;
+        private final long ttlNanos;
+        private long totalIds; // sets 락 안에서만 접근
+
+        // accessOrder = true → 조회할 때마다 순서가 갱신되어 LRU로 동작
+        private final LinkedHashMap<Long, Loaded> sets = new LinkedHashMap<>(16, 0.75f, true);
+
+        // 슬롯별 마지막 변경 시각
+        private final AtomicLongArray changedAt = new AtomicLongArray(CHANGE_SLOTS);
+
+        private Adjacency(long maxIds, long ttlNanos) {
+            this.maxIds = maxIds;
+            this.ttlNanos = ttlNanos;
+            long createdAt = System.nanoTime();
+            for (int i = 0; i < CHANGE_SLOTS; i++) {
+                changedAt.set(i, createdAt);
+            }
+        }
+
+        private LongIdSet get(Long userId) {
+            synchronized (sets) {
+                Loaded loaded = sets.get(userId);
+                if (loaded == null) {
+                    return null;
+                }
+                if (System.nanoTime() - loaded.loadedAt >= ttlNanos) {
+                    remove(userId);
+                    return null;
+                }
+                return loaded.ids;
+            }
+        }
+
+        private void evict(Long userId) {
+            changedAt.set(slot(userId), System.nanoTime()); // 진행 중인 적재 결과도 보관하지 않음
+            synchronized (sets) {
+                remove(userId);
+            }
+        }
+
+        private void remove(Long userId) {
+            Loaded removed = sets.remove(userId);
+            if (removed != null) {
+                totalIds -= removed.ids.size();
+            }
+        }
+
+        private void put(Long userId, LongIdSet ids, long loadStartedAt) {
+            // 혼자서 한도를 넘는 집합은 보관하지 않음 (다른 유저를 모두 밀어내지 않도록)
+            if (ids.size() > maxIds || changedAt.get(slot(userId)) - loadStartedAt >= 0) {
+                return;
+            }
+            synchronized (sets) {
+                Loaded previous = sets.put(userId, new Loaded(ids, loadStartedAt));
+                totalIds += ids.size() - (previous == null ? 0 : previous.ids.size());
+                evictEldest();
+            }
+        }
+
+        // 📌 적재된 집합만 갱신 (없으면 다음 조회 때 DB에서 최신 상태로 적재)
+        private void apply(Long userId, Long otherId, boolean added) {
+            changedAt.set(slot(userId), System.nanoTime());
+            synchronized (sets) {
+                Loaded current = sets.get(userId);
+                if (current == null) {
+                    return;
+                }
+                LongIdSet next = added ? current.ids.with(otherId) : current.ids.without(otherId);
+                sets.put(userId, new Loaded(next, current.loadedAt)); // 만료 시각은 DB에서 적재한 시각 기준
+                totalIds += next.size() - current.ids.size();
+                evictEldest();
+            }
+        }
+
+        private void evictEldest() {
+            Iterator<Map.Entry<Long, Loaded>> eldest = sets.entrySet().iterator();
+            while (totalIds > maxIds && eldest.hasNext()) {
+                totalIds -= eldest.next().getValue().ids.size();
+                eldest.remove();
+            }
+        }
+
+        private long totalIds() {
+            synchronized (sets) {
+                return totalIds;
+            }
+        }
+
+        private static int slot(Long userId) {
+            return (int) Math.floorMod(userId, (long) CHANGE_SLOTS);
+        }
+    }
+
+    // 적재한 집합 + DB에서 적재를 시작한 시각 (System.nanoTime)
+    private static final class Loaded {
+        private final LongIdSet ids;
+        private final long loadedAt;
+
+        private Loaded(LongIdSet ids, long loadedAt) {
+            this.ids = ids;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.langjoo.prac.follow.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+// 📌 유저 ID 집합 (정렬된 long[], 불변)
+// - contains: 이진 탐색 O(log n), Long 박싱 없음
+// - 원소 하나에 8바이트 (HashSet<Long>은 원소 하나에 약 50바이트)
+// - 변경은 새 배열을 만드는 copy-on-write → 조회하는 쪽은 락 없이 읽음
+public final class LongIdSet {
+
+    public static final LongIdSet EMPTY = new LongIdSet(new long[0]);
+
+    private final long[] ids; // 오름차순, 중복 없음
+
+    private LongIdSet(long[] ids) {
+        this.ids = ids;
+    }
+
+    public static LongIdSet of(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return EMPTY;
+        }
+        long[] sorted = new long[ids.size()];
+        int i = 0;
+        for (Long id : ids) {
+            sorted[i++] = id;
+        }
+        Arrays.sort(sorted);
+
+        // 중복 제거
+        int size = 1;
+        for (int j = 1; j < sorted.length; j++) {
+            if (sorted[j] != sorted[size - 1]) {
+                sorted[size++] = sorted[j];
+            }
+        }
+        return new LongIdSet(size == sorted.length ? sorted : Arrays.copyOf(sorted, size));
+    }
+
+    public boolean contains(long id) {
+        return Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public boolean isEmpty() {
+        return ids.length == 0;
+    }
+
+    public void forEach(LongConsumer action) {
+        for (long id : ids) {
+            action.accept(id);
+        }
+    }
+
+    // id를 추가한 새 집합 (이미 있으면 자기 자신)
+    public LongIdSet with(long id) {
+        int index = Arrays.binarySearch(ids, id);
+        if (index >= 0) {
+            return this;
+        }
+        int insertAt = -index - 1;
+        long[] next = new long[ids.length + 1];
+        System.arraycopy(ids, 0, next, 0, insertAt);
+        next[insertAt] = id;
+        System.arraycopy(ids, insertAt, next, insertAt + 1, ids.length - insertAt);
+        return new LongIdSet(next);
+    }
+
+    // id를 제거한 새 집합 (없으면 자기 자신)
+    public LongIdSet without(long id) {
+        int index = Arrays.binarySearch(ids, id);
+        if (index < 0) {
+            return this;
+        }
+        if (ids.length == 1) {
+            return EMPTY;
+        }
+        long[] next = new long[ids.length - 1];
+        System.arraycopy(ids, 0, next, 0, index);
+        System.arraycopy(ids, index + 1, next, index, ids.length - index - 1);
+        return new LongIdSet(next);
+    }
+
+    // JPA IN 절 파라미터용 (호출 측에서 원소를 더 추가할 수 있도록 여유를 둔 ArrayList)
+    public List<Long> toList() {
+        List<Long> list = new ArrayList<>(ids.length + 1);
+        for (long id : ids) {
+            list.add(id);
+        }
+        return list;
+    }
+}
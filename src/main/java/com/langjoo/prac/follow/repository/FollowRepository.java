@@ -3,6 +3,9 @@ package com.langjoo.prac.follow.repository;
 import com.langjoo.prac.domain.Follow;
 import com.langjoo.prac.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,9 +20,25 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
     // 특정 사용자가 팔로우하는 모든 관계 목록 조회 (팔로잉 목록)
     List<Follow> findByFollower(User follower);
 
+    // 📌 특정 사용자가 팔로우하는 유저들의 ID만 조회 (Follow/User 엔티티 로딩 없이)
+    @Query("SELECT f.following.id FROM Follow f WHERE f.follower.id = :followerId")
+    List<Long> findFollowingIdsByFollowerId(@Param("followerId") Long followerId);
+
+    // 📌 특정 사용자를 팔로우하는 유저들의 ID만 조회 (타임라인 fan-out 대상)
+    @Query("SELECT f.follower.id FROM Follow f WHERE f.following.id = :followingId")
+    List<Long> findFollowerIdsByFollowingId(@Param("followingId") Long followingId);
+
     // 팔로우 관계가 존재하는지 여부를 빠르게 확인
     boolean existsByFollowerAndFollowing(User follower, User following);
 
+    // 📌 ID만으로 팔로우 여부 확인 (캐시된 프로필에 팔로우 여부를 합칠 때 사용)
+    boolean existsByFollower_IdAndFollowing_Id(Long followerId, Long followingId);
+
+    // 📌 언팔로우: 조회 없이 DELETE 한 번 (삭제된 행 수가 0이면 팔로우 관계가 없던 것)
+    @Modifying
+    @Query("DELETE FROM Follow f WHERE f.follower.id = :followerId AND f.following.id = :followingId")
+    int deleteByFollowerIdAndFollowingId(@Param("followerId") Long followerId, @Param("followingId") Long followingId);
+
     // 📌 2. 팔로잉 수 계산 (현재 User가 'Follower'인 관계의 수)
     // SELECT COUNT(f) FROM Follow f WHERE f.follower = :profileUser
     long countByFollower(User profileUser);
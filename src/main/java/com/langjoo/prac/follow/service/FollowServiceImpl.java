@@ -2,16 +2,20 @@ package com.langjoo.prac.follow.service;
 
 import com.langjoo.prac.domain.Follow;
 import com.langjoo.prac.domain.User;
+import com.langjoo.prac.follow.event.FollowChangedEvent;
+import com.langjoo.prac.follow.graph.FollowGraph;
 import com.langjoo.prac.follow.repository.FollowRepository;
+import com.langjoo.prac.timeline.service.TimelineService;
+import com.langjoo.prac.user.event.UserProfileChangedEvent;
 import com.langjoo.prac.user.repository.UserRepository;
 import com.langjoo.prac.common.exception.DuplicateException;
 import com.langjoo.prac.common.exception.NotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
-import java.util.Optional;
-
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -19,6 +23,9 @@ public class FollowServiceImpl implements FollowService {
 
     private final UserRepository userRepository;
     private final FollowRepository followRepository;
+    private final FollowGraph followGraph; // 📌 메모리 팔로우 그래프 (팔로우 여부 확인)
+    private final TimelineService timelineService;
+    private final ApplicationEventPublisher eventPublisher; // 📌 프로필 캐시 제거 / 팔로우 그래프 갱신 이벤트
 
     // 유틸리티 메서드: ID로 사용자 엔티티를 찾는 메서드
     private User findUserById(Long userId) {
@@ -47,19 +54,26 @@ public class FollowServiceImpl implements FollowService {
             throw new IllegalArgumentException("자기 자신을 팔로우할 수 없습니다.");
         }
 
-        // 3. 이미 팔로우 중인지 검증
-        if (followRepository.existsByFollowerAndFollowing(follower, following)) {
+        // 3. 이미 팔로우 중인지 검증 (📌 팔로우 그래프에서 확인, 그래프에 아직 반영되지 않은 팔로우는 DB 유니크 제약이 막음)
+        if (followGraph.isFollowing(follower.getId(), following.getId())) {
             throw new DuplicateException("이미 팔로우 중인 사용자입니다.");
         }
 
-        // 4. Follow 엔티티 생성 및 저장
+        // 4. Follow 엔티티 생성 및 저장 (📌 바로 INSERT하여 유니크 제약 위반을 500이 아닌 409로 응답)
         Follow follow = new Follow(follower, following);
-        followRepository.save(follow);
+        try {
+            followRepository.saveAndFlush(follow);
+        } catch (DataIntegrityViolationException e) {
+            followGraph.evict(follower.getId()); // 그래프가 DB와 어긋나 있으므로 다음 조회 시 다시 적재
+            throw new DuplicateException("이미 팔로우 중인 사용자입니다.", e);
+        }
+
+        // 📌 팔로우 대상이 바뀌었으므로 내 홈 타임라인은 다음 조회 시 재구성
+        timelineService.invalidate(follower.getId());
 
-        // 📌 추가 로직: User 엔티티의 followerCount/followingCount 증가 (트랜잭션 내에서 처리)
-        // following.setFollowerCount(following.getFollowerCount() + 1);
-        // follower.setFollowingCount(follower.getFollowingCount() + 1);
-        // userRepository.save(following); // JPA Dirty Checking으로 생략 가능
+        // 5. 두 유저의 팔로잉/팔로워 수 증가 (같은 트랜잭션 안에서 UPDATE 한 번)
+        userRepository.addFollowCounts(follower.getId(), following.getId(), 1);
+        publishFollowChanged(follower, following, true);
     }
 
     // -------------------------------------------------------------
@@ -72,16 +86,21 @@ public class FollowServiceImpl implements FollowService {
         User follower = findUserById(followerId);
         User following = findUserByUsername(followingUsername);
 
-        // 2. 삭제할 Follow 관계 조회
-        Follow followRelation = followRepository.findByFollowerAndFollowing(follower, following)
-                .orElseThrow(() -> new NotFoundException("존재하지 않는 팔로우 관계입니다."));
+        // 2. 삭제 (📌 조회 없이 DELETE 한 번, 삭제된 행이 없으면 팔로우 관계가 없던 것)
+        if (followRepository.deleteByFollowerIdAndFollowingId(follower.getId(), following.getId()) == 0) {
+            throw new NotFoundException("존재하지 않는 팔로우 관계입니다.");
+        }
+        timelineService.invalidate(follower.getId());
 
-        // 3. 삭제
-        followRepository.delete(followRelation);
+        // 4. 두 유저의 팔로잉/팔로워 수 감소
+        userRepository.addFollowCounts(follower.getId(), following.getId(), -1);
+        publishFollowChanged(follower, following, false);
+    }
 
-        // 📌 추가 로직: User 엔티티의 followerCount/followingCount 감소
-        // following.setFollowerCount(following.getFollowerCount() - 1);
-        // follower.setFollowingCount(follower.getFollowingCount() - 1);
-        // userRepository.save(following); // JPA Dirty Checking으로 생략 가능
+    // 📌 커밋 후 팔로우 그래프에 반영하고, 팔로잉/팔로워 수가 바뀐 두 유저를 프로필 캐시에서 제거
+    private void publishFollowChanged(User follower, User following, boolean followed) {
+        eventPublisher.publishEvent(new FollowChangedEvent(follower.getId(), following.getId(), followed));
+        eventPublisher.publishEvent(new UserProfileChangedEvent(follower.getId()));
+        eventPublisher.publishEvent(new UserProfileChangedEvent(following.getId()));
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.langjoo.prac.like.controller;
 
 
 import com.langjoo.prac.auth.config.UserDetailsImpl;
+import com.langjoo.prac.common.dto.ToggleResult;
 import com.langjoo.prac.like.dto.LikeToggleResponse;
 import com.langjoo.prac.like.service.LikeService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -9,8 +10,10 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -30,18 +33,34 @@ public class LikeController {
                                                           @AuthenticationPrincipal UserDetailsImpl currentUser,
                                                           @PathVariable Long tweetId) {
 
-        // 1. 서비스 로직 실행 (상태와 카운트를 받아온다고 가정)
-        boolean isLiked = likeService.toggleLike(currentUser.getUserId(), tweetId);
-        int currentLikeCount = likeService.getLikeCount(tweetId); // 필요시 추가
+        // 1. 서비스 로직 실행 (📌 상태와 카운트를 한 번에 받아옴, 별도 COUNT 쿼리 없음)
+        ToggleResult result = likeService.toggleLike(currentUser.getUserId(), tweetId);
 
         // 2. DTO 생성 및 반환
-        LikeToggleResponse response = LikeToggleResponse.builder()
+        return ResponseEntity.ok(toResponse(tweetId, result));
+    }
+
+    // 📌 멱등 API: 여러 번 보내도 결과가 같으므로 재시도/더블탭에 안전
+    @PutMapping("/{tweetId}/like")
+    @Operation(summary = "좋아요 등록", description = "이미 좋아요 상태여도 성공합니다.")
+    public ResponseEntity<LikeToggleResponse> like(@AuthenticationPrincipal UserDetailsImpl currentUser,
+                                                   @PathVariable Long tweetId) {
+        return ResponseEntity.ok(toResponse(tweetId, likeService.setLiked(currentUser.getUserId(), tweetId, true)));
+    }
+
+    @DeleteMapping("/{tweetId}/like")
+    @Operation(summary = "좋아요 취소", description = "좋아요 상태가 아니어도 성공합니다.")
+    public ResponseEntity<LikeToggleResponse> unlike(@AuthenticationPrincipal UserDetailsImpl currentUser,
+                                                     @PathVariable Long tweetId) {
+        return ResponseEntity.ok(toResponse(tweetId, likeService.setLiked(currentUser.getUserId(), tweetId, false)));
+    }
+
+    private LikeToggleResponse toResponse(Long tweetId, ToggleResult result) {
+        return LikeToggleResponse.builder()
                 .tweetId(tweetId)
-                .isLiked(isLiked)
-                .likeCount(currentLikeCount)
+                .isLiked(result.isActive())
+                .likeCount(result.getCount())
                 .build();
-
-        return ResponseEntity.ok(response);
     }
 }
 
@@ -4,6 +4,9 @@ import com.langjoo.prac.domain.Like;
 import com.langjoo.prac.domain.Tweet;
 import com.langjoo.prac.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,7 +16,9 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
     Optional<Like> findByUserAndTweet(User user, Tweet tweet);
 
     // 📌 [추가] 특정 유저(user_id)가 타임라인에 존재하는 트윗들 ID(tweet_id)에 좋아요를 눌렀는지 모두 조회
-    List<Like> findByUserIdAndTweetIdIn(Long userId, List<Long> tweetIds);
+    // 외래 키 컬럼으로 바로 거르도록 직접 작성 (메서드 이름 기반 쿼리는 users/tweets를 JOIN 하여 (user_id, tweet_id) 인덱스를 타지 못함)
+    @Query("SELECT l FROM Like l WHERE l.user.id = :userId AND l.tweet.id IN :tweetIds")
+    List<Like> findByUserIdAndTweetIdIn(@Param("userId") Long userId, @Param("tweetIds") List<Long> tweetIds);
 
     // 특정 트윗에 좋아요를 누른 모든 Like 관계 목록 조회 (좋아요 누른 사용자 목록)
     List<Like> findByTweet(Tweet tweet);
@@ -27,5 +32,14 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
     // 📌 추가 권장: 좋아요 관계가 존재하는지 여부를 빠르게 확인
     boolean existsByUserAndTweet(User user, Tweet tweet);
 
+    // 📌 ID만으로 좋아요 여부 확인 (write-behind 모드에서 응답할 상태 계산용)
+    @Query("SELECT CASE WHEN COUNT(l) > 0 THEN true ELSE false END FROM Like l WHERE l.user.id = :userId AND l.tweet.id = :tweetId")
+    boolean existsByUserIdAndTweetId(@Param("userId") Long userId, @Param("tweetId") Long tweetId);
+
+    // 📌 좋아요 취소: 조회 없이 DELETE 한 번 (삭제된 행 수가 0이면 좋아요 상태가 아니었던 것)
+    @Modifying
+    @Query("DELETE FROM Like l WHERE l.user.id = :userId AND l.tweet.id = :tweetId")
+    int deleteByUserIdAndTweetId(@Param("userId") Long userId, @Param("tweetId") Long tweetId);
+
 
 }
@@ -1,8 +1,12 @@
 package com.langjoo.prac.like.service;
 
+import com.langjoo.prac.common.dto.ToggleResult;
+
 public interface LikeService {
-    // 좋아요 생성/취소 (토글)
-    boolean toggleLike(Long userId, Long tweetId);
-    public int getLikeCount(Long tweetId);
+    // 좋아요 생성/취소 (토글) → 최종 상태 + 현재 좋아요 수
+    ToggleResult toggleLike(Long userId, Long tweetId);
+
+    // 좋아요 등록(liked = true)/취소(false) → 이미 그 상태여도 성공 (멱등)
+    ToggleResult setLiked(Long userId, Long tweetId, boolean liked);
 
 }
@@ -1,78 +1,106 @@
 package com.langjoo.prac.like.service;
 
+import com.langjoo.prac.common.dto.ToggleResult;
 import com.langjoo.prac.common.exception.NotFoundException;
-import com.langjoo.prac.domain.Like;
-import com.langjoo.prac.domain.Tweet;
-import com.langjoo.prac.domain.User;
+import com.langjoo.prac.engagement.EngagementLink;
+import com.langjoo.prac.engagement.EngagementType;
+import com.langjoo.prac.engagement.repository.EngagementLinkRepository;
+import com.langjoo.prac.engagement.service.EngagementCounterService;
 import com.langjoo.prac.like.repository.LikeRepository;
+import com.langjoo.prac.like.writebehind.LikeWriteBehindQueue;
 import com.langjoo.prac.tweet.repository.TweetRepository;
-import com.langjoo.prac.user.repository.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
-import java.util.Optional;
-
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class LikeServiceImpl implements LikeService {
 
     private final LikeRepository likeRepository;
-    private final UserRepository userRepository; // User 엔티티 조회용
-    private final TweetRepository tweetRepository; // Tweet 엔티티 조회용
+    private final TweetRepository tweetRepository; // 트윗 존재 확인 + 현재 좋아요 수
+    private final EngagementLinkRepository engagementLinkRepository; // 📌 조건부 INSERT
+    private final EngagementCounterService engagementCounterService; // 📌 좋아요 수 집계
+    private final LikeWriteBehindQueue likeWriteBehindQueue; // 📌 write-behind 모드 (like.write-behind.enabled)
 
     // -------------------------------------------------------------
-    // 📌 [추가] 유틸리티 메서드: ID로 User를 찾거나 예외를 던짐
+    // 📌 [추가] 유틸리티 메서드: 트윗의 좋아요 수를 조회하거나 예외를 던짐 (엔티티 로딩 없이 컬럼만)
     // -------------------------------------------------------------
-    private User findUserById(Long userId) {
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("사용자를 찾을 수 없습니다: ID " + userId));
+    private int findLikeCount(Long tweetId) {
+        return tweetRepository.findLikeCountById(tweetId)
+                .orElseThrow(() -> new NotFoundException("트윗을 찾을 수 없습니다: ID " + tweetId));
     }
 
-    // -------------------------------------------------------------
-    // 📌 [추가] 유틸리티 메서드: ID로 Tweet을 찾거나 예외를 던짐
-    // -------------------------------------------------------------
-    private Tweet findTweetById(Long tweetId) {
-        return tweetRepository.findById(tweetId)
-                .orElseThrow(() -> new NotFoundException("트윗을 찾을 수 없습니다: ID " + tweetId));
+    // 📌 좋아요 수를 읽은 뒤 트윗이 삭제되었으면 외래 키 위반 → 404 (등록되지 않았는데 좋아요 상태로 응답하지 않도록)
+    private int insertLike(Long userId, Long tweetId) {
+        try {
+            return engagementLinkRepository.insertIfAbsent(EngagementLink.LIKE, userId, tweetId);
+        } catch (DataIntegrityViolationException e) {
+            throw new NotFoundException("트윗을 찾을 수 없습니다: ID " + tweetId);
+        }
     }
 
+    // 📌 토글: DELETE를 먼저 시도하고, 지울 것이 없었으면 INSERT (조회 후 저장하지 않으므로 동시 요청에도 예외 없음)
     @Override
-    public boolean toggleLike(Long userId, Long tweetId) {
-        User user = findUserById(userId);
-        Tweet tweet = findTweetById(tweetId);
-
-        Optional<Like> existingLike = likeRepository.findByUserAndTweet(user, tweet);
-
-        if (existingLike.isPresent()) {
-            // 1. 이미 좋아요를 눌렀다면: 좋아요 취소 (DELETE)
-            likeRepository.delete(existingLike.get());
-
-            // 2. 트윗 카운트 감소
-            tweet.setLikeCount(tweet.getLikeCount() - 1);
-            tweetRepository.save(tweet); // 카운트 업데이트
+    public ToggleResult toggleLike(Long userId, Long tweetId) {
+        int likeCount = findLikeCount(tweetId);
+        if (likeWriteBehindQueue.isEnabled()) {
+            return enqueueToggle(userId, tweetId, likeCount);
+        }
 
-            return false; // 좋아요 취소됨
+        // 1. 이미 좋아요를 눌렀다면: 좋아요 취소 (DELETE 1행)
+        int removed = likeRepository.deleteByUserIdAndTweetId(userId, tweetId);
+        if (removed > 0) {
+            return applied(tweetId, likeCount, false, -removed);
+        }
 
-        } else {
-            // 1. 좋아요를 누르지 않았다면: 좋아요 생성 (INSERT)
-            Like newLike = new Like(user, tweet);
-            likeRepository.save(newLike);
+        // 2. 좋아요를 누르지 않았다면: 좋아요 생성 (그 사이 다른 요청이 먼저 등록했으면 0행 → 이미 좋아요 상태)
+        return applied(tweetId, likeCount, true, insertLike(userId, tweetId));
+    }
 
-            // 2. 트윗 카운트 증가
-            tweet.setLikeCount(tweet.getLikeCount() + 1);
-            tweetRepository.save(tweet); // 카운트 업데이트
+    // 📌 멱등 등록/취소: 같은 요청을 여러 번 보내도 결과가 같음 (바뀐 행이 있을 때만 카운트 증감)
+    @Override
+    public ToggleResult setLiked(Long userId, Long tweetId, boolean liked) {
+        int likeCount = findLikeCount(tweetId);
+        if (likeWriteBehindQueue.isEnabled()) {
+            return enqueue(userId, tweetId, likeCount, likeRepository.existsByUserIdAndTweetId(userId, tweetId), liked);
+        }
+        int delta = liked
+                ? insertLike(userId, tweetId)
+                : -likeRepository.deleteByUserIdAndTweetId(userId, tweetId);
+        return applied(tweetId, likeCount, liked, delta);
+    }
 
-            return true; // 좋아요 생성됨
+    // 📌 바뀐 행 수만큼 카운트 증감 (row를 읽고 쓰지 않고 카운터 서비스에 증감분만 기록)
+    // 결과 좋아요 수: 트윗의 카운트 + 미반영 증감분 + 이번 증감 (COUNT 쿼리 없이 O(1))
+    // 이번 증감분은 커밋 후에 카운터에 더해지므로 직접 더해줍니다.
+    private ToggleResult applied(Long tweetId, int likeCount, boolean liked, int delta) {
+        if (delta != 0) {
+            engagementCounterService.increment(tweetId, EngagementType.LIKE, delta);
         }
+        return new ToggleResult(liked, engagementCounterService.withPending(likeCount + delta, tweetId, EngagementType.LIKE));
     }
 
-    // 📌 [추가] 현재 좋아요 개수를 가져오는 별도 메서드
-    @Override
-    @Transactional
-    public int getLikeCount(Long tweetId) {
-        return likeRepository.countByTweet_Id(tweetId);
+    // -------------------------------------------------------------
+    // 📌 write-behind 모드: 최종 상태만 대기열에 기록하고 바로 응답 (INSERT/DELETE는 batch로 나중에 반영)
+    // 응답의 좋아요 수는 반영됐을 때의 예상값이며, 다른 사람에게는 반영 후(flush 주기 이내) 보입니다.
+    // -------------------------------------------------------------
+    // 📌 대기열 상태를 DB보다 먼저 읽음: DB를 먼저 읽으면 그 사이 반영이 커밋되고 대기열에서 빠졌을 때 오래된 DB 상태로 토글하게 됨
+    private ToggleResult enqueueToggle(Long userId, Long tweetId, int likeCount) {
+        Boolean queued = likeWriteBehindQueue.queuedState(userId, tweetId);
+        boolean persisted = likeRepository.existsByUserIdAndTweetId(userId, tweetId);
+        boolean liked = !(queued != null ? queued : persisted);
+        return enqueue(userId, tweetId, likeCount, persisted, liked);
+    }
+
+    private ToggleResult enqueue(Long userId, Long tweetId, int likeCount, boolean persisted, boolean liked) {
+        likeWriteBehindQueue.offer(userId, tweetId, liked);
+
+        // 대기 중인 상태는 반영될 때 카운터에 더해지므로, DB 상태와 비교한 증감분을 더함
+        int expectedDelta = liked == persisted ? 0 : (liked ? 1 : -1);
+        return new ToggleResult(liked, engagementCounterService.withPending(likeCount + expectedDelta, tweetId, EngagementType.LIKE));
     }
 
-}
\ No newline at end of file
+}
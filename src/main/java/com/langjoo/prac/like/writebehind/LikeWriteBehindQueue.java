@@ -0,0 +1,270 @@
+package com.langjoo.prac.like.writebehind;
+
+import com.langjoo.prac.common.exception.TooManyRequestsException;
+import com.langjoo.prac.engagement.EngagementLink;
+import com.langjoo.prac.engagement.EngagementType;
+import com.langjoo.prac.engagement.repository.EngagementLinkRepository;
+import com.langjoo.prac.engagement.service.EngagementCounterService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// 📌 좋아요 write-behind: 요청은 메모리에 최종 상태만 기록하고 바로 응답, DB 반영은 batch로 모아서 처리 (like.write-behind.enabled)
+// - 합치기: (유저, 트윗)마다 마지막 상태만 남음 → 좋아요/취소를 반복해도 DB에는 최종 상태 한 번만 반영
+//   같은 (유저, 트윗)의 요청 순서는 "마지막 요청이 이김"으로 유지되고, 서로 다른 쌍은 순서와 무관
+// - 반영: like.write-behind.flush-interval-ms 주기로 batch-size개씩, 현재 DB 상태를 한 번 읽고 바뀌는 쌍만 INSERT/DELETE batch
+// - 대기열 한도: max-pending개가 차면 요청이 offer-timeout-ms까지 기다리고, 그래도 차 있으면 429
+// - read-your-writes: 반영 전까지 isLiked()가 대기열/반영 중 상태를 DB 상태보다 우선
+// 📌 (유저, 트윗) 하나의 상태를 반영하는 곳은 이 대기열뿐이어야 하므로, 켜져 있으면 LikeService의 모든 경로가 대기열을 사용합니다.
+@Slf4j
+@Component
+public class LikeWriteBehindQueue {
+
+    private final boolean enabled;
+    private final int maxPending;
+    private final int batchSize;
+    private final long offerTimeoutMillis;
+
+    private final EngagementLinkRepository engagementLinkRepository;
+    private final EngagementCounterService engagementCounterService;
+    private final TransactionTemplate transactionTemplate;
+
+    // (유저, 트윗) → 아직 반영되지 않은 최종 상태 (true: 좋아요, false: 취소)
+    private final Map<LikeKey, Boolean> pending = new ConcurrentHashMap<>();
+
+    // 반영 중인 상태 (커밋될 때까지 read-your-writes에 사용)
+    private final Map<LikeKey, Boolean> inFlight = new ConcurrentHashMap<>();
+
+    // 대기열이 찼을 때 요청 스레드가 기다리는 모니터 (반영 후 깨움)
+    private final Object capacity = new Object();
+
+    // 📌 튜닝용 지표 (/actuator/metrics/like.write-behind.*)
+    private final Counter accepted;
+    private final Counter coalesced;
+    private final Counter rejected;
+    private final Counter inserted;
+    private final Counter deleted;
+    private final Counter dropped;
+
+    public LikeWriteBehindQueue(EngagementLinkRepository engagementLinkRepository,
+                                EngagementCounterService engagementCounterService,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${like.write-behind.enabled:false}") boolean enabled,
+                                @Value("${like.write-behind.max-pending:100000}") int maxPending,
+                                @Value("${like.write-behind.batch-size:500}") int batchSize,
+                                @Value("${like.write-behind.offer-timeout-ms:200}") long offerTimeoutMillis) {
+        this.engagementLinkRepository = engagementLinkRepository;
+        this.engagementCounterService = engagementCounterService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.maxPending = maxPending;
+        this.batchSize = batchSize;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+
+        this.accepted = meterRegistry.counter("like.write-behind.offers", "result", "accepted");
+        this.coalesced = meterRegistry.counter("like.write-behind.offers", "result", "coalesced");
+        this.rejected = meterRegistry.counter("like.write-behind.offers", "result", "rejected");
+        this.inserted = meterRegistry.counter("like.write-behind.rows", "op", "insert");
+        this.deleted = meterRegistry.counter("like.write-behind.rows", "op", "delete");
+        this.dropped = meterRegistry.counter("like.write-behind.dropped");
+        Gauge.builder("like.write-behind.pending", pending, Map::size)
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // -------------------------------------------------------------
+    // 1. 기록 / 조회
+    // -------------------------------------------------------------
+
+    // 📌 최종 상태를 대기열에 기록 (이미 대기 중인 쌍이면 상태만 덮어씀, 자리를 차지하지 않음)
+    public void offer(Long userId, Long tweetId, boolean liked) {
+        LikeKey key = new LikeKey(userId, tweetId);
+        if (pending.computeIfPresent(key, (k, previous) -> liked) != null) {
+            coalesced.increment();
+            return;
+        }
+        awaitCapacity();
+        if (pending.put(key, liked) != null) {
+            coalesced.increment(); // 기다리는 사이 같은 쌍이 먼저 들어온 경우
+        } else {
+            accepted.increment();
+        }
+    }
+
+    // 반영 전인 상태가 있으면 그 상태, 없으면 DB 상태(persisted)
+    public boolean isLiked(Long userId, Long tweetId, boolean persisted) {
+        Boolean state = queuedState(userId, tweetId);
+        return state != null ? state : persisted;
+    }
+
+    // 📌 대기 중/반영 중인 상태 (없으면 null)
+    // 반영이 커밋된 뒤에야 반영 중 상태를 지우므로, 이 값을 DB보다 먼저 읽으면 둘 사이에 반영이 끝나도 놓치지 않음
+    public Boolean queuedState(Long userId, Long tweetId) {
+        return overlay(new LikeKey(userId, tweetId));
+    }
+
+    private Boolean overlay(LikeKey key) {
+        if (pending.isEmpty() && inFlight.isEmpty()) {
+            return null;
+        }
+        Boolean state = pending.get(key);
+        return state != null ? state : inFlight.get(key);
+    }
+
+    // 📌 backpressure: 대기열이 찼으면 반영될 때까지 offer-timeout-ms만큼 기다림
+    private void awaitCapacity() {
+        if (pending.size() < maxPending) {
+            return;
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(offerTimeoutMillis);
+        synchronized (capacity) {
+            while (pending.size() >= maxPending) {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMillis <= 0) {
+                    rejected.increment();
+                    throw new TooManyRequestsException("좋아요 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+                }
+                try {
+                    capacity.wait(remainingMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new TooManyRequestsException("좋아요 요청을 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+                }
+            }
+        }
+    }
+
+    // -------------------------------------------------------------
+    // 2. DB 반영
+    // -------------------------------------------------------------
+    @Scheduled(fixedDelayString = "${like.write-behind.flush-interval-ms:100}")
+    public void scheduledDrain() {
+        if (enabled) {
+            // 이번 주기에 들어와 있던 만큼만 반영 (요청이 계속 몰려도 스케줄러 스레드를 붙잡지 않도록)
+            drain(pending.size() / batchSize + 1);
+        }
+    }
+
+    // 📌 종료 시 남은 상태를 모두 반영 (카운터 서비스보다 먼저 종료되므로 카운트 증감분도 함께 반영됨)
+    @PreDestroy
+    public void drainOnShutdown() {
+        drain(Integer.MAX_VALUE);
+    }
+
+    // 대기열이 빌 때까지(최대 maxBatches번) batch-size개씩 반영
+    public synchronized void drain(int maxBatches) {
+        for (int i = 0; i < maxBatches && !pending.isEmpty(); i++) {
+            List<Map.Entry<LikeKey, Boolean>> batch = takeBatch();
+            if (!batch.isEmpty()) {
+                apply(batch);
+            }
+            synchronized (capacity) {
+                capacity.notifyAll();
+            }
+        }
+    }
+
+    // 대기열에서 꺼내 반영 중으로 옮김 (옮기는 사이에도 read-your-writes가 끊기지 않도록 반영 중에 먼저 기록)
+    private List<Map.Entry<LikeKey, Boolean>> takeBatch() {
+        List<Map.Entry<LikeKey, Boolean>> batch = new ArrayList<>(Math.min(batchSize, pending.size()));
+        for (Map.Entry<LikeKey, Boolean> entry : pending.entrySet()) {
+            if (batch.size() >= batchSize) {
+                break;
+            }
+            LikeKey key = entry.getKey();
+            Boolean liked = entry.getValue();
+            inFlight.put(key, liked);
+            if (pending.remove(key, liked)) {
+                batch.add(Map.entry(key, liked));
+            } else {
+                inFlight.remove(key, liked); // 그 사이 새 상태가 들어옴 → 새 상태를 다음 batch에서 반영
+            }
+        }
+        return batch;
+    }
+
+    private void apply(List<Map.Entry<LikeKey, Boolean>> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(batch));
+        } catch (RuntimeException e) {
+            // 📌 batch 전체가 실패하면 한 건씩 다시 시도 (삭제된 트윗 등 실패하는 건만 버림)
+            log.warn("좋아요 batch 반영에 실패했습니다. 한 건씩 다시 시도합니다. ({}건)", batch.size(), e);
+            for (Map.Entry<LikeKey, Boolean> entry : batch) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> write(List.of(entry)));
+                } catch (RuntimeException single) {
+                    dropped.increment();
+                    log.warn("좋아요를 반영하지 못해 버립니다. (userId={}, tweetId={}, liked={})",
+                            entry.getKey().userId, entry.getKey().tweetId, entry.getValue(), single);
+                }
+            }
+        } finally {
+            for (Map.Entry<LikeKey, Boolean> entry : batch) {
+                inFlight.remove(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    // 현재 DB 상태를 한 번에 읽고, 상태가 바뀌는 쌍만 INSERT/DELETE (좋아요 후 취소처럼 결과가 같은 쌍은 건너뜀)
+    private void write(List<Map.Entry<LikeKey, Boolean>> batch) {
+        Set<Long> userIds = new HashSet<>();
+        Set<Long> tweetIds = new HashSet<>();
+        for (Map.Entry<LikeKey, Boolean> entry : batch) {
+            userIds.add(entry.getKey().userId);
+            tweetIds.add(entry.getKey().tweetId);
+        }
+        Set<LikeKey> existing = new HashSet<>();
+        for (long[] pair : engagementLinkRepository.findExisting(EngagementLink.LIKE, userIds, tweetIds)) {
+            existing.add(new LikeKey(pair[0], pair[1]));
+        }
+
+        List<long[]> toInsert = new ArrayList<>();
+        List<long[]> toDelete = new ArrayList<>();
+        for (Map.Entry<LikeKey, Boolean> entry : batch) {
+            LikeKey key = entry.getKey();
+            if (entry.getValue() && !existing.contains(key)) {
+                toInsert.add(new long[]{key.userId, key.tweetId});
+            } else if (!entry.getValue() && existing.contains(key)) {
+                toDelete.add(new long[]{key.userId, key.tweetId});
+            }
+        }
+
+        // 📌 읽은 뒤 다른 경로(write-behind를 끈 다른 인스턴스 등)가 먼저 바꾼 쌍은 0행이므로, 실제로 바뀐 쌍만 사용
+        List<long[]> insertedPairs = toInsert.isEmpty() ? List.of() : engagementLinkRepository.insertAll(EngagementLink.LIKE, toInsert);
+        List<long[]> deletedPairs = toDelete.isEmpty() ? List.of() : engagementLinkRepository.deleteAll(EngagementLink.LIKE, toDelete);
+
+        // 바뀐 쌍만큼 좋아요 수 증감 (카운터 서비스가 커밋 후 반영)
+        insertedPairs.forEach(pair -> engagementCounterService.increment(pair[1], EngagementType.LIKE, 1));
+        deletedPairs.forEach(pair -> engagementCounterService.increment(pair[1], EngagementType.LIKE, -1));
+        inserted.increment(insertedPairs.size());
+        deleted.increment(deletedPairs.size());
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static final class LikeKey {
+        private final long userId;
+        private final long tweetId;
+    }
+}
@@ -0,0 +1,355 @@
+package com.langjoo.prac.search.index;
+
+import com.langjoo.prac.tweet.dto.SearchSort;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 📌 JVM 힙 안에 역색인을 보관하는 기본 구현체
+// - 토큰별 posting: 트윗 ID 오름차순 long 배열 + 트윗 안에서의 토큰 위치(int 배열)
+// - 검색: 가장 짧은 posting을 기준으로 나머지 토큰을 이진 탐색 → 위치가 연속되는 경우만 일치 (단어/구 검색)
+// - 점수: BM25 (드문 단어가 많이 나올수록, 짧은 트윗일수록 높음)
+// 조회는 동시에, 색인 변경은 한 번에 하나씩 처리합니다. (ReadWriteLock)
+@Component
+public class InMemoryTweetSearchIndex implements TweetSearchIndex {
+
+    // BM25 파라미터 (일반적으로 쓰이는 기본값)
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, IndexedTweet> documents = new HashMap<>();
+    private long totalLength;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // -------------------------------------------------------------
+    // 1. 색인 변경
+    // -------------------------------------------------------------
+    @Override
+    public void index(TweetDocument document) {
+        // 1. 토큰 → 위치 목록 (토크나이저가 위치 오름차순으로 반환하므로 정렬되어 있음)
+        List<NGramTokenizer.Token> tokens = NGramTokenizer.tokenizeForIndex(document.getContent());
+        Map<String, List<Integer>> positionsByTerm = new LinkedHashMap<>();
+        for (NGramTokenizer.Token token : tokens) {
+            positionsByTerm.computeIfAbsent(token.getTerm(), term -> new ArrayList<>()).add(token.getPosition());
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(document.getTweetId());
+            if (tokens.isEmpty()) {
+                return; // 본문이 없는 트윗(순수 리트윗)은 키워드로 찾을 수 없음
+            }
+
+            // 2. 토큰별 posting에 추가
+            for (Map.Entry<String, List<Integer>> entry : positionsByTerm.entrySet()) {
+                int[] positions = entry.getValue().stream().mapToInt(Integer::intValue).toArray();
+                postings.computeIfAbsent(entry.getKey(), term -> new Postings())
+                        .add(document.getTweetId(), positions);
+            }
+            documents.put(document.getTweetId(), new IndexedTweet(
+                    document.getUserId(),
+                    tokens.size(),
+                    positionsByTerm.keySet().toArray(new String[0])));
+            totalLength += tokens.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long tweetId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(tweetId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeInternal(Long tweetId) {
+        IndexedTweet document = documents.remove(tweetId);
+        if (document == null) {
+            return;
+        }
+        for (String term : document.terms) {
+            Postings termPostings = postings.get(term);
+            if (termPostings != null && termPostings.remove(tweetId) && termPostings.size == 0) {
+                postings.remove(term);
+            }
+        }
+        totalLength -= document.length;
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // -------------------------------------------------------------
+    // 2. 검색
+    // -------------------------------------------------------------
+    @Override
+    public List<SearchHit> search(SearchQuery query) {
+        List<List<NGramTokenizer.Token>> segments = NGramTokenizer.parseQuery(query.getKeyword());
+        if (segments.isEmpty() || query.getLimit() <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            // 1. 드문 조각부터 일치하는 트윗을 찾고, 다음 조각은 앞에서 찾은 트윗 안에서만 확인 (교집합)
+            segments.sort(Comparator.comparingInt(this::documentFrequency));
+            List<Map<Long, Integer>> termFrequencies = new ArrayList<>(segments.size());
+            Map<Long, Integer> candidates = null;
+            for (List<NGramTokenizer.Token> segment : segments) {
+                candidates = match(segment, candidates);
+                if (candidates.isEmpty()) {
+                    return List.of();
+                }
+                termFrequencies.add(candidates);
+            }
+
+            // 2. 필터 → 점수 계산 → 커서 이후 상위 limit개
+            double averageLength = (double) totalLength / documents.size();
+            double[] idf = new double[segments.size()];
+            for (int i = 0; i < segments.size(); i++) {
+                double df = documentFrequency(segments.get(i));
+                idf[i] = Math.log(1 + (documents.size() - df + 0.5) / (df + 0.5));
+            }
+
+            Comparator<SearchHit> order = comparator(query.getSort());
+            SearchHit cursor = cursorOf(query);
+            // 힙의 머리에 "지금까지 고른 것 중 가장 뒤에 올 결과"가 오도록 역순으로 유지
+            PriorityQueue<SearchHit> top = new PriorityQueue<>(Math.min(query.getLimit(), candidates.size()) + 1, order.reversed());
+
+            for (Long tweetId : candidates.keySet()) {
+                IndexedTweet document = documents.get(tweetId);
+                if (!matchesFilters(document, tweetId, query)) {
+                    continue;
+                }
+
+                double score = 0;
+                double lengthNorm = K1 * (1 - B + B * document.length / averageLength);
+                for (int i = 0; i < segments.size(); i++) {
+                    int tf = termFrequencies.get(i).get(tweetId);
+                    score += idf[i] * tf * (K1 + 1) / (tf + lengthNorm);
+                }
+
+                SearchHit hit = new SearchHit(tweetId, score);
+                if (order.compare(hit, cursor) <= 0) {
+                    continue; // 이전 페이지에서 이미 내려준 결과
+                }
+                top.add(hit);
+                if (top.size() > query.getLimit()) {
+                    top.poll();
+                }
+            }
+
+            List<SearchHit> result = new ArrayList<>(top);
+            result.sort(order);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 조각(단어/구)의 토큰이 모두 연속된 위치에 있는 트윗 → 등장 횟수
+    private Map<Long, Integer> match(List<NGramTokenizer.Token> segment, Map<Long, Integer> candidates) {
+        Postings[] lists = new Postings[segment.size()];
+        int driver = 0;
+        for (int i = 0; i < segment.size(); i++) {
+            lists[i] = postings.get(segment.get(i).getTerm());
+            if (lists[i] == null) {
+                return Map.of();
+            }
+            if (lists[i].size < lists[driver].size) {
+                driver = i;
+            }
+        }
+
+        Map<Long, Integer> matched = new HashMap<>();
+        Postings driverPostings = lists[driver];
+        if (candidates != null && candidates.size() < driverPostings.size) {
+            // 후보가 더 적으면 후보 기준으로 확인
+            for (Long tweetId : candidates.keySet()) {
+                int index = driverPostings.indexOf(tweetId);
+                if (index >= 0) {
+                    countOccurrences(segment, lists, driver, index, tweetId, matched);
+                }
+            }
+        } else {
+            for (int index = 0; index < driverPostings.size; index++) {
+                long tweetId = driverPostings.tweetIds[index];
+                if (candidates == null || candidates.containsKey(tweetId)) {
+                    countOccurrences(segment, lists, driver, index, tweetId, matched);
+                }
+            }
+        }
+        return matched;
+    }
+
+    private void countOccurrences(List<NGramTokenizer.Token> segment, Postings[] lists, int driver,
+                                  int driverIndex, long tweetId, Map<Long, Integer> matched) {
+        int[][] positions = new int[lists.length][];
+        for (int i = 0; i < lists.length; i++) {
+            int index = i == driver ? driverIndex : lists[i].indexOf(tweetId);
+            if (index < 0) {
+                return;
+            }
+            positions[i] = lists[i].positions[index];
+        }
+
+        // 기준 토큰의 위치마다 조각의 시작 위치를 계산하고, 다른 토큰이 같은 간격에 있는지 확인
+        int count = 0;
+        int driverOffset = segment.get(driver).getPosition();
+        for (int driverPosition : positions[driver]) {
+            int start = driverPosition - driverOffset;
+            boolean all = true;
+            for (int i = 0; i < lists.length && all; i++) {
+                all = i == driver || Arrays.binarySearch(positions[i], start + segment.get(i).getPosition()) >= 0;
+            }
+            if (all) {
+                count++;
+            }
+        }
+        if (count > 0) {
+            matched.put(tweetId, count);
+        }
+    }
+
+    // 조각이 등장하는 트윗 수의 추정값 (가장 드문 토큰의 posting 길이)
+    private int documentFrequency(List<NGramTokenizer.Token> segment) {
+        int min = Integer.MAX_VALUE;
+        for (NGramTokenizer.Token token : segment) {
+            Postings termPostings = postings.get(token.getTerm());
+            min = Math.min(min, termPostings == null ? 0 : termPostings.size);
+        }
+        return min;
+    }
+
+    private static boolean matchesFilters(IndexedTweet document, Long tweetId, SearchQuery query) {
+        if (query.getUserId() != null && !query.getUserId().equals(document.userId)) {
+            return false;
+        }
+        if (query.getTweetIds() != null && !query.getTweetIds().contains(tweetId)) {
+            return false;
+        }
+        // 기간: 트윗 ID(Snowflake)가 생성 시각순이므로 ID 범위로 비교
+        return tweetId >= query.getMinTweetId() && tweetId < query.getMaxTweetIdExclusive();
+    }
+
+    // 정렬 기준: 앞에 올수록 작음 (최신순은 트윗 ID(시간순) 내림차순)
+    private static Comparator<SearchHit> comparator(SearchSort sort) {
+        Comparator<SearchHit> newestFirst = Comparator.comparing(SearchHit::getTweetId, Comparator.reverseOrder());
+        return sort == SearchSort.LATEST
+                ? newestFirst
+                : Comparator.comparingDouble(SearchHit::getScore).reversed().thenComparing(newestFirst);
+    }
+
+    // 커서를 같은 비교 기준으로 쓰기 위해 가상의 결과로 변환
+    private static SearchHit cursorOf(SearchQuery query) {
+        if (query.getSort() == SearchSort.LATEST) {
+            return new SearchHit(query.getLatestCursor().getTweetId(), 0);
+        }
+        return new SearchHit(query.getRelevanceCursor().getTweetId(), query.getRelevanceCursor().getScore());
+    }
+
+    @Override
+    public int documentCount() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // -------------------------------------------------------------
+    // 📌 색인된 트윗 한 건 (필터/점수 계산용 값 + 삭제 시 posting을 찾기 위한 토큰 목록)
+    // -------------------------------------------------------------
+    private static final class IndexedTweet {
+
+        private final Long userId;
+        private final int length;
+        private final String[] terms;
+
+        private IndexedTweet(Long userId, int length, String[] terms) {
+            this.userId = userId;
+            this.length = length;
+            this.terms = terms;
+        }
+    }
+
+    // -------------------------------------------------------------
+    // 📌 토큰 하나의 posting 목록: 트윗 ID 오름차순 primitive 배열 (Long 박싱 없이 보관)
+    // 트윗 ID는 대부분 증가하는 순서로 들어오므로 삽입은 보통 배열 끝에 붙는 것으로 끝납니다.
+    // -------------------------------------------------------------
+    static final class Postings {
+
+        private long[] tweetIds = new long[4];
+        private int[][] positions = new int[4][];
+        private int size;
+
+        void add(long tweetId, int[] tweetPositions) {
+            int index = indexOf(tweetId);
+            if (index >= 0) {
+                positions[index] = tweetPositions;
+                return;
+            }
+            int insertAt = -(index + 1);
+            if (size == tweetIds.length) {
+                int capacity = size + (size >> 1) + 1;
+                tweetIds = Arrays.copyOf(tweetIds, capacity);
+                positions = Arrays.copyOf(positions, capacity);
+            }
+            System.arraycopy(tweetIds, insertAt, tweetIds, insertAt + 1, size - insertAt);
+            System.arraycopy(positions, insertAt, positions, insertAt + 1, size - insertAt);
+            tweetIds[insertAt] = tweetId;
+            positions[insertAt] = tweetPositions;
+            size++;
+        }
+
+        boolean remove(long tweetId) {
+            int index = indexOf(tweetId);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(tweetIds, index + 1, tweetIds, index, size - index - 1);
+            System.arraycopy(positions, index + 1, positions, index, size - index - 1);
+            positions[--size] = null;
+            return true;
+        }
+
+        int indexOf(long tweetId) {
+            return Arrays.binarySearch(tweetIds, 0, size, tweetId);
+        }
+    }
+}
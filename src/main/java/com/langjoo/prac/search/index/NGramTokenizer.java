@@ -0,0 +1,127 @@
+package com.langjoo.prac.search.index;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// 📌 검색용 토크나이저
+// - 정규화: NFKC + 소문자, 글자/숫자가 아닌 문자열은 공백 하나로 치환
+// - 한글/한자/가나: 띄어쓰기 단위로는 조사가 붙어 있어 부분 검색이 안 되므로 글자 n-gram으로 분리
+//   색인 시 1-gram + 2-gram, 검색 시 2-gram(한 글자 검색어는 1-gram)을 위치와 함께 비교하여 "연속된 부분 문자열"을 찾음
+// - 그 외(영문/숫자): 단어 단위로 일치 (예전 LIKE '%검색어%'와 달리 부분 문자열은 찾지 않음: "hello"로 "helloworld"는 검색되지 않음)
+// 토큰 위치는 정규화된 문자열에서의 글자 위치이므로, 같은 간격으로 이어지는지로 구(phrase)를 판별합니다.
+public final class NGramTokenizer {
+
+    private NGramTokenizer() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static final class Token {
+        private final String term;
+        private final int position;
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(normalized.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && sb.length() > 0) {
+                    sb.append(' ');
+                }
+                pendingSpace = false;
+                sb.append(c);
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return sb.toString();
+    }
+
+    // 색인용 토큰 (1-gram + 2-gram)
+    public static List<Token> tokenizeForIndex(String text) {
+        return tokenize(normalize(text), true);
+    }
+
+    // 검색어 한 조각(단어 또는 구)의 토큰, 위치는 조각 시작 기준
+    public static List<Token> tokenizeForQuery(String text) {
+        return tokenize(normalize(text), false);
+    }
+
+    // 📌 검색어 → 조각 목록: 큰따옴표로 감싼 부분은 하나의 구, 나머지는 공백 단위 단어 (모든 조각이 포함되어야 함)
+    // 예: 안녕 "좋은 아침" → [안녕], [좋은 아침]
+    public static List<List<Token>> parseQuery(String keyword) {
+        List<List<Token>> segments = new ArrayList<>();
+        if (keyword == null) {
+            return segments;
+        }
+        String[] parts = keyword.split("\"", -1);
+        for (int i = 0; i < parts.length; i++) {
+            // 짝수 번째: 따옴표 밖, 홀수 번째: 따옴표 안 (닫히지 않은 따옴표는 끝까지 구로 취급)
+            List<String> pieces = i % 2 == 0 ? List.of(parts[i].trim().split("\\s+")) : List.of(parts[i]);
+            for (String piece : pieces) {
+                List<Token> tokens = tokenizeForQuery(piece);
+                if (!tokens.isEmpty()) {
+                    segments.add(tokens);
+                }
+            }
+        }
+        return segments;
+    }
+
+    private static List<Token> tokenize(String normalized, boolean forIndex) {
+        List<Token> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < normalized.length()) {
+            char c = normalized.charAt(i);
+            if (c == ' ') {
+                i++;
+                continue;
+            }
+            // 같은 종류(n-gram 대상 / 단어 대상)의 글자가 이어지는 구간을 하나의 run으로 처리
+            boolean ngram = isNGramScript(c);
+            int end = i + 1;
+            while (end < normalized.length()
+                    && normalized.charAt(end) != ' '
+                    && isNGramScript(normalized.charAt(end)) == ngram) {
+                end++;
+            }
+
+            if (!ngram) {
+                tokens.add(new Token(normalized.substring(i, end), i));
+            } else if (forIndex || end - i == 1) {
+                for (int p = i; p < end; p++) {
+                    tokens.add(new Token(normalized.substring(p, p + 1), p));
+                    if (forIndex && p + 1 < end) {
+                        tokens.add(new Token(normalized.substring(p, p + 2), p));
+                    }
+                }
+            } else {
+                for (int p = i; p + 1 < end; p++) {
+                    tokens.add(new Token(normalized.substring(p, p + 2), p));
+                }
+            }
+            i = end;
+        }
+        return tokens;
+    }
+
+    private static boolean isNGramScript(char c) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(c);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
@@ -0,0 +1,15 @@
+package com.langjoo.prac.search.index;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 📌 검색 결과 한 건: 트윗 ID + 정렬/다음 커서 계산에 필요한 값
+@Getter
+@RequiredArgsConstructor
+public class SearchHit {
+
+    private final Long tweetId;
+
+    // 관련도 점수 (BM25)
+    private final double score;
+}
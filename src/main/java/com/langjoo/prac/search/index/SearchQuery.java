@@ -0,0 +1,43 @@
+package com.langjoo.prac.search.index;
+
+import com.langjoo.prac.tweet.dto.RelevanceCursor;
+import com.langjoo.prac.tweet.dto.SearchSort;
+import com.langjoo.prac.tweet.dto.TweetCursor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Set;
+
+// 📌 색인 검색 조건
+@Getter
+@Builder
+public class SearchQuery {
+
+    // 검색어 (큰따옴표로 감싼 부분은 구 검색)
+    private final String keyword;
+
+    // 📌 기간을 변환한 트윗 ID 범위 [minTweetId, maxTweetIdExclusive) (TweetSearchRequest, DB 조회와 같은 기준)
+    @Builder.Default
+    private final long minTweetId = 0L;
+
+    @Builder.Default
+    private final long maxTweetIdExclusive = Long.MAX_VALUE;
+
+    // 작성자 제한 (null이면 전체)
+    private final Long userId;
+
+    // 검색 대상 트윗 ID 제한 (예: 내가 북마크한 트윗, null이면 전체)
+    private final Set<Long> tweetIds;
+
+    @Builder.Default
+    private final SearchSort sort = SearchSort.RELEVANCE;
+
+    // 정렬 기준에 맞는 커서 (RELEVANCE → relevanceCursor, LATEST → latestCursor)
+    @Builder.Default
+    private final RelevanceCursor relevanceCursor = RelevanceCursor.FIRST;
+
+    @Builder.Default
+    private final TweetCursor latestCursor = TweetCursor.FIRST;
+
+    private final int limit;
+}
@@ -0,0 +1,19 @@
+package com.langjoo.prac.search.index;
+
+import lombok.Getter;
+
+// 📌 검색 색인에 넣을 트윗 정보 (본문 + 필터/정렬에 필요한 값만)
+@Getter
+public class TweetDocument {
+
+    private final Long tweetId;
+    private final Long userId;
+    private final String content;
+
+    // JPQL 생성자 표현식(SELECT new ...)에서 사용
+    public TweetDocument(Long tweetId, Long userId, String content) {
+        this.tweetId = tweetId;
+        this.userId = userId;
+        this.content = content;
+    }
+}
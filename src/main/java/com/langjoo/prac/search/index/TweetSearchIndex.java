@@ -0,0 +1,25 @@
+package com.langjoo.prac.search.index;
+
+import java.util.List;
+
+// 📌 트윗 본문 전문 검색 색인 (역색인: 토큰 → 트윗 ID 목록)
+// 구현체를 교체할 수 있도록 인터페이스로 분리합니다. (기본: InMemoryTweetSearchIndex, 추후 Lucene/Elasticsearch 등)
+public interface TweetSearchIndex {
+
+    // 1. 트윗 색인 (이미 색인된 트윗이면 교체)
+    void index(TweetDocument document);
+
+    // 2. 삭제된 트윗을 색인에서 제거
+    void remove(Long tweetId);
+
+    // 3. 색인 전체 비우기 (재구성 전)
+    void clear();
+
+    // 4. 조건에 맞는 트윗을 정렬 기준에 따라 커서 이후부터 limit개 조회
+    List<SearchHit> search(SearchQuery query);
+
+    // 5. 색인된 트윗 수 / 토큰 종류 수 (지표용)
+    int documentCount();
+
+    int termCount();
+}
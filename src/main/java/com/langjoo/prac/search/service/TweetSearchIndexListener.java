@@ -0,0 +1,60 @@
+package com.langjoo.prac.search.service;
+
+import com.langjoo.prac.domain.Tweet;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+// 📌 Tweet 엔티티가 저장/삭제될 때 검색 색인을 갱신하는 Hibernate 이벤트 리스너
+// 작성/리트윗/삭제 등 트윗을 저장하는 모든 경로를 빠짐없이 반영하기 위해 서비스가 아닌 엔티티 단위로 연결합니다.
+// Tweet(domain)이 검색 패키지를 참조하지 않도록 @EntityListeners 대신 이쪽에서 EntityManagerFactory에 등록
+// (TweetSearchService가 리포지토리를 통해 EntityManagerFactory에 의존하므로 서비스는 실제 사용 시점에 가져옴)
+@Component
+public class TweetSearchIndexListener implements PostInsertEventListener, PostDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ObjectProvider<TweetSearchService> tweetSearchService;
+
+    public TweetSearchIndexListener(EntityManagerFactory entityManagerFactory,
+                                    ObjectProvider<TweetSearchService> tweetSearchService) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.tweetSearchService = tweetSearchService;
+    }
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Tweet tweet) {
+            tweetSearchService.getObject().index(tweet);
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Tweet tweet) {
+            tweetSearchService.getObject().remove(tweet.getId());
+        }
+    }
+
+    // 💡 색인은 @PostPersist/@PostRemove와 같은 시점(INSERT/DELETE 실행 직후)에 갱신
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+}
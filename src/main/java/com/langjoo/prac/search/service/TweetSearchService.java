@@ -0,0 +1,19 @@
+package com.langjoo.prac.search.service;
+
+import com.langjoo.prac.domain.Tweet;
+import com.langjoo.prac.search.index.SearchHit;
+import com.langjoo.prac.search.index.SearchQuery;
+
+import java.util.List;
+
+public interface TweetSearchService {
+
+    // 1. 키워드 검색 (정렬 기준에 따라 커서 이후 limit개, 트윗 ID + 점수)
+    List<SearchHit> search(SearchQuery query);
+
+    // 2. 신규 트윗을 색인에 추가 (트랜잭션 커밋 후 반영)
+    void index(Tweet tweet);
+
+    // 3. 삭제된 트윗을 색인에서 제거 (트랜잭션 커밋 후 반영)
+    void remove(Long tweetId);
+}
@@ -0,0 +1,80 @@
+package com.langjoo.prac.search.service;
+
+import static com.langjoo.prac.common.TransactionHooks.afterCommit;
+
+import com.langjoo.prac.domain.Tweet;
+import com.langjoo.prac.search.index.SearchHit;
+import com.langjoo.prac.search.index.SearchQuery;
+import com.langjoo.prac.search.index.TweetDocument;
+import com.langjoo.prac.search.index.TweetSearchIndex;
+import com.langjoo.prac.tweet.repository.TweetRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+// 📌 트윗 전문 검색: content LIKE '%keyword%' (매번 테이블 전체 스캔) 대신 역색인으로 검색
+// - 기동 시 DB의 트윗으로 색인을 한 번 구성하고, 이후에는 트윗 작성/삭제 시점에 증분 반영
+// - 색인은 트윗 ID만 돌려주므로 실제 트윗은 호출 측에서 ID로 조회
+@Service
+public class TweetSearchServiceImpl implements TweetSearchService {
+
+    // 기동 시 색인 구성에 사용하는 한 번에 읽는 트윗 수
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final TweetSearchIndex tweetSearchIndex;
+    private final TweetRepository tweetRepository;
+
+    // 📌 튜닝용 지표 (/actuator/metrics/search.*)
+    private final Timer searchTimer;
+
+    public TweetSearchServiceImpl(TweetSearchIndex tweetSearchIndex,
+                                  TweetRepository tweetRepository,
+                                  MeterRegistry meterRegistry) {
+        this.tweetSearchIndex = tweetSearchIndex;
+        this.tweetRepository = tweetRepository;
+
+        this.searchTimer = meterRegistry.timer("search.queries");
+        Gauge.builder("search.index.tweets", tweetSearchIndex, TweetSearchIndex::documentCount)
+                .register(meterRegistry);
+        Gauge.builder("search.index.terms", tweetSearchIndex, TweetSearchIndex::termCount)
+                .register(meterRegistry);
+    }
+
+    // 📌 웹 서버가 요청을 받기 전(빈 초기화 시점)에 색인을 구성하여 빈 검색 결과가 나가지 않도록 함
+    @PostConstruct
+    public void rebuild() {
+        tweetSearchIndex.clear();
+        Long lastId = 0L;
+        while (true) {
+            List<TweetDocument> documents = tweetRepository.findSearchDocumentsAfter(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            documents.forEach(tweetSearchIndex::index);
+            if (documents.size() < REBUILD_BATCH_SIZE) {
+                return;
+            }
+            lastId = documents.get(documents.size() - 1).getTweetId();
+        }
+    }
+
+    @Override
+    public List<SearchHit> search(SearchQuery query) {
+        return searchTimer.record(() -> tweetSearchIndex.search(query));
+    }
+
+    @Override
+    public void index(Tweet tweet) {
+        TweetDocument document = new TweetDocument(
+                tweet.getId(), tweet.getUser().getId(), tweet.getContent());
+        // 📌 트랜잭션이 커밋된 뒤에 반영 (롤백된 트윗이 검색되지 않도록)
+        afterCommit(() -> tweetSearchIndex.index(document));
+    }
+
+    @Override
+    public void remove(Long tweetId) {
+        afterCommit(() -> tweetSearchIndex.remove(tweetId));
+    }
+}
@@ -0,0 +1,24 @@
+package com.langjoo.prac.timeline.service;
+
+import com.langjoo.prac.domain.Tweet;
+import com.langjoo.prac.timeline.store.TimelineEntry;
+import com.langjoo.prac.tweet.dto.TweetCursor;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface TimelineService {
+
+    // 1. 홈 타임라인에서 커서 이후의 트윗 limit개 조회 (최신순, 트윗 ID만)
+    // 저장소가 해당 구간을 보관하고 있지 않으면 Optional.empty() → 호출 측에서 DB 조회로 대체
+    Optional<List<TimelineEntry>> readTimeline(Long userId, TweetCursor cursor, int limit);
+
+    // 2. 신규 트윗(일반/답글/리트윗)을 작성자와 팔로워들의 타임라인에 배포 (fan-out-on-write)
+    void fanOut(Tweet tweet);
+
+    // 3. 삭제된 트윗을 작성자와 팔로워들의 타임라인에서 제거
+    void retract(Tweet tweet);
+
+    // 4. 팔로우 관계가 바뀐 유저의 타임라인 무효화 (다음 조회 시 재구성)
+    void invalidate(Long userId);
+}
@@ -0,0 +1,261 @@
+package com.langjoo.prac.timeline.service;
+
+import static com.langjoo.prac.common.TransactionHooks.afterCommit;
+
+import com.langjoo.prac.common.datasource.PrimaryReads;
+import com.langjoo.prac.domain.Tweet;
+import com.langjoo.prac.domain.User;
+import com.langjoo.prac.follow.graph.FollowGraph;
+import com.langjoo.prac.follow.graph.LongIdSet;
+import com.langjoo.prac.timeline.store.TimelineEntry;
+import com.langjoo.prac.timeline.store.TimelineStore;
+import com.langjoo.prac.tweet.dto.TweetCursor;
+import com.langjoo.prac.tweet.repository.TweetRepository;
+import com.langjoo.prac.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+// 📌 하이브리드(push/pull) 홈 타임라인
+// - 일반 유저의 트윗: 작성 시점에 팔로워 타임라인으로 push (fan-out-on-write)
+// - 팔로워 수가 threshold를 넘는 유저(셀럽)의 트윗: push하지 않고, 조회 시점에 pull 하여 병합
+@Service
+public class TimelineServiceImpl implements TimelineService {
+
+    private final TimelineStore timelineStore;
+    private final TweetRepository tweetRepository;
+    private final FollowGraph followGraph; // 📌 팔로잉/팔로워 ID (DB 조회 없이 메모리에서)
+    private final UserRepository userRepository;
+    private final PrimaryReads primaryReads;
+
+    // 팔로워 수가 이 값을 초과하면 pull 대상 (셀럽)
+    private final long celebrityFollowerThreshold;
+
+    // 현재 pull 대상으로 분류된 유저 ID (작성/조회 양쪽에서 같은 분류를 사용해야 누락이 없음)
+    private final Set<Long> celebrityIds = ConcurrentHashMap.newKeySet();
+
+    // 📌 튜닝용 지표 (/actuator/metrics/timeline.*)
+    private final Counter pushedWrites;
+    private final Counter pulledWrites;
+    private final Counter fanOutDeliveries;
+    private final Counter pushReads;
+    private final Counter hybridReads;
+    private final Counter fallbackReads;
+
+    public TimelineServiceImpl(TimelineStore timelineStore,
+                               TweetRepository tweetRepository,
+                               FollowGraph followGraph,
+                               UserRepository userRepository,
+                               PrimaryReads primaryReads,
+                               MeterRegistry meterRegistry,
+                               @Value("${timeline.celebrity-follower-threshold:10000}") long celebrityFollowerThreshold) {
+        this.timelineStore = timelineStore;
+        this.tweetRepository = tweetRepository;
+        this.followGraph = followGraph;
+        this.userRepository = userRepository;
+        this.primaryReads = primaryReads;
+        this.celebrityFollowerThreshold = celebrityFollowerThreshold;
+
+        this.pushedWrites = meterRegistry.counter("timeline.writes", "mode", "push");
+        this.pulledWrites = meterRegistry.counter("timeline.writes", "mode", "pull");
+        this.fanOutDeliveries = meterRegistry.counter("timeline.fanout.deliveries");
+        this.pushReads = meterRegistry.counter("timeline.reads", "mode", "push");
+        this.hybridReads = meterRegistry.counter("timeline.reads", "mode", "hybrid");
+        this.fallbackReads = meterRegistry.counter("timeline.reads", "mode", "fallback");
+
+        Gauge.builder("timeline.celebrity.threshold", this, service -> service.celebrityFollowerThreshold)
+                .register(meterRegistry);
+        Gauge.builder("timeline.celebrity.authors", celebrityIds, Set::size)
+                .register(meterRegistry);
+    }
+
+    // 기동 시 현재 셀럽 목록을 한 번 적재 (이후에는 트윗 작성 시점에 갱신)
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadCelebrities() {
+        celebrityIds.addAll(userRepository.findIdsByFollowerCountGreaterThan(celebrityFollowerThreshold));
+    }
+
+    // -------------------------------------------------------------
+    // 1. 타임라인 조회: 저장소 slice + 셀럽 트윗 병합
+    // -------------------------------------------------------------
+    @Override
+    @Transactional(readOnly = true) // 📌 재구성/셀럽 조회는 여기서 끝나는 짧은 트랜잭션 → 호출한 쪽이 커넥션을 잡은 채로 동시 조회를 기다리지 않음
+    public Optional<List<TimelineEntry>> readTimeline(Long userId, TweetCursor cursor, int limit) {
+        // 1. 저장소에 없으면 DB에서 한 번만 재구성 (이후 요청은 키 조회로 끝남)
+        if (!timelineStore.isLoaded(userId)) {
+            rebuild(userId);
+        }
+
+        // 2. 저장소에서 커서 이후 구간을 slice
+        Optional<List<TimelineEntry>> pushed = timelineStore.range(userId, cursor, limit);
+        if (pushed.isEmpty()) {
+            fallbackReads.increment();
+            return Optional.empty();
+        }
+
+        // 3. 셀럽을 팔로우하지 않는 유저는 저장소 slice만으로 끝남
+        List<Long> pulledAuthorIds = findPulledAuthorIds(userId);
+        if (pulledAuthorIds.isEmpty()) {
+            pushReads.increment();
+            return pushed;
+        }
+
+        // 4. 셀럽 트윗은 같은 커서 이후로 limit개만 가져와 저장소의 트윗과 트윗 ID(시간순) 기준으로 병합
+        List<TimelineEntry> pulled = tweetRepository.findTimelineEntriesByUserIdIn(
+                pulledAuthorIds,
+                cursor.getTweetId(),
+                PageRequest.of(0, limit)
+        );
+
+        hybridReads.increment();
+        return Optional.of(merge(List.of(pushed.get(), pulled), limit));
+    }
+
+    private void rebuild(Long userId) {
+        // 📌 조회 전에 적재 중 표시를 먼저 넣음 → 조회하는 동안 커밋된 fan-out/삭제가 유실되지 않음
+        long loadToken = timelineStore.beginLoad(userId);
+        if (loadToken == TimelineStore.NO_LOAD) {
+            return;
+        }
+
+        // 📌 재구성은 팔로우/언팔로우·탈퇴 등으로 제거된 직후에 주로 일어나므로 primary에서 읽음
+        //    (replica의 변경 전 팔로우 목록으로 만든 타임라인은 다음 제거 전까지 그대로 남음)
+        List<TimelineEntry> entries = primaryReads.read(() -> findRebuildEntries(userId));
+        timelineStore.load(userId, loadToken, entries);
+    }
+
+    // 팔로우하는 일반 유저 + 본인의 최신 트윗을 capacity개까지 트윗 ID만 조회 (셀럽은 pull 대상이므로 제외)
+    private List<TimelineEntry> findRebuildEntries(Long userId) {
+        List<Long> authorIds = new ArrayList<>();
+        followGraph.followingIds(userId).forEach(authorId -> {
+            if (!celebrityIds.contains(authorId)) {
+                authorIds.add(authorId);
+            }
+        });
+        authorIds.add(userId);
+
+        return tweetRepository.findTimelineEntriesByUserIdIn(
+                authorIds,
+                TweetCursor.FIRST.getTweetId(),
+                PageRequest.of(0, timelineStore.capacity())
+        );
+    }
+
+    // 팔로우 중인 유저 중 셀럽으로 분류된 유저 ID (셀럽 목록이 팔로잉 목록보다 작으므로 셀럽 쪽을 순회)
+    private List<Long> findPulledAuthorIds(Long userId) {
+        if (celebrityIds.isEmpty()) {
+            return List.of();
+        }
+        LongIdSet followingIds = followGraph.followingIds(userId);
+        return celebrityIds.stream()
+                .filter(followingIds::contains)
+                .collect(Collectors.toList());
+    }
+
+    // 📌 k-way merge: 각 source는 트윗 ID(시간순) 내림차순으로 정렬되어 있어야 함
+    // 분류가 바뀌는 순간 같은 트윗이 push/pull 양쪽에 있을 수 있으므로 트윗 ID로 중복 제거
+    private List<TimelineEntry> merge(List<List<TimelineEntry>> sources, int limit) {
+        Comparator<TimelineEntry> newestFirst = Comparator.comparing(TimelineEntry::getTweetId, Comparator.reverseOrder());
+
+        // [source 번호, source 내 위치]를 힙에 넣고 각 source의 현재 head끼리 비교
+        PriorityQueue<int[]> heap = new PriorityQueue<>(
+                (a, b) -> newestFirst.compare(sources.get(a[0]).get(a[1]), sources.get(b[0]).get(b[1])));
+        for (int i = 0; i < sources.size(); i++) {
+            if (!sources.get(i).isEmpty()) {
+                heap.add(new int[]{i, 0});
+            }
+        }
+
+        List<TimelineEntry> result = new ArrayList<>(limit);
+        Set<Long> seen = new HashSet<>();
+        while (!heap.isEmpty() && result.size() < limit) {
+            int[] head = heap.poll();
+            List<TimelineEntry> source = sources.get(head[0]);
+            TimelineEntry entry = source.get(head[1]);
+
+            if (seen.add(entry.getTweetId())) {
+                result.add(entry);
+            }
+            if (head[1] + 1 < source.size()) {
+                heap.add(new int[]{head[0], head[1] + 1});
+            }
+        }
+        return result;
+    }
+
+    // -------------------------------------------------------------
+    // 2. 쓰기 시점 배포 (fan-out-on-write)
+    // -------------------------------------------------------------
+    @Override
+    public void fanOut(Tweet tweet) {
+        TimelineEntry entry = new TimelineEntry(tweet.getId());
+        Long authorId = tweet.getUser().getId();
+
+        // 📌 셀럽이면 팔로워에게 push하지 않음 (조회 시 pull), 본인 타임라인에만 반영
+        LongIdSet followerIds;
+        if (isCelebrity(tweet.getUser())) {
+            followerIds = LongIdSet.EMPTY;
+            pulledWrites.increment();
+        } else {
+            followerIds = followGraph.followerIds(authorId);
+            pushedWrites.increment();
+        }
+
+        // 📌 트랜잭션이 커밋된 뒤에 반영 (롤백된 트윗이 타임라인에 남지 않도록), 집합은 불변이므로 그대로 넘김
+        afterCommit(() -> {
+            followerIds.forEach(userId -> timelineStore.push(userId, entry));
+            timelineStore.push(authorId, entry);
+            fanOutDeliveries.increment(followerIds.size() + 1);
+        });
+    }
+
+    @Override
+    public void retract(Tweet tweet) {
+        Long tweetId = tweet.getId();
+        Long authorId = tweet.getUser().getId();
+
+        // 셀럽 여부와 관계없이 팔로워 타임라인에서 제거 (분류가 바뀌기 전에 push된 트윗일 수 있음)
+        LongIdSet followerIds = followGraph.followerIds(authorId);
+
+        afterCommit(() -> {
+            followerIds.forEach(userId -> timelineStore.remove(userId, tweetId));
+            timelineStore.remove(authorId, tweetId);
+        });
+    }
+
+    @Override
+    public void invalidate(Long userId) {
+        afterCommit(() -> timelineStore.evict(userId));
+    }
+
+    // 작성 시점에 팔로워 수를 확인하여 분류를 갱신 (User의 집계 컬럼 사용, COUNT 쿼리 없음)
+    private boolean isCelebrity(User author) {
+        Long authorId = author.getId();
+        boolean celebrity = author.getFollowerCount() > celebrityFollowerThreshold;
+
+        if (celebrity) {
+            celebrityIds.add(authorId);
+        } else if (celebrityIds.remove(authorId)) {
+            // 📌 셀럽 → 일반으로 바뀐 경우: 팔로워 타임라인에는 이 유저의 지난 트윗이 없으므로 재구성
+            LongIdSet followerIds = followGraph.followerIds(authorId);
+            afterCommit(() -> followerIds.forEach(timelineStore::evict));
+        }
+        return celebrity;
+    }
+}
@@ -0,0 +1,230 @@
+package com.langjoo.prac.timeline.store;
+
+import com.langjoo.prac.tweet.dto.TweetCursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 📌 JVM 힙 안에 타임라인을 보관하는 기본 구현체
+// - 유저 수: LRU 방식으로 max-users명까지만 유지
+// - 유저별 트윗 수: max-entries-per-user개까지만 유지 (오래된 트윗부터 밀려남)
+@Component
+public class InMemoryTimelineStore implements TimelineStore {
+
+    private final int maxEntriesPerUser;
+
+    // accessOrder = true → 조회할 때마다 순서가 갱신되어 LRU로 동작
+    private final Map<Long, Timeline> timelines;
+
+    // 적재마다 새 토큰 (0 = 적재 완료)
+    private final AtomicLong loadSequence = new AtomicLong();
+
+    public InMemoryTimelineStore(
+            @Value("${timeline.max-entries-per-user:800}") int maxEntriesPerUser,
+            @Value("${timeline.max-users:10000}") int maxUsers) {
+        this.maxEntriesPerUser = maxEntriesPerUser;
+        this.timelines = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Timeline> eldest) {
+                return size() > maxUsers;
+            }
+        };
+    }
+
+    private Timeline get(Long userId) {
+        synchronized (timelines) {
+            return timelines.get(userId);
+        }
+    }
+
+    @Override
+    public boolean isLoaded(Long userId) {
+        Timeline timeline = get(userId);
+        return timeline != null && timeline.isLoaded();
+    }
+
+    // 📌 적재 중 표시(빈 타임라인)를 먼저 넣어 두고, 조회하는 동안 도착한 push/remove를 여기에 받아 둠
+    // 이미 다른 요청이 적재 중이면 같은 토큰을 돌려줌 (먼저 끝난 쪽만 반영)
+    @Override
+    public long beginLoad(Long userId) {
+        synchronized (timelines) {
+            Timeline current = timelines.get(userId);
+            if (current != null) {
+                return current.loadToken; // 이미 적재됨(NO_LOAD) 또는 적재 중
+            }
+            Timeline loading = new Timeline(maxEntriesPerUser, loadSequence.incrementAndGet());
+            timelines.put(userId, loading);
+            return loading.loadToken;
+        }
+    }
+
+    @Override
+    public void load(Long userId, long loadToken, List<TimelineEntry> entries) {
+        if (loadToken == NO_LOAD) {
+            return;
+        }
+        // 적재 중 제거(evict, LRU)되었거나 다른 요청이 먼저 끝냈다면 get()이 다른 객체이거나 토큰이 맞지 않아 버려짐
+        Timeline timeline = get(userId);
+        if (timeline != null) {
+            timeline.finishLoad(loadToken, entries);
+        }
+    }
+
+    @Override
+    public void push(Long userId, TimelineEntry entry) {
+        Timeline timeline = get(userId);
+        if (timeline != null) {
+            timeline.add(entry.getTweetId());
+        }
+    }
+
+    @Override
+    public void remove(Long userId, Long tweetId) {
+        Timeline timeline = get(userId);
+        if (timeline != null) {
+            timeline.remove(tweetId);
+        }
+    }
+
+    @Override
+    public void evict(Long userId) {
+        synchronized (timelines) {
+            timelines.remove(userId);
+        }
+    }
+
+    @Override
+    public Optional<List<TimelineEntry>> range(Long userId, TweetCursor cursor, int limit) {
+        Timeline timeline = get(userId);
+        if (timeline == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(timeline.slice(cursor.getTweetId(), limit));
+    }
+
+    @Override
+    public int capacity() {
+        return maxEntriesPerUser;
+    }
+
+    // -------------------------------------------------------------
+    // 📌 유저 한 명의 타임라인: 트윗 ID(시간순) 내림차순으로 정렬된 primitive 배열
+    // Long 박싱 없이 보관하여 메모리 사용량을 줄입니다.
+    // -------------------------------------------------------------
+    static final class Timeline {
+
+        private final long[] tweetIds;
+        private int size;
+
+        // 보관 한도 때문에 잘려나간 트윗이 있는지 여부 (있다면 깊은 페이지는 DB에서 조회)
+        private boolean truncated;
+
+        // 📌 DB에서 적재 중이면 그 토큰 (NO_LOAD = 적재 완료), 적재 중에는 조회에 쓰지 않음
+        private long loadToken;
+        // 적재 중에 삭제된 트윗 (DB 조회 결과에 남아 있어도 다시 넣지 않음)
+        private Set<Long> removedWhileLoading;
+
+        Timeline(int capacity, long loadToken) {
+            this.tweetIds = new long[capacity];
+            this.loadToken = loadToken;
+            this.removedWhileLoading = new HashSet<>();
+        }
+
+        synchronized boolean isLoaded() {
+            return loadToken == NO_LOAD;
+        }
+
+        // DB 조회 결과를 적재 중에 받아 둔 push와 병합 (중복은 add()에서 걸러짐)
+        synchronized void finishLoad(long token, List<TimelineEntry> entries) {
+            if (loadToken != token) {
+                return;
+            }
+            for (TimelineEntry entry : entries) {
+                if (!removedWhileLoading.contains(entry.getTweetId())) {
+                    add(entry.getTweetId());
+                }
+            }
+            // DB에서 capacity만큼 꽉 채워 가져왔다면 그보다 오래된 트윗이 더 있을 수 있음
+            truncated |= entries.size() >= tweetIds.length;
+            loadToken = NO_LOAD;
+            removedWhileLoading = null;
+        }
+
+        synchronized void add(long tweetId) {
+            // 1. 삽입 위치 탐색 (최신순 유지, 새 트윗은 대부분 맨 앞)
+            int pos = 0;
+            while (pos < size && tweetIds[pos] > tweetId) {
+                pos++;
+            }
+            if (pos < size && tweetIds[pos] == tweetId) {
+                return; // 중복 push 방어
+            }
+
+            // 2. 가득 찼다면 가장 오래된 트윗을 밀어냄
+            if (size == tweetIds.length) {
+                if (pos == size) {
+                    truncated = true;
+                    return; // 보관 중인 어떤 트윗보다도 오래됨
+                }
+                size--;
+                truncated = true;
+            }
+
+            System.arraycopy(tweetIds, pos, tweetIds, pos + 1, size - pos);
+            tweetIds[pos] = tweetId;
+            size++;
+        }
+
+        synchronized void remove(long tweetId) {
+            if (loadToken != NO_LOAD) {
+                removedWhileLoading.add(tweetId);
+            }
+            for (int i = 0; i < size; i++) {
+                if (tweetIds[i] == tweetId) {
+                    System.arraycopy(tweetIds, i + 1, tweetIds, i, size - i - 1);
+                    size--;
+                    return;
+                }
+            }
+        }
+
+        // 커서보다 오래된 트윗부터 limit개, 요청 구간을 보관하고 있지 않다면 null
+        synchronized List<TimelineEntry> slice(long cursorTweetId, int limit) {
+            if (loadToken != NO_LOAD) {
+                return null;
+            }
+            int start = firstOlderThan(cursorTweetId);
+            if (truncated && start + limit > size) {
+                return null;
+            }
+            List<TimelineEntry> result = new ArrayList<>(Math.max(0, Math.min(limit, size - start)));
+            for (int i = start; i < size && i < start + limit; i++) {
+                result.add(new TimelineEntry(tweetIds[i]));
+            }
+            return result;
+        }
+
+        // 정렬되어 있으므로 이진 탐색으로 커서 위치를 찾음
+        private int firstOlderThan(long tweetId) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (tweetId > tweetIds[mid]) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.langjoo.prac.timeline.store;
+
+// 📌 long → long 해시 인덱스 (오픈 어드레싱, 선형 탐사)
+// 항목마다 객체(Entry, Long 박싱)를 만들지 않고 long 배열 두 개만 사용하므로 항목이 수백만 개여도 GC 부담이 거의 없음
+// - 키 0은 빈 칸 표시로 쓰므로 저장할 수 없음 (트윗 ID는 1부터 시작)
+// - 삭제 시 묘비(tombstone)를 남기지 않고 뒤따르는 항목을 당겨 채움 (backward shift) → 삭제가 많아도 탐사 길이가 늘지 않음
+// - 스레드 안전하지 않음 (OffHeapTweetStore의 락 안에서만 사용)
+class LongLongIndex {
+
+    static final long MISSING = -1L;
+
+    private static final float MAX_LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int size;
+
+    LongLongIndex(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, (int) (expectedSize / MAX_LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    int size() {
+        return size;
+    }
+
+    long get(long key) {
+        if (key == 0) {
+            return MISSING;
+        }
+        for (int i = slot(key); ; i = (i + 1) & mask) {
+            long k = keys[i];
+            if (k == key) {
+                return values[i];
+            }
+            if (k == 0) {
+                return MISSING;
+            }
+        }
+    }
+
+    // 이전 값 (없었으면 MISSING)
+    long put(long key, long value) {
+        if (key == 0) {
+            throw new IllegalArgumentException("키 0은 저장할 수 없습니다.");
+        }
+        for (int i = slot(key); ; i = (i + 1) & mask) {
+            long k = keys[i];
+            if (k == key) {
+                long previous = values[i];
+                values[i] = value;
+                return previous;
+            }
+            if (k == 0) {
+                keys[i] = key;
+                values[i] = value;
+                if (++size > keys.length * MAX_LOAD_FACTOR) {
+                    resize(keys.length << 1);
+                }
+                return MISSING;
+            }
+        }
+    }
+
+    // 이전 값 (없었으면 MISSING)
+    long remove(long key) {
+        for (int i = slot(key); ; i = (i + 1) & mask) {
+            long k = keys[i];
+            if (k == 0) {
+                return MISSING;
+            }
+            if (k == key) {
+                long previous = values[i];
+                shiftBack(i);
+                size--;
+                return previous;
+            }
+        }
+    }
+
+    // 빈 칸 gap 뒤에 이어지는 항목 중, 원래 자리(home)에서 gap을 지나쳐 온 항목을 gap으로 당김
+    private void shiftBack(int gap) {
+        for (int i = (gap + 1) & mask; ; i = (i + 1) & mask) {
+            long k = keys[i];
+            if (k == 0) {
+                break;
+            }
+            int home = slot(k);
+            // home이 (gap, i] 구간(원형)에 있으면 그대로 둬야 찾을 수 있음
+            boolean stays = gap <= i ? (gap < home && home <= i) : (gap < home || home <= i);
+            if (!stays) {
+                keys[gap] = k;
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+        keys[gap] = 0;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int j = slot(oldKeys[i]);
+                while (keys[j] != 0) {
+                    j = (j + 1) & mask;
+                }
+                keys[j] = oldKeys[i];
+                values[j] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        this.keys = new long[capacity];
+        this.values = new long[capacity];
+        this.mask = capacity - 1;
+    }
+
+    // 연속된 ID가 한곳에 몰리지 않도록 섞어서 슬롯 결정 (Fibonacci hashing)
+    private int slot(long key) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+}
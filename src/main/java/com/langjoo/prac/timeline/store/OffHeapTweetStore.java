@@ -0,0 +1,342 @@
+package com.langjoo.prac.timeline.store;
+
+import com.langjoo.prac.common.GlobalConstants;
+import com.langjoo.prac.domain.RetweetType;
+import com.langjoo.prac.tweet.dto.TweetResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 📌 타임라인에 노출되는 트윗의 바뀌지 않는 부분을 JVM 힙 밖(direct ByteBuffer)에 보관하는 저장소
+// 트윗 수백만 개를 힙에 객체로 들고 있으면 old gen이 커져 GC 멈춤이 길어지므로, 직렬화한 바이트로 슬랩에 담아 둡니다.
+// - 레코드: 트윗 ID, 작성자 ID, 타입, 리트윗 원본/답글 대상 ID, 작성 시각, 내용(UTF-8, 최대 TWEET_MAX_LENGTH자)
+//   카운트와 작성자 이름은 바뀌므로 담지 않음 → 조회하는 쪽에서 가벼운 조회로 채움
+// - 슬랩: slab-kb 크기의 direct ByteBuffer를 max-mb까지 필요할 때 할당, 레코드는 현재 슬랩 끝에 이어 붙임
+// - 인덱스: 트윗 ID → (슬랩 번호, 오프셋)을 long 하나로 담은 오픈 어드레싱 해시 (LongLongIndex)
+// - 슬랩이 모두 차면 하나를 비워 재사용
+//   1. 삭제/교체로 죽은 레코드가 절반 이상인 슬랩이 있으면 살아 있는 레코드만 앞으로 모아 압축 (compaction)
+//   2. 없으면 가장 오래 조회되지 않은 슬랩을 통째로 제거 (LRU, 레코드가 아닌 슬랩 단위)
+// 💡 get()은 매번 새 TweetResponse를 만들어 돌려주므로 호출하는 쪽에서 그대로 수정해도 됩니다.
+@Component
+public class OffHeapTweetStore {
+
+    // 레코드 배치 (바이트 오프셋)
+    private static final int LENGTH = 0;          // int: 레코드 전체 길이
+    private static final int TWEET_ID = 4;        // long
+    private static final int AUTHOR_ID = 12;      // long
+    private static final int ORIGINAL_ID = 20;    // long (없으면 0)
+    private static final int REPLY_TO_ID = 28;    // long (없으면 0)
+    private static final int CREATED_SECOND = 36; // long (UTC 기준 epoch 초, 없으면 Long.MIN_VALUE)
+    private static final int CREATED_NANO = 44;   // int
+    private static final int TYPE = 48;           // byte (RetweetType 순서, 없으면 -1)
+    private static final int CONTENT_LENGTH = 49; // short (없으면 -1)
+    private static final int CONTENT = 51;
+
+    // UTF-16 문자 하나는 UTF-8로 최대 3바이트 (서로게이트 쌍은 2문자 → 4바이트)
+    static final int MAX_RECORD_BYTES = CONTENT + GlobalConstants.TWEET_MAX_LENGTH * 3;
+
+    private static final RetweetType[] TYPES = RetweetType.values();
+
+    private final boolean enabled;
+    private final int slabBytes;
+    private final ByteBuffer[] slabs; // 필요할 때 할당
+    private final int[] usedBytes;    // 슬랩별 다음 레코드 위치
+    private final int[] liveBytes;    // 슬랩별 살아 있는 레코드 바이트 합
+    private final AtomicLongArray lastAccess; // 슬랩별 마지막 조회/추가 시점 (조회는 읽기 락만 잡으므로 원자적으로 기록)
+    private final AtomicLong clock = new AtomicLong();
+    private final LongLongIndex index;
+    private int allocatedSlabs;
+    private int activeSlab = -1;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 📌 튜닝용 지표 (/actuator/metrics/timeline.tweet-store)
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter compactions;
+    private final Counter evictions;
+    private final Counter evictedRecords;
+
+    @Autowired
+    public OffHeapTweetStore(MeterRegistry meterRegistry,
+                             @Value("${timeline.tweet-store.enabled:true}") boolean enabled,
+                             @Value("${timeline.tweet-store.max-mb:64}") int maxMegabytes,
+                             @Value("${timeline.tweet-store.slab-kb:1024}") int slabKilobytes) {
+        this(meterRegistry, enabled, (long) maxMegabytes << 20, slabKilobytes << 10);
+    }
+
+    OffHeapTweetStore(MeterRegistry meterRegistry, boolean enabled, long maxBytes, int slabBytes) {
+        this.enabled = enabled;
+        // 압축으로 비운 절반에 가장 긴 레코드가 들어가야 하므로 최소 크기를 보장, 슬랩은 2개 이상
+        this.slabBytes = Math.max(slabBytes, MAX_RECORD_BYTES * 4);
+        int slabCount = (int) Math.max(2, Math.min(Integer.MAX_VALUE, maxBytes / this.slabBytes));
+        this.slabs = new ByteBuffer[slabCount];
+        this.usedBytes = new int[slabCount];
+        this.liveBytes = new int[slabCount];
+        this.lastAccess = new AtomicLongArray(slabCount);
+        this.index = new LongLongIndex(1024);
+
+        this.hits = meterRegistry.counter("timeline.tweet-store", "result", "hit");
+        this.misses = meterRegistry.counter("timeline.tweet-store", "result", "miss");
+        this.compactions = meterRegistry.counter("timeline.tweet-store.reclaims", "type", "compaction");
+        this.evictions = meterRegistry.counter("timeline.tweet-store.reclaims", "type", "eviction");
+        this.evictedRecords = meterRegistry.counter("timeline.tweet-store.evicted-records");
+        Gauge.builder("timeline.tweet-store.records", index, LongLongIndex::size).register(meterRegistry);
+        Gauge.builder("timeline.tweet-store.off-heap-bytes", this, store -> (double) store.allocatedSlabs * store.slabBytes)
+                .register(meterRegistry);
+    }
+
+    // -------------------------------------------------------------
+    // 조회
+    // -------------------------------------------------------------
+
+    public TweetResponse get(Long tweetId) {
+        return getAll(List.of(tweetId)).get(tweetId);
+    }
+
+    // 저장소에 있는 트윗만 담아서 반환 (카운트/작성자 이름/답글 대상 작성자 이름은 비어 있음)
+    public Map<Long, TweetResponse> getAll(Collection<Long> tweetIds) {
+        Map<Long, TweetResponse> found = new HashMap<>();
+        if (!enabled) {
+            return found;
+        }
+        lock.readLock().lock();
+        try {
+            long now = clock.incrementAndGet();
+            for (Long tweetId : tweetIds) {
+                long location = index.get(tweetId);
+                if (location == LongLongIndex.MISSING) {
+                    continue;
+                }
+                int slab = slabOf(location);
+                lastAccess.set(slab, now);
+                found.put(tweetId, decode(slabs[slab], offsetOf(location)));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        hits.increment(found.size());
+        misses.increment(tweetIds.size() - found.size());
+        return found;
+    }
+
+    // -------------------------------------------------------------
+    // 추가 / 제거
+    // -------------------------------------------------------------
+
+    // 이미 있으면 교체 (내용이 너무 길어 담을 수 없는 트윗은 저장하지 않고 매번 DB에서 조회)
+    public void put(TweetResponse response) {
+        if (!enabled || response.getTweetId() == null || response.getTweetId() <= 0) {
+            return;
+        }
+        byte[] content = response.getContent() == null ? null : response.getContent().getBytes(StandardCharsets.UTF_8);
+        int recordBytes = CONTENT + (content == null ? 0 : content.length);
+        if (recordBytes > MAX_RECORD_BYTES) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            long previous = index.remove(response.getTweetId());
+            if (previous != LongLongIndex.MISSING) {
+                markDead(previous);
+            }
+            long location = allocate(recordBytes);
+            encode(slabs[slabOf(location)], offsetOf(location), recordBytes, response, content);
+            index.put(response.getTweetId(), location);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 트윗/리트윗 삭제 (자리는 압축할 때 회수)
+    public void remove(Long tweetId) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            long previous = index.remove(tweetId);
+            if (previous != LongLongIndex.MISSING) {
+                markDead(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // -------------------------------------------------------------
+    // 슬랩 관리 (쓰기 락 안에서만 호출)
+    // -------------------------------------------------------------
+
+    private long allocate(int recordBytes) {
+        if (activeSlab < 0 || usedBytes[activeSlab] + recordBytes > slabBytes) {
+            activeSlab = allocatedSlabs < slabs.length ? newSlab() : reclaim();
+        }
+        int offset = usedBytes[activeSlab];
+        usedBytes[activeSlab] += recordBytes;
+        liveBytes[activeSlab] += recordBytes;
+        lastAccess.set(activeSlab, clock.incrementAndGet());
+        return location(activeSlab, offset);
+    }
+
+    private int newSlab() {
+        slabs[allocatedSlabs] = ByteBuffer.allocateDirect(slabBytes);
+        return allocatedSlabs++;
+    }
+
+    // 1. 죽은 레코드가 가장 많은 슬랩이 절반 이상 비어 있으면 압축  2. 아니면 가장 오래 조회되지 않은 슬랩을 제거
+    private int reclaim() {
+        int mostFragmented = 0;
+        int leastRecentlyUsed = 0;
+        for (int slab = 1; slab < allocatedSlabs; slab++) {
+            if (deadBytes(slab) > deadBytes(mostFragmented)) {
+                mostFragmented = slab;
+            }
+            if (lastAccess.get(slab) < lastAccess.get(leastRecentlyUsed)) {
+                leastRecentlyUsed = slab;
+            }
+        }
+
+        if (deadBytes(mostFragmented) * 2 >= slabBytes) {
+            compact(mostFragmented);
+            compactions.increment();
+            return mostFragmented;
+        }
+        evict(leastRecentlyUsed);
+        evictions.increment();
+        return leastRecentlyUsed;
+    }
+
+    // 살아 있는 레코드(인덱스가 아직 이 위치를 가리키는 레코드)만 슬랩 앞쪽으로 모음
+    private void compact(int slab) {
+        ByteBuffer buffer = slabs[slab];
+        byte[] snapshot = new byte[usedBytes[slab]];
+        buffer.get(0, snapshot);
+        ByteBuffer source = ByteBuffer.wrap(snapshot);
+
+        int write = 0;
+        for (int read = 0; read < snapshot.length; ) {
+            int recordBytes = source.getInt(read + LENGTH);
+            long tweetId = source.getLong(read + TWEET_ID);
+            if (index.get(tweetId) == location(slab, read)) {
+                buffer.put(write, snapshot, read, recordBytes);
+                index.put(tweetId, location(slab, write));
+                write += recordBytes;
+            }
+            read += recordBytes;
+        }
+        usedBytes[slab] = write;
+        liveBytes[slab] = write;
+    }
+
+    // 슬랩의 살아 있는 레코드를 모두 인덱스에서 제거하고 빈 슬랩으로 만듦
+    private void evict(int slab) {
+        ByteBuffer buffer = slabs[slab];
+        for (int read = 0; read < usedBytes[slab]; ) {
+            int recordBytes = buffer.getInt(read + LENGTH);
+            long tweetId = buffer.getLong(read + TWEET_ID);
+            if (index.get(tweetId) == location(slab, read)) {
+                index.remove(tweetId);
+                evictedRecords.increment();
+            }
+            read += recordBytes;
+        }
+        usedBytes[slab] = 0;
+        liveBytes[slab] = 0;
+    }
+
+    private void markDead(long location) {
+        int slab = slabOf(location);
+        liveBytes[slab] -= slabs[slab].getInt(offsetOf(location) + LENGTH);
+    }
+
+    private int deadBytes(int slab) {
+        return usedBytes[slab] - liveBytes[slab];
+    }
+
+    // -------------------------------------------------------------
+    // 직렬화
+    // -------------------------------------------------------------
+
+    private static void encode(ByteBuffer buffer, int offset, int recordBytes, TweetResponse response, byte[] content) {
+        LocalDateTime createdAt = response.getCreatedAt();
+        buffer.putInt(offset + LENGTH, recordBytes);
+        buffer.putLong(offset + TWEET_ID, response.getTweetId());
+        buffer.putLong(offset + AUTHOR_ID, response.getUserId() == null ? 0L : response.getUserId());
+        buffer.putLong(offset + ORIGINAL_ID, response.getOriginalTweetId() == null ? 0L : response.getOriginalTweetId());
+        buffer.putLong(offset + REPLY_TO_ID, response.getReplyToTweetId() == null ? 0L : response.getReplyToTweetId());
+        buffer.putLong(offset + CREATED_SECOND, createdAt == null ? Long.MIN_VALUE : createdAt.toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(offset + CREATED_NANO, createdAt == null ? 0 : createdAt.getNano());
+        buffer.put(offset + TYPE, response.getType() == null ? -1 : (byte) response.getType().ordinal());
+        buffer.putShort(offset + CONTENT_LENGTH, content == null ? -1 : (short) content.length);
+        if (content != null) {
+            buffer.put(offset + CONTENT, content);
+        }
+    }
+
+    // 엔티티를 거치지 않고 바이트에서 바로 응답 DTO를 만듦
+    private static TweetResponse decode(ByteBuffer buffer, int offset) {
+        long createdSecond = buffer.getLong(offset + CREATED_SECOND);
+        byte type = buffer.get(offset + TYPE);
+        short contentLength = buffer.getShort(offset + CONTENT_LENGTH);
+        String content = null;
+        if (contentLength >= 0) {
+            byte[] bytes = new byte[contentLength];
+            buffer.get(offset + CONTENT, bytes);
+            content = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        return TweetResponse.builder()
+                .tweetId(buffer.getLong(offset + TWEET_ID))
+                .userId(nullIfZero(buffer.getLong(offset + AUTHOR_ID)))
+                .originalTweetId(nullIfZero(buffer.getLong(offset + ORIGINAL_ID)))
+                .replyToTweetId(nullIfZero(buffer.getLong(offset + REPLY_TO_ID)))
+                .createdAt(createdSecond == Long.MIN_VALUE ? null
+                        : LocalDateTime.ofEpochSecond(createdSecond, buffer.getInt(offset + CREATED_NANO), ZoneOffset.UTC))
+                .type(type < 0 ? null : TYPES[type])
+                .content(content)
+                .build();
+    }
+
+    private static Long nullIfZero(long value) {
+        return value == 0L ? null : value;
+    }
+
+    // 위치 = 슬랩 번호(상위 32비트) + 슬랩 안 오프셋(하위 32비트)
+    private static long location(int slab, int offset) {
+        return ((long) slab << 32) | offset;
+    }
+
+    private static int slabOf(long location) {
+        return (int) (location >>> 32);
+    }
+
+    private static int offsetOf(long location) {
+        return (int) location;
+    }
+}
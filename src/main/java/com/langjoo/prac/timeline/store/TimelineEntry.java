@@ -0,0 +1,16 @@
+package com.langjoo.prac.timeline.store;
+
+import lombok.Getter;
+
+// 📌 타임라인 한 칸에 들어가는 최소 정보 (트윗 ID)
+// 트윗 ID가 시간순(Snowflake)이므로 ID만으로 최신순 정렬이 가능합니다.
+// JPQL 생성자 표현식(SELECT new ...)으로 바로 만들어지므로 엔티티를 로딩하지 않습니다.
+@Getter
+public class TimelineEntry {
+
+    private final Long tweetId;
+
+    public TimelineEntry(Long tweetId) {
+        this.tweetId = tweetId;
+    }
+}
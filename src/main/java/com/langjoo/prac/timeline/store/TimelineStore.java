@@ -0,0 +1,40 @@
+package com.langjoo.prac.timeline.store;
+
+import com.langjoo.prac.tweet.dto.TweetCursor;
+
+import java.util.List;
+import java.util.Optional;
+
+// 📌 유저별로 미리 계산된(materialized) 홈 타임라인을 보관하는 저장소
+// 구현체를 교체할 수 있도록 인터페이스로 분리합니다. (기본: InMemoryTimelineStore, 추후 Redis 등)
+public interface TimelineStore {
+
+    // beginLoad()가 돌려주는 값: 이미 적재되어 있어 적재할 필요 없음
+    long NO_LOAD = 0L;
+
+    // 1. 해당 유저의 타임라인이 저장소에 적재되어 있는지 여부
+    boolean isLoaded(Long userId);
+
+    // 2. DB에서 재구성한 타임라인을 적재 (최신순 정렬된 목록)
+    // DB 조회 전에 beginLoad()로 토큰을 받고, 조회 결과를 그 토큰과 함께 load()로 넘김
+    // 조회하는 동안 커밋된 push/remove는 적재 결과에 합쳐지고, 그 사이 evict되었다면 조회 결과는 버려짐
+    long beginLoad(Long userId);
+
+    void load(Long userId, long loadToken, List<TimelineEntry> entries);
+
+    // 3. 신규 트윗을 타임라인에 추가 (적재되지 않은 유저는 무시 → 다음 조회 시 재구성, 적재 중이면 적재 결과에 합쳐짐)
+    void push(Long userId, TimelineEntry entry);
+
+    // 4. 삭제된 트윗을 타임라인에서 제거
+    void remove(Long userId, Long tweetId);
+
+    // 5. 타임라인 전체 무효화 (팔로우 관계 변경 시)
+    void evict(Long userId);
+
+    // 6. 커서보다 오래된 트윗부터 limit개 조회
+    // 적재되지 않았거나, 요청 구간이 저장소가 보관하는 깊이를 넘어서면 Optional.empty()
+    Optional<List<TimelineEntry>> range(Long userId, TweetCursor cursor, int limit);
+
+    // 7. 유저 한 명당 보관하는 최대 트윗 수
+    int capacity();
+}
@@ -0,0 +1,202 @@
+package com.langjoo.prac.tweet.cache;
+
+import com.langjoo.prac.common.datasource.PrimaryReads;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+// 📌 트윗 ID → 값 캐시 (근사 LRU max-size + TTL) + 키마다 조회를 하나만 실행 (single-flight)
+// 캐시 적중은 락 없이 ConcurrentHashMap 조회 + 마지막 사용 시각 기록만 함 (바이럴 트윗에 요청이 몰려도 한 락에 줄 서지 않음)
+// max-size를 넘으면 한 스레드가 만료 항목 → 오래 쓰지 않은 항목 순으로 목표 크기까지 정리 (JwtTokenProvider와 같은 방식)
+// 같은 키를 동시에 여러 요청이 놓치면 첫 요청만 loader를 실행하고 나머지는 그 결과(또는 예외)를 함께 받음
+// → 바이럴 트윗에 요청이 몰려도 캐시가 비는 순간 DB에 가는 조회는 한 번
+// 조회 중에 invalidate()가 지나가면 조회한(이미 오래된) 값은 캐시에 넣지 않음 (UserProfileCache와 같은 방식)
+// 📌 invalidate() 후 복제 지연 시간 안에 다시 조회하면 primary에서 읽음 (replica의 오래된 값을 다시 캐시하지 않도록)
+class SingleFlightCache<V> {
+
+    // 제거 시각을 기록하는 슬롯 수 (트윗 ID로 나눠 담음)
+    private static final int INVALIDATION_SLOTS = 1024;
+
+    // 한도를 넘으면 max-size의 이 비율까지 줄임 (정리 비용을 그 사이의 적재들에 나눠서 부담)
+    private static final double SWEEP_TARGET_RATIO = 0.9;
+
+    private final long ttlNanos;
+    private final int maxSize;
+    private final int sweepTargetSize;
+    private final PrimaryReads primaryReads;
+
+    private final Map<Long, Cached<V>> cache = new ConcurrentHashMap<>();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    // 조회 중인 키 → 조회 결과 (함께 기다리는 요청이 공유)
+    private final Map<Long, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+
+    private final AtomicLongArray invalidatedAt = new AtomicLongArray(INVALIDATION_SLOTS);
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter coalesced;
+    private final Counter sweeps;
+
+    SingleFlightCache(String part, long ttlMillis, int maxSize, PrimaryReads primaryReads, MeterRegistry meterRegistry) {
+        this.ttlNanos = ttlMillis * 1_000_000L;
+        this.maxSize = maxSize;
+        this.sweepTargetSize = (int) Math.ceil(maxSize * SWEEP_TARGET_RATIO);
+        this.primaryReads = primaryReads;
+        long createdAt = System.nanoTime();
+        for (int i = 0; i < INVALIDATION_SLOTS; i++) {
+            invalidatedAt.set(i, createdAt);
+        }
+
+        // 📌 튜닝용 지표 (/actuator/metrics/tweet.detail.cache?tag=part:content)
+        this.hits = meterRegistry.counter("tweet.detail.cache", "part", part, "result", "hit");
+        this.misses = meterRegistry.counter("tweet.detail.cache", "part", part, "result", "miss");
+        this.coalesced = meterRegistry.counter("tweet.detail.cache", "part", part, "result", "coalesced"); // 다른 요청의 조회를 기다린 횟수
+        this.sweeps = meterRegistry.counter("tweet.detail.cache.sweeps", "part", part);
+        Gauge.builder("tweet.detail.cache.size", cache, Map::size)
+                .tag("part", part)
+                .register(meterRegistry);
+    }
+
+    V get(Long key, Function<Long, V> loader) {
+        // 1. 캐시 적중
+        V cached = getFresh(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        // 2. 이미 다른 요청이 조회 중이면 그 결과를 기다림
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> running = loading.putIfAbsent(key, mine);
+        if (running != null) {
+            coalesced.increment();
+            return await(running);
+        }
+
+        // 3. 직접 조회 (예외도 기다리던 요청에 그대로 전달, 실패한 조회는 캐시하지 않음)
+        misses.increment();
+        long loadStartedAt = System.nanoTime();
+        try {
+            V loaded = ttlNanos > 0 && primaryReads.changedRecently(invalidatedAt.get(slot(key)))
+                    ? primaryReads.read(() -> loader.apply(key))
+                    : loader.apply(key);
+            put(key, loaded, loadStartedAt);
+            mine.complete(loaded);
+            return loaded;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, mine);
+        }
+    }
+
+    void invalidate(Long key) {
+        invalidatedAt.set(slot(key), System.nanoTime());
+        cache.remove(key);
+    }
+
+    private V getFresh(Long key) {
+        Cached<V> cached = cache.get(key);
+        if (cached == null) {
+            return null;
+        }
+        long now = System.nanoTime();
+        if (now - cached.loadedAt > ttlNanos) {
+            return null;
+        }
+        cached.lastUsedAt = now;
+        return cached.value;
+    }
+
+    private void put(Long key, V value, long loadStartedAt) {
+        if (ttlNanos <= 0 || invalidatedAt.get(slot(key)) - loadStartedAt >= 0) {
+            return;
+        }
+        cache.put(key, new Cached<>(value, loadStartedAt));
+        if (cache.size() > maxSize) {
+            evictForSpace();
+        }
+    }
+
+    // 만료된 항목을 먼저 버리고, 그래도 목표 크기보다 크면 마지막 사용 시각이 오래된 항목부터 제거
+    // 동시에 여러 적재가 한도에 걸려도 정리는 한 스레드만 수행 (나머지는 그대로 진행 → 잠시 한도를 조금 넘을 수 있음)
+    private void evictForSpace() {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sweeps.increment();
+            long now = System.nanoTime();
+            cache.values().removeIf(cached -> now - cached.loadedAt > ttlNanos);
+
+            int excess = cache.size() - sweepTargetSize;
+            if (excess <= 0) {
+                return;
+            }
+            // 정렬 중에 적중한 요청이 사용 시각을 바꿀 수 있으므로 먼저 떠 놓고 정렬
+            List<Candidate<V>> candidates = new ArrayList<>(cache.size());
+            cache.forEach((key, cached) -> candidates.add(new Candidate<>(key, cached, cached.lastUsedAt - now)));
+            candidates.sort(Comparator.comparingLong(candidate -> candidate.usedAgo));
+            for (int i = 0; i < excess && i < candidates.size(); i++) {
+                cache.remove(candidates.get(i).key, candidates.get(i).cached); // 그 사이 다시 적재된 값은 남김
+            }
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static int slot(Long key) {
+        return (int) Math.floorMod(key, (long) INVALIDATION_SLOTS);
+    }
+
+    private static final class Cached<V> {
+        private final V value;
+        private final long loadedAt;
+        private volatile long lastUsedAt; // 정리할 때 순서만 비교하므로 동시에 적중한 요청끼리 덮어써도 무방
+
+        private Cached(V value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+            this.lastUsedAt = loadedAt;
+        }
+    }
+
+    private static final class Candidate<V> {
+        private final Long key;
+        private final Cached<V> cached;
+        private final long usedAgo; // 마지막 사용 시각 - 정리 시작 시각 (작을수록 오래 쓰지 않음)
+
+        private Candidate(Long key, Cached<V> cached, long usedAgo) {
+            this.key = key;
+            this.cached = cached;
+            this.usedAgo = usedAgo;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.langjoo.prac.tweet.cache;
+
+import com.langjoo.prac.common.datasource.PrimaryReads;
+import com.langjoo.prac.domain.RetweetType;
+import com.langjoo.prac.engagement.event.EngagementFlushedEvent;
+import com.langjoo.prac.tweet.dto.TweetResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+// 📌 트윗 상세/통계 조회용 캐시 (GET /api/tweets/{tweetId}, /api/tweets/{tweetId}/stats)
+// 바이럴 트윗에 요청이 몰려도 같은 row를 반복해서 읽지 않도록 두 부분으로 나눠서 보관합니다.
+// - content: 바뀌지 않는 부분 (내용, 작성자, 답글 대상, 리트윗 원본) → 트윗 삭제 시 제거, 작성자 닉네임 변경 등은 content-ttl-ms 안에서만 오래될 수 있음
+// - counts:  DB의 좋아요/리트윗/답글 수 → 카운터 반영(EngagementFlushedEvent) / 트윗 삭제 시 제거
+//   반영 전 증감분은 캐시하지 않고 응답할 때마다 EngagementCounterService에서 합산 (좋아요 직후에도 바로 보임)
+// - 둘 다 키마다 조회를 하나만 실행 (SingleFlightCache), 제거 직후(복제 지연 시간 안)의 조회는 primary에서 읽음
+// 💡 반환하는 TweetResponse는 캐시와 공유하므로 호출하는 쪽에서 복사한 뒤 수정해야 합니다.
+@Component
+public class TweetDetailCache {
+
+    private final SingleFlightCache<TweetResponse> contents;
+    private final SingleFlightCache<TweetCounts> counts;
+
+    public TweetDetailCache(MeterRegistry meterRegistry,
+                            PrimaryReads primaryReads,
+                            @Value("${tweet.detail-cache.content-ttl-ms:60000}") long contentTtlMillis,
+                            @Value("${tweet.detail-cache.counts-ttl-ms:5000}") long countsTtlMillis,
+                            @Value("${tweet.detail-cache.max-size:10000}") int maxSize) {
+        this.contents = new SingleFlightCache<>("content", contentTtlMillis, maxSize, primaryReads, meterRegistry);
+        this.counts = new SingleFlightCache<>("counts", countsTtlMillis, maxSize, primaryReads, meterRegistry);
+    }
+
+    // 캐시된 내용 + 캐시된 카운트로 만든 응답 (사본, 미반영 증감분은 호출하는 쪽에서 합산)
+    // 카운트 기준은 TweetResponse.from()과 같음: 순수 리트윗의 좋아요/리트윗 수는 원본 트윗의 것
+    public TweetResponse getResponse(Long tweetId, Function<Long, TweetResponse> contentLoader,
+                                     Function<Long, TweetCounts> countsLoader) {
+        TweetResponse content = contents.get(tweetId, contentLoader);
+        Long countSourceId = content.getType() == RetweetType.PURE_RETWEET && content.getOriginalTweetId() != null
+                ? content.getOriginalTweetId()
+                : tweetId;
+
+        TweetCounts own = counts.get(tweetId, countsLoader);
+        TweetCounts source = countSourceId.equals(tweetId) ? own : counts.get(countSourceId, countsLoader);
+        return content.toBuilder()
+                .likeCount(source.getLikeCount())
+                .retweetCount(source.getRetweetCount())
+                .replyCount(own.getReplyCount())
+                .build();
+    }
+
+    // 트윗 자신의 DB 카운트
+    public TweetCounts getCounts(Long tweetId, Function<Long, TweetCounts> countsLoader) {
+        return counts.get(tweetId, countsLoader);
+    }
+
+    // -------------------------------------------------------------
+    // 제거
+    // -------------------------------------------------------------
+
+    // 트윗/리트윗 삭제 (커밋 후)
+    public void invalidate(Long tweetId) {
+        contents.invalidate(tweetId);
+        counts.invalidate(tweetId);
+    }
+
+    // 좋아요/리트윗/답글/북마크 수가 DB에 반영됨
+    @EventListener
+    public void onEngagementFlushed(EngagementFlushedEvent event) {
+        for (Long tweetId : event.getTweetIds()) {
+            counts.invalidate(tweetId);
+        }
+    }
+
+    // 📌 DB에 저장된 카운트 (트윗 row 하나의 값)
+    @Getter
+    @RequiredArgsConstructor
+    public static final class TweetCounts {
+        private final int likeCount;
+        private final int retweetCount;
+        private final int replyCount;
+    }
+}
@@ -1,6 +1,7 @@
 package com.langjoo.prac.tweet.controller;
 
 import com.langjoo.prac.auth.config.UserDetailsImpl; // 인증된 사용자 정보를 가정
+import com.langjoo.prac.common.dto.CursorResponse;
 import com.langjoo.prac.tweet.dto.TweetRequest; // 신규 트윗 작성을 위한 DTO
 import com.langjoo.prac.tweet.dto.TweetResponse;
 import com.langjoo.prac.tweet.dto.TweetSearchRequest;
@@ -10,15 +11,11 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid; // 요청 DTO 유효성 검사를 위한 import
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Pageable; // 페이지네이션 처리를 위한 import
-import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api")
@@ -30,13 +27,14 @@ public class TweetController {
     // 1. 팔로우하는 사용자들의 트윗 리스트 가져오기 (메인 홈 화면 구성)
     // GET /prac.com/home
     @GetMapping("/home")
-    @Operation(summary = "타임라인 불러오기", description = "팔로우 중인 유저들의 트윗을 불러와 홈 화면 구성")
-    public ResponseEntity<List<TweetResponse>> getTimelineFeed(
+    @Operation(summary = "타임라인 불러오기", description = "팔로우 중인 유저들의 트윗을 불러와 홈 화면 구성. 다음 페이지는 응답의 nextCursor를 cursor로 전달")
+    public ResponseEntity<CursorResponse<TweetResponse>> getTimelineFeed(
             @AuthenticationPrincipal UserDetailsImpl currentUser, // 현재 로그인 사용자
-            @PageableDefault(size = 20) Pageable pageable) { // 페이지네이션 정보
+            @RequestParam(required = false) String cursor, // 📌 이전 응답의 nextCursor (첫 페이지는 생략)
+            @RequestParam(required = false) Integer size) { // 페이지 크기
 
         // Service 계층에서 팔로우 목록 기반으로 피드 조회
-        List<TweetResponse> feed = tweetService.getTimelineFeed(currentUser.getUserId(), pageable);
+        CursorResponse<TweetResponse> feed = tweetService.getTimelineFeed(currentUser.getUserId(), cursor, size);
         return ResponseEntity.ok(feed);
     }
 
@@ -117,12 +115,12 @@ public class TweetController {
     // 1. 존재하는 전체 트윗 중 검색
 // GET /api/tweets/search/all?keyword=...&since=...
     @GetMapping("/search/all")
-    @Operation(summary = "전체 트윗 중 검색", description = "키워드 검색&작성 시기 검색 가능")
-    public ResponseEntity<List<TweetResponse>> searchAllTweets(
+    @Operation(summary = "전체 트윗 중 검색", description = "키워드 검색&작성 시기 검색 가능, cursor/size로 페이지네이션")
+    public ResponseEntity<CursorResponse<TweetResponse>> searchAllTweets(
             @AuthenticationPrincipal UserDetailsImpl currentUser,
             @ModelAttribute TweetSearchRequest request) {
 
-        List<TweetResponse> results = tweetService.searchAllTweets(currentUser.getUserId(), request);
+        CursorResponse<TweetResponse> results = tweetService.searchAllTweets(currentUser.getUserId(), request);
         return ResponseEntity.ok(results);
     }
 
@@ -130,15 +128,15 @@ public class TweetController {
 // 📌 [수정] 경로 변수를 {username}으로 변경
 // GET /api/users/{username}/tweets/search?keyword=...&since=...
     @GetMapping("/search/users/{username}")
-    @Operation(summary = "특정 유저의 트윗 중 검색", description = "키워드 검색&작성 시기 검색 가능")
-    public ResponseEntity<List<TweetResponse>> searchUserTweets(
+    @Operation(summary = "특정 유저의 트윗 중 검색", description = "키워드 검색&작성 시기 검색 가능, cursor/size로 페이지네이션")
+    public ResponseEntity<CursorResponse<TweetResponse>> searchUserTweets(
             @AuthenticationPrincipal UserDetailsImpl currentUser,
             // 📌 [수정] Long targetUserId 대신 String targetUsername으로 변경
             @PathVariable String username,
             @ModelAttribute TweetSearchRequest request) {
 
         // 📌 [수정] 서비스 호출 시 targetUsername을 전달
-        List<TweetResponse> results = tweetService.searchUserTweets(currentUser.getUserId(), username, request);
+        CursorResponse<TweetResponse> results = tweetService.searchUserTweets(currentUser.getUserId(), username, request);
         return ResponseEntity.ok(results);
     }
 
@@ -0,0 +1,47 @@
+package com.langjoo.prac.tweet.dto;
+
+import com.langjoo.prac.common.exception.BadRequestException;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 📌 관련도순 검색의 커서 위치: 마지막으로 받은 결과의 (점수, 트윗 ID)
+// TweetCursor와 같이 Base64 문자열로 전달합니다.
+@Getter
+public class RelevanceCursor {
+
+    // 첫 페이지: 어떤 결과보다도 점수가 높은 가상의 위치
+    public static final RelevanceCursor FIRST = new RelevanceCursor(Double.POSITIVE_INFINITY, Long.MAX_VALUE);
+
+    private static final String SEPARATOR = "|";
+
+    private final double score;
+    private final Long tweetId;
+
+    public RelevanceCursor(double score, Long tweetId) {
+        this.score = score;
+        this.tweetId = tweetId;
+    }
+
+    public static RelevanceCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = decoded.indexOf(SEPARATOR);
+            return new RelevanceCursor(
+                    Double.parseDouble(decoded.substring(0, separatorIndex)),
+                    Long.parseLong(decoded.substring(separatorIndex + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new BadRequestException("잘못된 커서 값입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = score + SEPARATOR + tweetId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
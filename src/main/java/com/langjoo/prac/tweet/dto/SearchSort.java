@@ -0,0 +1,7 @@
+package com.langjoo.prac.tweet.dto;
+
+// 📌 키워드 검색 결과 정렬 기준
+public enum SearchSort {
+    RELEVANCE, // 관련도순 (키워드 검색 기본값)
+    LATEST     // 최신순 (기간만으로 검색할 때는 항상 최신순)
+}
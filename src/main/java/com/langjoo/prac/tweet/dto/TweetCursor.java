@@ -0,0 +1,44 @@
+package com.langjoo.prac.tweet.dto;
+
+import com.langjoo.prac.common.exception.BadRequestException;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 📌 커서(keyset) 페이지네이션 위치: 마지막으로 받은 트윗의 ID
+// 트윗 ID는 시간순(Snowflake)이므로 "ID < 커서" 만으로 다음 페이지를 PK 범위 스캔으로 조회합니다.
+// 클라이언트에는 내부 구조를 알 수 없는 불투명한 문자열(Base64)로 전달합니다.
+@Getter
+public class TweetCursor {
+
+    // 첫 페이지: 어떤 트윗보다도 최신인 가상의 위치
+    public static final TweetCursor FIRST = new TweetCursor(Long.MAX_VALUE);
+
+    // 이전 형식(작성 시각|트윗 ID)의 구분자: 이미 발급된 커서도 ID 부분만 사용하여 계속 동작
+    private static final String LEGACY_SEPARATOR = "|";
+
+    private final Long tweetId;
+
+    public TweetCursor(Long tweetId) {
+        this.tweetId = tweetId;
+    }
+
+    // 요청 파라미터로 받은 문자열 → 커서 (없으면 첫 페이지)
+    public static TweetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = decoded.indexOf(LEGACY_SEPARATOR);
+            return new TweetCursor(Long.parseLong(decoded.substring(separatorIndex + 1)));
+        } catch (RuntimeException e) {
+            throw new BadRequestException("잘못된 커서 값입니다.");
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(String.valueOf(tweetId).getBytes(StandardCharsets.UTF_8));
+    }
+}
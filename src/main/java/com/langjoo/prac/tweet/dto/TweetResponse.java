@@ -10,7 +10,7 @@ import java.time.LocalDateTime;
 
 @Setter
 @Getter
-@Builder // Lombok Builder 패턴으로 쉽게 객체 생성
+@Builder(toBuilder = true) // Lombok Builder 패턴으로 쉽게 객체 생성 (toBuilder: 캐시된 응답 복사용)
 public class TweetResponse {
 
     private RetweetType type; // 👈 Enum 타입 추가
@@ -20,6 +20,8 @@ public class TweetResponse {
     private boolean isRetweetedByMe; // 👈 추가
     // 📌 [추가] 내가 이 트윗에 좋아요를 눌렀는지 여부
     private boolean isLikedByMe;
+    // 📌 내가 이 트윗을 북마크 했는지 여부
+    private boolean isBookmarkedByMe;
 
     // 📌 2. 원본 트윗의 ID 추가 (리트윗일 경우에만 값이 존재)
     // Long 타입은 null을 가질 수 있으므로, 원본 트윗이 아닐 때는 null이 됩니다.
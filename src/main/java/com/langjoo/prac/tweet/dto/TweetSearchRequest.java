@@ -1,15 +1,18 @@
 package com.langjoo.prac.tweet.dto;
 
+import com.langjoo.prac.common.id.SnowflakeIdGenerator;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.format.annotation.DateTimeFormat;
 
 import java.time.LocalDate; // 📌 [수정] LocalDateTime 대신 LocalDate 사용
+import java.time.ZoneId;
 
 @Getter
 @Setter
 public class TweetSearchRequest {
 
+    // 📌 한글/한자/가나는 부분 문자열, 영문/숫자는 단어 단위로 일치 (NGramTokenizer)
     private String keyword;
 
     // 📌 [수정] 날짜 형식 변경: yyyy-MM-dd (시간 정보 제거)
@@ -20,7 +23,31 @@ public class TweetSearchRequest {
     @DateTimeFormat(pattern = "yyyy-MM-dd")
     private LocalDate until;
 
+    // 📌 커서 페이지네이션: 이전 응답의 nextCursor (첫 페이지는 생략)
+    private String cursor;
+
+    // 📌 페이지 크기 (생략 시 기본값, 최대 MAX_PAGE_SIZE)
+    private Integer size;
+
+    // 📌 키워드 검색 정렬 기준 (생략 시 관련도순, 기간만으로 검색할 때는 항상 최신순)
+    private SearchSort sort;
+
+    public boolean hasKeyword() {
+        return keyword != null && !keyword.trim().isEmpty();
+    }
+
     public boolean isValid() {
         return keyword != null && !keyword.trim().isEmpty() || since != null || until != null;
     }
-}
\ No newline at end of file
+
+    // 📌 기간 → 트윗 ID 범위 [minTweetId, maxTweetIdExclusive)
+    // 트윗 ID(Snowflake)는 생성 시각순이므로 createdAt 대신 PK 범위로 거름 (created_at 인덱스/정렬 없이 커서와 같은 범위 스캔)
+    public long minTweetId() {
+        return since == null ? 0L : SnowflakeIdGenerator.minIdAt(since.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    // until 날짜의 다음 날 0시에 만들어진 첫 ID 미만 (until 날짜 하루 전체 포함)
+    public long maxTweetIdExclusive() {
+        return until == null ? Long.MAX_VALUE : SnowflakeIdGenerator.minIdAt(until.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+}
@@ -0,0 +1,17 @@
+package com.langjoo.prac.tweet.repository;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 📌 트윗 row에서 바뀔 수 있는 값 (오프힙 트윗 저장소의 레코드에 합쳐서 응답을 완성)
+@Getter
+@RequiredArgsConstructor // JPQL 생성자 표현식(SELECT new ...)에서 사용
+public class TweetLiveRow {
+
+    private final Long tweetId;
+    private final int likeCount;
+    private final int retweetCount;
+    private final int replyCount;
+    private final String username;
+    private final String nickname;
+}
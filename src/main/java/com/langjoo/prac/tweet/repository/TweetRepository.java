@@ -3,12 +3,16 @@ package com.langjoo.prac.tweet.repository;
 import com.langjoo.prac.domain.RetweetType;
 import com.langjoo.prac.domain.Tweet;
 import com.langjoo.prac.domain.User;
+import com.langjoo.prac.search.index.TweetDocument;
+import com.langjoo.prac.timeline.store.TimelineEntry;
+import com.langjoo.prac.tweet.cache.TweetDetailCache.TweetCounts;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,21 +22,74 @@ public interface TweetRepository extends JpaRepository<Tweet, Long> {
     // SELECT COUNT(t) FROM Tweet t WHERE t.user = :profileUser
     long countByUser(User profileUser);
 
-    // Spring Data JPA는 이 메서드 이름으로 'WHERE user_id IN (:userIds)' 쿼리를 자동 생성합니다.
-    List<Tweet> findAllByUserIdIn(List<Long> userIds, Pageable pageable);
+    // 📌 'WHERE user_id IN (:userIds)' (메서드 이름 기반 쿼리는 users를 LEFT JOIN 한 뒤 걸러서 인덱스를 타지 못하므로 직접 작성)
+    @Query("SELECT t FROM Tweet t WHERE t.user.id IN :userIds")
+    List<Tweet> findAllByUserIdIn(@Param("userIds") List<Long> userIds, Pageable pageable);
+
+    // 📌 타임라인 저장소 재구성/셀럽 트윗 병합용: 엔티티 대신 트윗 ID만 커서 이후부터 최신순으로 조회
+    @Query("SELECT new com.langjoo.prac.timeline.store.TimelineEntry(t.id) FROM Tweet t " +
+            "WHERE t.user.id IN :userIds " +
+            "AND t.id < :cursorId " +
+            "ORDER BY t.id DESC")
+    List<TimelineEntry> findTimelineEntriesByUserIdIn(
+            @Param("userIds") List<Long> userIds,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    // 📌 홈 피드 DB 직접 조회용 (타임라인 저장소가 보관하지 않는 깊은 페이지)
+    // OFFSET 대신 ID 커서 이후만 조회하므로 몇 번째 페이지든 비용이 같습니다. (트윗 ID가 시간순이므로 PK 범위 스캔)
+    @EntityGraph(Tweet.RESPONSE_GRAPH)
+    @Query("SELECT t FROM Tweet t " +
+            "WHERE t.user.id IN :userIds " +
+            "AND t.id < :cursorId " +
+            "ORDER BY t.id DESC")
+    List<Tweet> findFeedByUserIdIn(
+            @Param("userIds") List<Long> userIds,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
 
     // 특정 사용자가 작성한 모든 일반 트윗(리트윗이 아닌 트윗)을 최신순으로 조회
-    List<Tweet> findByUserAndRetweetTypeOrderByCreatedAtDesc(User user, RetweetType retweetType);
+    List<Tweet> findByUserAndRetweetTypeOrderByIdDesc(User user, RetweetType retweetType);
 
     // 특정 사용자가 작성한 모든 트윗(일반 트윗 + 리트윗)을 최신순으로 조회
-    List<Tweet> findTop20ByUserOrderByCreatedAtDesc(User user);
+    @EntityGraph(Tweet.RESPONSE_GRAPH)
+    List<Tweet> findTop20ByUserOrderByIdDesc(User user);
+
+    // 📌 프로필 조회용: 유저를 먼저 읽지 않고 username으로 바로 조회 (유저 조회와 동시에 실행)
+    @EntityGraph(Tweet.RESPONSE_GRAPH)
+    List<Tweet> findTop20ByUserUsernameOrderByIdDesc(String username);
+
+    // 📌 트윗 상세 조회용: 응답에 필요한 연관 엔티티를 한 번에 조회
+    @EntityGraph(Tweet.RESPONSE_GRAPH)
+    Optional<Tweet> findWithResponseGraphById(Long id);
+
+    // 📌 좋아요/북마크 등록·취소 응답용 현재 카운트 (엔티티 로딩 없이 컬럼만, 트윗이 없으면 empty)
+    @Query("SELECT t.likeCount FROM Tweet t WHERE t.id = :tweetId")
+    Optional<Integer> findLikeCountById(@Param("tweetId") Long tweetId);
+
+    @Query("SELECT t.bookmarkCount FROM Tweet t WHERE t.id = :tweetId")
+    Optional<Integer> findBookmarkCountById(@Param("tweetId") Long tweetId);
+
+    // 📌 트윗 상세 캐시용 DB 카운트 (엔티티 로딩 없이 컬럼만, 트윗이 없으면 empty)
+    @Query("SELECT new com.langjoo.prac.tweet.cache.TweetDetailCache$TweetCounts(t.likeCount, t.retweetCount, t.replyCount) " +
+            "FROM Tweet t WHERE t.id = :tweetId")
+    Optional<TweetCounts> findCountsById(@Param("tweetId") Long tweetId);
+
+    // 📌 타임라인 저장소의 ID 목록으로 트윗을 조회 (연관 엔티티 포함, 순서는 호출 측에서 정렬)
+    @EntityGraph(Tweet.RESPONSE_GRAPH)
+    List<Tweet> findAllWithResponseGraphByIdIn(Collection<Long> ids);
+
+    // 📌 오프힙 트윗 저장소에 있는 트윗의 바뀌는 값만 조회 (카운트 + 작성자 이름, 엔티티를 만들지 않음)
+    @Query("SELECT new com.langjoo.prac.tweet.repository.TweetLiveRow(t.id, t.likeCount, t.retweetCount, t.replyCount, u.username, u.nickname) " +
+            "FROM Tweet t JOIN t.user u WHERE t.id IN :ids")
+    List<TweetLiveRow> findLiveRowsByIdIn(@Param("ids") Collection<Long> ids);
 
     // 📌 리트윗 엔티티를 찾는 메서드 추가 (리트윗 취소 시 사용)
     // 리트윗을 한 사용자(User)와 리트윗된 원본 트윗(OriginalTweet)을 기준으로 조회
     Optional<Tweet> findByUserAndOriginalTweet(User user, Tweet originalTweet);
 
     // 원본 트윗 ID로 해당 트윗을 리트윗한 모든 리트윗 개체를 조회
-    List<Tweet> findByOriginalTweetOrderByCreatedAtDesc(Tweet originalTweet);
+    List<Tweet> findByOriginalTweetOrderByIdDesc(Tweet originalTweet);
 
     // 특정 유저(User)가 특정 원본 트윗(OriginalTweet)에 대해, 특정 타입(RetweetType)을 가진 트윗을 조회합니다.
     Optional<Tweet> findByUserAndOriginalTweetAndRetweetType(
@@ -48,28 +105,35 @@ public interface TweetRepository extends JpaRepository<Tweet, Long> {
 
     // 📌 1. 전체 트윗 및 특정 유저 트윗 검색을 위한 동적 쿼리 인터페이스
 // 📌 [추가] 동적 검색 조건을 처리하는 @Query 정의
+    // 📌 기간만으로 검색할 때 사용 (키워드 검색은 LIKE 전체 스캔 대신 TweetSearchService의 색인 사용)
+    @EntityGraph(Tweet.RESPONSE_GRAPH)
     @Query("SELECT t FROM Tweet t " +
             "WHERE (:userId IS NULL OR t.user.id = :userId) " + // 1. 특정 유저 필터링
-            "AND (:keyword IS NULL OR :keyword = '' OR t.content LIKE %:keyword%) " + // 2. 키워드 필터링
-            "AND (:since IS NULL OR t.createdAt >= :since) " + // 3. 시작 시점
-            "AND (:until IS NULL OR t.createdAt <= :until) " + // 4. 종료 시점
-            "ORDER BY t.createdAt DESC")
+            "AND t.id >= :minId " + // 2. 📌 시작 시점 (since 0시 이후 ID, TweetSearchRequest.minTweetId)
+            "AND t.id < :cursorId " + // 3. 📌 커서 이후이면서 종료 시점 이전 (커서와 maxTweetIdExclusive 중 작은 값)
+            "ORDER BY t.id DESC")
     List<Tweet> searchTweetsByConditions(
-            @Param("keyword") String keyword,
-            @Param("since") LocalDateTime since,
-            @Param("until") LocalDateTime until,
-            @Param("userId") Long userId);
+            @Param("minId") long minId,
+            @Param("userId") Long userId,
+            @Param("cursorId") long cursorId,
+            Pageable pageable);
 
     /// 📌 [추가] 특정 User의 트윗을 검색하는 @Query 정의
+    @EntityGraph(Tweet.RESPONSE_GRAPH)
     @Query("SELECT t FROM Tweet t " +
             "WHERE t.user = :user " + // 1. 📌 특정 User 엔티티를 기준으로 필터링
-            "AND (:keyword IS NULL OR :keyword = '' OR t.content LIKE %:keyword%) " + // 2. 키워드 필터링
-            "AND (:since IS NULL OR t.createdAt >= :since) " + // 3. 시작 시점
-            "AND (:until IS NULL OR t.createdAt <= :until) " + // 4. 종료 시점
-            "ORDER BY t.createdAt DESC")
+            "AND t.id >= :minId " + // 2. 📌 시작 시점 (since 0시 이후 ID)
+            "AND t.id < :cursorId " + // 3. 📌 커서 이후이면서 종료 시점 이전
+            "ORDER BY t.id DESC")
     List<Tweet> searchTweetsByUserAndConditions(
             @Param("user") User user,
-            @Param("keyword") String keyword,
-            @Param("since") LocalDateTime since,
-            @Param("until") LocalDateTime until);
-}
\ No newline at end of file
+            @Param("minId") long minId,
+            @Param("cursorId") long cursorId,
+            Pageable pageable);
+
+    // 📌 검색 색인 재구성용: 엔티티 대신 색인에 필요한 값만 트윗 ID 순으로 lastId 이후부터 조회
+    @Query("SELECT new com.langjoo.prac.search.index.TweetDocument(t.id, t.user.id, t.content) FROM Tweet t " +
+            "WHERE t.id > :lastId " +
+            "ORDER BY t.id")
+    List<TweetDocument> findSearchDocumentsAfter(@Param("lastId") Long lastId, Pageable pageable);
+}
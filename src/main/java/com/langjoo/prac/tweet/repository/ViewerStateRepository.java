@@ -0,0 +1,93 @@
+package com.langjoo.prac.tweet.repository;
+
+import com.langjoo.prac.domain.RetweetType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// 📌 보는 사람이 트윗 목록 중 어떤 트윗에 좋아요/리트윗/북마크 했는지 한 번의 쿼리로 조회하는 리포지토리
+// 세 테이블을 UNION ALL로 묶고, 각 구간은 아래 인덱스로 처리됩니다.
+// - likes:     uk_likes_user_tweet (user_id, tweet_id)
+// - tweets:    idx_tweets_original_user_type (original_tweet_id, user_id, retweet_type) → 순수 리트윗만
+// - bookmarks: uk_bookmarks_user_tweet (user_id, tweet_id)
+@Repository
+public class ViewerStateRepository {
+
+    private static final String LIKED = "L";
+    private static final String RETWEETED = "R";
+    private static final String BOOKMARKED = "B";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 기준 트윗 ID 목록으로 조회
+    public ViewerState findViewerState(Long viewerId, Collection<Long> tweetIds) {
+        return query(viewerId, "?2", tweetIds, false);
+    }
+
+    // 📌 페이지의 트윗 ID 목록으로 조회: 리트윗이면 원본을 기준으로 SQL 안에서 바꿔서 조회
+    // 트윗 엔티티를 읽기 전에 ID만으로 실행할 수 있으므로 트윗 조회와 동시에 실행 가능 (TweetServiceImpl.getTimelineFeed)
+    // 결과는 findViewerState()와 같이 기준 트윗 ID 기준
+    public ViewerState findViewerStateForPage(Long viewerId, Collection<Long> pageTweetIds) {
+        return query(viewerId,
+                "SELECT CASE WHEN p.retweet_type = ?4 OR p.original_tweet_id IS NULL THEN p.tweet_id" +
+                        " ELSE p.original_tweet_id END FROM tweets p WHERE p.tweet_id IN (?2)",
+                pageTweetIds, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ViewerState query(Long viewerId, String targetIds, Collection<Long> tweetIds, boolean resolveOriginals) {
+        ViewerState state = new ViewerState();
+        if (tweetIds.isEmpty()) {
+            return state;
+        }
+
+        // 📌 네이티브 쿼리도 EntityManager로 실행 (같은 트랜잭션에서 아직 flush되지 않은 변경이 먼저 반영됨)
+        Query query = entityManager.createNativeQuery(
+                        "SELECT '" + LIKED + "', tweet_id FROM likes WHERE user_id = ?1 AND tweet_id IN (" + targetIds + ")" +
+                                " UNION ALL SELECT '" + RETWEETED + "', original_tweet_id FROM tweets" +
+                                " WHERE original_tweet_id IN (" + targetIds + ") AND user_id = ?1 AND retweet_type = ?3" +
+                                " UNION ALL SELECT '" + BOOKMARKED + "', tweet_id FROM bookmarks WHERE user_id = ?1 AND tweet_id IN (" + targetIds + ")")
+                .setParameter(1, viewerId)
+                .setParameter(2, tweetIds)
+                .setParameter(3, RetweetType.PURE_RETWEET.name());
+        if (resolveOriginals) {
+            query.setParameter(4, RetweetType.ORIGINAL.name());
+        }
+
+        for (Object[] row : (List<Object[]>) query.getResultList()) {
+            long tweetId = ((Number) row[1]).longValue();
+            switch (row[0].toString()) {
+                case LIKED -> state.liked.add(tweetId);
+                case RETWEETED -> state.retweeted.add(tweetId);
+                default -> state.bookmarked.add(tweetId);
+            }
+        }
+        return state;
+    }
+
+    // 조회한 트윗 ID 중 보는 사람이 좋아요/리트윗/북마크 한 ID
+    public static final class ViewerState {
+        private final Set<Long> liked = new HashSet<>();
+        private final Set<Long> retweeted = new HashSet<>();
+        private final Set<Long> bookmarked = new HashSet<>();
+
+        public boolean isLiked(Long tweetId) {
+            return liked.contains(tweetId);
+        }
+
+        public boolean isRetweeted(Long tweetId) {
+            return retweeted.contains(tweetId);
+        }
+
+        public boolean isBookmarked(Long tweetId) {
+            return bookmarked.contains(tweetId);
+        }
+    }
+}
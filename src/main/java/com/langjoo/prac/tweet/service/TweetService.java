@@ -1,16 +1,15 @@
 package com.langjoo.prac.tweet.service;
 
+import com.langjoo.prac.common.dto.CursorResponse;
 import com.langjoo.prac.tweet.dto.TweetRequest;
 import com.langjoo.prac.tweet.dto.TweetResponse;
 import com.langjoo.prac.tweet.dto.TweetSearchRequest;
 import com.langjoo.prac.tweet.dto.TweetStatsResponse;
-import org.springframework.data.domain.Pageable;
-import java.util.List;
 
 public interface TweetService {
 
-    // 1. 팔로우 트윗 피드 조회 (홈 화면)
-    List<TweetResponse> getTimelineFeed(Long currentUserId, Pageable pageable);
+    // 1. 팔로우 트윗 피드 조회 (홈 화면, 커서 페이지네이션)
+    CursorResponse<TweetResponse> getTimelineFeed(Long currentUserId, String cursor, Integer size);
 
     // 2. 트윗 상세 조회
     TweetResponse getTweetById(Long tweetId);
@@ -29,10 +28,10 @@ public interface TweetService {
 
 
     // 7. 특정 유저의 트윗 중 검색(실제 트위터는 7+8 합치고 검색어에서 특정 명령어 추출하는 거 같은데...)
-    public List<TweetResponse> searchUserTweets(Long currentUserId, String targetUsername, TweetSearchRequest request);
+    public CursorResponse<TweetResponse> searchUserTweets(Long currentUserId, String targetUsername, TweetSearchRequest request);
 
     // 8. 전체 트윗 중 검색
-    public List<TweetResponse> searchAllTweets(Long currentUserId, TweetSearchRequest request);
+    public CursorResponse<TweetResponse> searchAllTweets(Long currentUserId, TweetSearchRequest request);
 
     public TweetStatsResponse getTweetStats(Long tweetId);
 }
\ No newline at end of file
@@ -1,31 +1,58 @@
 package com.langjoo.prac.tweet.service;
 
+import com.langjoo.prac.common.concurrency.ParallelQueries;
+import com.langjoo.prac.common.dto.CursorResponse;
 import com.langjoo.prac.common.exception.DuplicateException;
 import com.langjoo.prac.domain.*;
-import com.langjoo.prac.follow.repository.FollowRepository;
-import com.langjoo.prac.like.repository.LikeRepository;
+import com.langjoo.prac.engagement.EngagementType;
+import com.langjoo.prac.engagement.service.EngagementCounterService;
+import com.langjoo.prac.follow.graph.FollowGraph;
+import com.langjoo.prac.search.index.SearchHit;
+import com.langjoo.prac.search.index.SearchQuery;
+import com.langjoo.prac.search.service.TweetSearchService;
+import com.langjoo.prac.timeline.service.TimelineService;
+import com.langjoo.prac.timeline.store.OffHeapTweetStore;
+import com.langjoo.prac.timeline.store.TimelineEntry;
+import com.langjoo.prac.tweet.cache.TweetDetailCache;
+import com.langjoo.prac.tweet.cache.TweetDetailCache.TweetCounts;
+import com.langjoo.prac.tweet.dto.RelevanceCursor;
+import com.langjoo.prac.tweet.dto.SearchSort;
+import com.langjoo.prac.tweet.dto.TweetCursor;
 import com.langjoo.prac.tweet.dto.TweetRequest;
 import com.langjoo.prac.tweet.dto.TweetResponse;
 import com.langjoo.prac.tweet.dto.TweetSearchRequest;
 import com.langjoo.prac.tweet.dto.TweetStatsResponse;
+import com.langjoo.prac.tweet.repository.TweetLiveRow;
 import com.langjoo.prac.tweet.repository.TweetRepository;
+import com.langjoo.prac.tweet.repository.ViewerStateRepository.ViewerState;
+import com.langjoo.prac.user.event.UserProfileChangedEvent;
 import com.langjoo.prac.user.repository.UserRepository;
-import jakarta.transaction.Transactional; // 트랜잭션 관리를 위해 사용
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional; // 트랜잭션 관리를 위해 사용
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Pageable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 // 사용자 정의 예외 클래스가 있다고 가정 (예: NotFoundException, UnauthorizedException)
 import com.langjoo.prac.common.exception.NotFoundException;
 import com.langjoo.prac.common.exception.UnauthorizedException;
 
+import static com.langjoo.prac.common.GlobalConstants.DEFAULT_PAGE_SIZE;
+import static com.langjoo.prac.common.TransactionHooks.afterCommit;
+import static com.langjoo.prac.common.GlobalConstants.MAX_PAGE_SIZE;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -33,8 +60,15 @@ public class TweetServiceImpl implements TweetService {
 
     private final TweetRepository tweetRepository;
     private final UserRepository userRepository;
-    private final FollowRepository followRepository; // 피드 생성을 위해 필요
-    private final LikeRepository likeRepository; // 📌 [추가] 좋아요 리포지토리 주입
+    private final FollowGraph followGraph; // 피드 생성을 위해 필요 (📌 팔로잉 ID를 메모리에서 조회)
+    private final ViewerStateHydrator viewerStateHydrator; // 📌 좋아요/리트윗/북마크 여부 플래그
+    private final TimelineService timelineService; // 📌 미리 계산된 홈 타임라인
+    private final EngagementCounterService engagementCounterService; // 📌 좋아요/리트윗/답글 수 집계
+    private final TweetSearchService tweetSearchService; // 📌 키워드 검색 색인
+    private final ApplicationEventPublisher eventPublisher; // 📌 프로필 캐시 제거 이벤트
+    private final ParallelQueries parallelQueries; // 📌 독립 조회 동시 실행
+    private final TweetDetailCache tweetDetailCache; // 📌 트윗 상세/통계 캐시
+    private final OffHeapTweetStore offHeapTweetStore; // 📌 타임라인 트윗 내용 (힙 밖)
 
     // 유틸리티 메서드: User 객체를 찾는 메서드
     private User findUserById(Long userId) {
@@ -52,111 +86,194 @@ public class TweetServiceImpl implements TweetService {
     // 1. 팔로우 트윗 피드 조회 (홈 화면)
     // -------------------------------------------------------------
     @Override
-    public List<TweetResponse> getTimelineFeed(Long currentUserId, Pageable pageable) {
-        // 1. 현재 사용자 조회 (필터링 및 리트윗 여부 확인을 위해 User 객체 필요)
-        User currentUser = findUserById(currentUserId);
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS) // 📌 트랜잭션(커넥션)을 잡은 채로 동시 조회를 기다리지 않도록 조회마다 짧은 읽기 전용 트랜잭션 (replica)
+    public CursorResponse<TweetResponse> getTimelineFeed(Long currentUserId, String cursor, Integer size) {
+        // 1. 📌 사용자 엔티티는 DB에서 피드를 조회할 때만 필요 (저장소 경로는 ID만 사용)
+        //    동시 조회(fork)를 기다리기 전에 쿼리를 실행하지 않아야 커넥션을 잡은 채로 기다리지 않음
+        TweetCursor tweetCursor = TweetCursor.decode(cursor);
+        int limit = resolvePageSize(size);
+
+        // 2. 📌 타임라인 저장소에서 커서 이후의 트윗 ID 목록을 꺼내 트윗을 조회
+        //    저장소가 보관하지 않는 깊은 페이지라면 DB에서 커서(seek) 조회
+        List<TweetResponse> responses;
+        String nextCursor;
+        Optional<List<TimelineEntry>> entries = timelineService.readTimeline(currentUserId, tweetCursor, limit);
+        if (entries.isPresent()) {
+            List<Long> tweetIds = entries.get().stream()
+                    .map(TimelineEntry::getTweetId)
+                    .collect(Collectors.toList());
+            responses = findPageWithViewerState(currentUserId, tweetIds);
+            // 저장소 반영 직후 삭제된 트윗이 빠질 수 있으므로 다음 커서는 저장소 항목 기준으로 계산
+            nextCursor = entries.get().size() < limit ? null
+                    : new TweetCursor(entries.get().get(limit - 1).getTweetId()).encode();
+        } else {
+            User currentUser = findUserById(currentUserId);
+            List<Tweet> tweets = findTimelineTweetsFromDatabase(currentUser, tweetCursor, limit);
+            nextCursor = nextCursorOf(tweets, limit);
+
+            // 📌 DTO 변환 및 현재 유저 기준 플래그(좋아요/리트윗/북마크) 설정 (한 번의 쿼리)
+            responses = tweets.stream()
+                    .map(TweetResponse::from)
+                    .collect(Collectors.toList());
+            viewerStateHydrator.hydrate(currentUserId, responses);
+        }
 
-        // 2. 팔로우하는 모든 사용자 ID 목록 조회
-        List<Long> followingUserIds = followRepository.findByFollower(currentUser).stream()
-                .map(follow -> follow.getFollowing().getId())
-                .collect(Collectors.toList());
+        engagementCounterService.mergePending(responses); // 📌 아직 DB에 반영되지 않은 카운트 합산
+        return new CursorResponse<>(responses, nextCursor);
+    }
 
-        // 3. 자신의 ID도 포함 (자신의 트윗도 피드에 나와야 함)
-        followingUserIds.add(currentUserId);
+    // 📌 트윗 ID를 이미 알고 있으므로 트윗 조회와 플래그(좋아요/리트윗/북마크) 조회를 동시에 실행
+    private List<TweetResponse> findPageWithViewerState(Long currentUserId, List<Long> tweetIds) {
+        try (ParallelQueries.Scope scope = parallelQueries.open()) {
+            Supplier<List<TweetResponse>> page = scope.fork(() -> findResponsesInOrder(tweetIds));
+            Supplier<ViewerState> viewerState = scope.fork(() -> viewerStateHydrator.prefetch(currentUserId, tweetIds));
+            scope.join();
 
-        // 4. 타임라인에 표시할 트윗(팔로우 + 본인)을 DB에서 조회
-        List<Tweet> tweets = tweetRepository.findAllByUserIdIn(followingUserIds, pageable);
+            List<TweetResponse> responses = page.get();
+            viewerStateHydrator.apply(currentUserId, responses, viewerState.get());
+            return responses;
+        }
+    }
 
-        // -------------------------------------------------------------
-        // 📌 5. 현재 유저의 리트윗 여부 플래그 설정 로직 (통합된 핵심 로직)
-        // -------------------------------------------------------------
+    // 📌 타임라인 저장소의 ID 순서(최신순)를 유지하며 응답 생성 (오프힙 트윗 저장소 우선)
+    // 1. 저장소에 있는 트윗: 바뀌지 않는 부분은 저장소에서, 카운트/작성자 이름만 엔티티 없이 한 번에 조회
+    // 2. 없는 트윗: 연관 엔티티까지 조회해서 변환한 뒤 저장소에 추가
+    private List<TweetResponse> findResponsesInOrder(List<Long> tweetIds) {
+        if (tweetIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, TweetResponse> stored = offHeapTweetStore.getAll(tweetIds);
+        Map<Long, TweetResponse> responses = fillLiveFields(stored);
 
-        // 5-1. 타임라인 트윗 중 원본 트윗 ID 목록을 수집합니다.
-        List<Long> originalTargetIds = tweets.stream()
-                .map(tweet -> tweet.isRetweet() ? tweet.getOriginalTweet().getId() : tweet.getId())
-                .filter(Objects::nonNull)
-                .distinct()
+        List<Long> missingIds = tweetIds.stream()
+                .filter(tweetId -> !stored.containsKey(tweetId))
                 .collect(Collectors.toList());
+        if (!missingIds.isEmpty()) {
+            for (Tweet tweet : tweetRepository.findAllWithResponseGraphByIdIn(missingIds)) {
+                TweetResponse response = TweetResponse.from(tweet); // 연관 엔티티를 읽으므로 조회한 트랜잭션 안에서 변환
+                offHeapTweetStore.put(response);
+                responses.put(tweet.getId(), response);
+            }
+        }
 
-        // 5-2. 🚨 DB 조회 최소화: 현재 유저가 해당 트윗들을 리트윗했는지 한 번에 조회합니다.
-        List<Tweet> userRetweets = tweetRepository.findByUserAndOriginalTweetIdIn(
-                currentUser,
-                originalTargetIds
-        );
-
-        // 5-3. 맵으로 변환: O(1) 시간복잡도로 빠르게 리트윗 여부를 찾기 위함.
-        Map<Long, Boolean> retweetedMap = userRetweets.stream()
-                .collect(Collectors.toMap(
-                        tweet -> tweet.getOriginalTweet().getId(), // Key: 원본 트윗 ID
-                        tweet -> true,
-                        (existing, replacement) -> existing
-                ));
+        // 저장소 반영 직후 삭제된 트윗은 조회되지 않으므로 제외
+        return tweetIds.stream()
+                .map(responses::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
 
+    // 오프힙 저장소에서 꺼낸 응답에 카운트/작성자 이름/답글 대상 작성자 이름을 채움
+    // 카운트 기준은 TweetResponse.from()과 같음: 순수 리트윗의 좋아요/리트윗 수는 원본 트윗의 것
+    private Map<Long, TweetResponse> fillLiveFields(Map<Long, TweetResponse> stored) {
+        Map<Long, TweetResponse> filled = new HashMap<>();
+        if (stored.isEmpty()) {
+            return filled;
+        }
+        Set<Long> rowIds = new HashSet<>(stored.keySet());
+        for (TweetResponse response : stored.values()) {
+            if (response.getType() == RetweetType.PURE_RETWEET && response.getOriginalTweetId() != null) {
+                rowIds.add(response.getOriginalTweetId());
+            }
+            if (response.getReplyToTweetId() != null) {
+                rowIds.add(response.getReplyToTweetId());
+            }
+        }
+        Map<Long, TweetLiveRow> rows = tweetRepository.findLiveRowsByIdIn(rowIds).stream()
+                .collect(Collectors.toMap(TweetLiveRow::getTweetId, Function.identity()));
+
+        stored.forEach((tweetId, response) -> {
+            TweetLiveRow row = rows.get(tweetId);
+            if (row == null) {
+                offHeapTweetStore.remove(tweetId); // 다른 서버에서 삭제되는 등 저장소에만 남아 있던 트윗
+                return;
+            }
+            TweetLiveRow countSource = row;
+            if (response.getType() == RetweetType.PURE_RETWEET && rows.containsKey(response.getOriginalTweetId())) {
+                countSource = rows.get(response.getOriginalTweetId());
+            }
+            TweetLiveRow replyTo = response.getReplyToTweetId() != null ? rows.get(response.getReplyToTweetId()) : null;
+
+            response.setUsername(row.getUsername());
+            response.setNickname(row.getNickname());
+            response.setLikeCount(countSource.getLikeCount());
+            response.setRetweetCount(countSource.getRetweetCount());
+            response.setReplyCount(row.getReplyCount());
+            response.setReplyToUsername(replyTo != null ? replyTo.getUsername() : null);
+            filled.put(tweetId, response);
+        });
+        return filled;
+    }
 
-        // -------------------------------------------------------------
-        // 📌 [추가] 좋아요 여부 플래그 처리를 위한 Like ID 목록 조회
-        // -------------------------------------------------------------
+    // 검색 결과 ID 순서를 유지하며 트윗 엔티티 조회
+    private List<Tweet> findTweetsInOrder(List<Long> tweetIds) {
+        if (tweetIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Tweet> tweetMap = tweetRepository.findAllWithResponseGraphByIdIn(tweetIds).stream()
+                .collect(Collectors.toMap(Tweet::getId, Function.identity()));
 
-        // 타임라인에 표시할 모든 트윗의 ID를 수집합니다. (원본 트윗 ID 포함)
-        List<Long> tweetIdsToCheck = tweets.stream()
-                // 순수 트윗, 인용 트윗의 경우 본인 ID
-                .map(tweet -> tweet.isRetweet() ? tweet.getOriginalTweet().getId() : tweet.getId())
-                .distinct()
+        // 저장소 반영 직후 삭제된 트윗은 조회되지 않으므로 제외
+        return tweetIds.stream()
+                .map(tweetMap::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
+    }
 
-        // LikeRepository에서 현재 사용자가 이 트윗 ID들에 좋아요를 눌렀는지 모두 조회
-        // 💡 LikeRepository에 다음 메서드가 필요: List<Like> findByUserIdAndTweetIdIn(Long userId, List<Long> tweetIds);
-        List<Like> likedTweets = likeRepository.findByUserIdAndTweetIdIn(currentUserId, tweetIdsToCheck);
+    // 기존 방식: 팔로우 + 본인의 트윗을 DB에서 직접 조회 (커서 이후 limit개)
+    private List<Tweet> findTimelineTweetsFromDatabase(User currentUser, TweetCursor cursor, int limit) {
+        List<Long> followingUserIds = followGraph.followingIds(currentUser.getId()).toList();
+        followingUserIds.add(currentUser.getId());
+        return tweetRepository.findFeedByUserIdIn(
+                followingUserIds,
+                cursor.getTweetId(),
+                PageRequest.of(0, limit)
+        );
+    }
 
-        // Map<Tweet ID, true> 형태로 변환하여 빠르게 조회 가능하도록 준비
-        Map<Long, Boolean> likedMap = likedTweets.stream()
-                .collect(Collectors.toMap(
-                        like -> like.getTweet().getId(), // 좋아요된 트윗의 ID
-                        like -> true // 좋아요 맵에 존재 = true
-                ));
+    // 📌 페이지 크기 보정 (생략 시 기본값, 1 ~ MAX_PAGE_SIZE)
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
 
-        // -------------------------------------------------------------
-// 6. DTO 변환 시 플래그 설정 (수정된 로직)
-// -------------------------------------------------------------
-        return tweets.stream()
-                .map(tweet -> {
-                    TweetResponse response = TweetResponse.from(tweet);
-
-                    // 📌 1. 현재 트윗이 인용 트윗(Quote Retweet)인지 확인합니다.
-                    boolean isQuoteRetweet = tweet.getRetweetType() == RetweetType.QUOTE_RETWEET;
-
-                    // 2. 트윗이 리트윗인지, 원본 트윗인지에 따라 검사할 최종 원본 ID를 결정합니다.
-                    Long targetId = tweet.isRetweet() ? tweet.getOriginalTweet().getId() : tweet.getId();
-
-                    // 3. 📌 isRetweetedByMe 플래그 설정 (조건부 로직)
-                    if (isQuoteRetweet) {
-                        // 인용 트윗은 '내가 리트윗함'이 아니라 '내가 작성함'이므로 무조건 false
-                        response.setRetweetedByMe(false);
-                    } else {
-                        // 순수 트윗이거나 남의 트윗인 경우에만, Map을 통해 '내가 리트윗했는지' 검사합니다.
-                        response.setRetweetedByMe(retweetedMap.containsKey(targetId));
-                    }
-
-                    // 📌 [주입] isLikedByMe 플래그 주입
-                    response.setLikedByMe(likedMap.containsKey(targetId));
-
-                    return response;
-                })
-                .collect(Collectors.toList());
+    // 📌 조회 결과가 limit개를 꽉 채웠다면 마지막 트윗 위치가 다음 커서, 아니면 마지막 페이지
+    private String nextCursorOf(List<Tweet> tweets, int limit) {
+        if (tweets.size() < limit) {
+            return null;
+        }
+        Tweet last = tweets.get(tweets.size() - 1);
+        return new TweetCursor(last.getId()).encode();
     }
 
     // -------------------------------------------------------------
     // 2. 트윗 상세 조회
     // -------------------------------------------------------------
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS) // 📌 캐시 적중 시 트랜잭션(커넥션) 없이 응답, 조회는 replica
     public TweetResponse getTweetById(Long tweetId) {
-        // 2. tweetId로 트윗을 조회
-        Tweet tweet = findTweetById(tweetId);
+        // 1. 📌 트윗 상세 캐시 (내용 + DB 카운트, 캐시에 없으면 키마다 한 요청만 조회)
+        TweetResponse response = tweetDetailCache.getResponse(tweetId, this::loadTweetContent, this::loadTweetCounts);
+
+        // 2. 아직 DB에 반영되지 않은 카운트 합산
+        engagementCounterService.mergePending(List.of(response));
+        return response;
+    }
 
-        // 4. DTO로 변환하여 반환
+    // 캐시에 없을 때: tweetId로 트윗을 조회 (📌 작성자/원본/답글 대상을 함께 조회)
+    private TweetResponse loadTweetContent(Long tweetId) {
+        Tweet tweet = tweetRepository.findWithResponseGraphById(tweetId)
+                .orElseThrow(() -> new NotFoundException("트윗을 찾을 수 없습니다."));
         return TweetResponse.from(tweet);
     }
 
+    private TweetCounts loadTweetCounts(Long tweetId) {
+        return tweetRepository.findCountsById(tweetId)
+                .orElseThrow(() -> new NotFoundException("트윗을 찾을 수 없습니다. ID: " + tweetId));
+    }
+
     // -------------------------------------------------------------
     // 3. 신규 트윗 작성
     // -------------------------------------------------------------
@@ -173,8 +290,8 @@ public class TweetServiceImpl implements TweetService {
             replyToTweet = tweetRepository.findById(request.getReplyToTweetId())
                     .orElseThrow(() -> new NotFoundException("답글 대상 트윗을 찾을 수 없습니다: ID " + request.getReplyToTweetId()));
 
-            // 📌 [추가] 원본 트윗의 답글 개수 1 증가
-            replyToTweet.incrementReplyCount();
+            // 📌 [추가] 원본 트윗의 답글 개수 1 증가 (카운터 서비스가 모아서 반영)
+            engagementCounterService.increment(replyToTweet.getId(), EngagementType.REPLY, 1);
         }
 
 
@@ -189,6 +306,12 @@ public class TweetServiceImpl implements TweetService {
         );
 
         Tweet savedTweet = tweetRepository.save(newTweet);
+        userRepository.addTweetCount(userId, 1); // 📌 프로필의 트윗 수 증가
+        eventPublisher.publishEvent(new UserProfileChangedEvent(userId)); // 커밋 후 프로필 캐시 제거
+
+        // 3. 📌 작성자와 팔로워들의 타임라인에 배포
+        timelineService.fanOut(savedTweet);
+
         return TweetResponse.from(savedTweet);
     }
 
@@ -208,13 +331,19 @@ public class TweetServiceImpl implements TweetService {
         // 📌 [핵심 로직] 이 트윗이 답글(Reply)인 경우, 원본 트윗의 카운트 감소
         // -------------------------------------------------------------
         if (tweet.getReplyToTweet() != null) {
-            Tweet originalTweet = tweet.getReplyToTweet();
-            originalTweet.decrementReplyCount(); // 카운트 1 감소
-            // tweetRepository.save(originalTweet); // 변경 감지(Dirty Check)에 의해 자동 반영됨
+            // 카운트 1 감소 (카운터 서비스가 모아서 반영, 0 미만으로 내려가지 않음)
+            engagementCounterService.increment(tweet.getReplyToTweet().getId(), EngagementType.REPLY, -1);
         }
 
         // 2. 삭제
         tweetRepository.delete(tweet);
+        userRepository.addTweetCount(userId, -1); // 📌 프로필의 트윗 수 감소
+        eventPublisher.publishEvent(new UserProfileChangedEvent(userId));
+        timelineService.retract(tweet); // 📌 타임라인에서도 제거
+        afterCommit(() -> { // 📌 커밋 후 상세 캐시 / 오프힙 트윗 저장소에서도 제거
+            tweetDetailCache.invalidate(tweetId);
+            offHeapTweetStore.remove(tweetId);
+        });
 
         // 📌 참고: 좋아요, 리트윗 카운트 감소 로직 (별도 Like/Retweet Service에서 처리될 수 있음)
     }
@@ -251,10 +380,12 @@ public class TweetServiceImpl implements TweetService {
 
         // 4. 저장
         Tweet savedRetweet = tweetRepository.save(retweet);
+        userRepository.addTweetCount(userId, 1); // 📌 리트윗도 트윗 수에 포함
+        eventPublisher.publishEvent(new UserProfileChangedEvent(userId));
+        timelineService.fanOut(savedRetweet); // 📌 리트윗도 팔로워 타임라인에 배포
 
-        // 5. 원본 트윗의 카운트 증가 (트랜잭션 내에서 처리)
-        originalTweet.setRetweetCount(originalTweet.getRetweetCount() + 1);
-        tweetRepository.save(originalTweet); // 카운트 업데이트
+        // 5. 원본 트윗의 카운트 증가 (📌 row를 읽고 쓰지 않고 카운터 서비스에 증감분만 기록)
+        engagementCounterService.increment(originalTweet.getId(), EngagementType.RETWEET, 1);
 
         // 📌 [수정] DTO 변환 시 isRetweetedByMe 플래그를 true로 설정
         return TweetResponse.from(savedRetweet, true); // 👈 오버로딩된 메서드를 사용합니다.
@@ -278,11 +409,16 @@ public class TweetServiceImpl implements TweetService {
             Tweet retweet = retweetToCancel.get();
             // 2. 리트윗 레코드 삭제
             tweetRepository.delete(retweet);
+            userRepository.addTweetCount(currentUserId, -1);
+            eventPublisher.publishEvent(new UserProfileChangedEvent(currentUserId));
+            timelineService.retract(retweet); // 📌 타임라인에서도 제거
+            afterCommit(() -> { // 📌 커밋 후 상세 캐시 / 오프힙 트윗 저장소에서도 제거
+                tweetDetailCache.invalidate(retweet.getId());
+                offHeapTweetStore.remove(retweet.getId());
+            });
 
             // 3. 원본 트윗의 RT 카운트 감소 로직
-            Tweet originalTweet = findTweetById(originalTweetId);
-            originalTweet.setRetweetCount(originalTweet.getRetweetCount() - 1);
-            tweetRepository.save(originalTweet); // 카운트 업데이트
+            engagementCounterService.increment(originalTweetId, EngagementType.RETWEET, -1);
         } else {
             // 취소할 리트윗이 없는 경우 (예외 처리)
             throw new NotFoundException("취소할 순수 리트윗을 찾을 수 없거나, 인용 트윗입니다.");
@@ -294,109 +430,47 @@ public class TweetServiceImpl implements TweetService {
             return List.of();
         }
 
-        User currentUser = findUserById(currentUserId);
-
-        // -------------------------------------------------------------
-        // 1. 타겟 ID 목록 수집 (좋아요/리트윗 여부를 검사할 원본 트윗 ID)
-        // -------------------------------------------------------------
-        List<Long> originalTargetIds = tweets.stream()
-                // isRetweet() 헬퍼 메서드를 사용하며, Lazy Loading을 방지하기 위해 Fetch Join이 필요함
-                .filter(tweet -> tweet.isRetweet() && tweet.getOriginalTweet() == null) // null 체크는 안전장치
-                .map(tweet -> tweet.isRetweet() ? tweet.getOriginalTweet().getId() : tweet.getId())
-                .filter(Objects::nonNull)
-                .distinct()
+        // 📌 DTO 변환 후 현재 유저 기준 플래그(좋아요/리트윗/북마크)를 한 번의 쿼리로 채움
+        List<TweetResponse> responses = tweets.stream()
+                .map(TweetResponse::from)
                 .collect(Collectors.toList());
+        viewerStateHydrator.hydrate(currentUserId, responses);
 
-        if (originalTargetIds.isEmpty()) {
-            return tweets.stream().map(TweetResponse::from).collect(Collectors.toList());
-        }
-
-        // -------------------------------------------------------------
-        // 2. 집합 조회 (Bulk Query)
-        // -------------------------------------------------------------
-
-        // 2-1. 리트윗 여부 조회
-        List<Tweet> userRetweets = tweetRepository.findByUserAndOriginalTweetIdIn(currentUser, originalTargetIds);
-        Map<Long, Boolean> retweetedMap = userRetweets.stream()
-                .collect(Collectors.toMap(
-                        tweet -> tweet.getOriginalTweet().getId(),
-                        tweet -> true,
-                        (existing, replacement) -> existing // 충돌 처리
-                ));
-
-        // 2-2. 좋아요 여부 조회
-        List<Like> likedTweets = likeRepository.findByUserIdAndTweetIdIn(currentUserId, originalTargetIds);
-        Map<Long, Boolean> likedMap = likedTweets.stream()
-                .collect(Collectors.toMap(
-                        like -> like.getTweet().getId(),
-                        like -> true
-                ));
-
-        // -------------------------------------------------------------
-        // 3. DTO 변환 및 플래그 주입
-        // -------------------------------------------------------------
-        return tweets.stream()
-                .map(tweet -> {
-                    TweetResponse response = TweetResponse.from(tweet);
-
-                    // 순수 리트윗의 경우 원본 트윗 ID를, 아니면 현재 트윗 ID를 사용
-                    Long targetId = tweet.isRetweet() ? tweet.getOriginalTweet().getId() : tweet.getId();
-
-                    // 📌 플래그 설정
-                    // 인용 트윗은 isRetweetedByMe가 항상 false이므로, 헬퍼 메서드를 사용
-                    boolean isQuoteRetweet = tweet.getRetweetType() == RetweetType.QUOTE_RETWEET;
-
-                    if (isQuoteRetweet) {
-                        response.setRetweetedByMe(false);
-                    } else {
-                        response.setRetweetedByMe(retweetedMap.containsKey(targetId));
-                    }
-
-                    // 📌 좋아요 플래그 설정
-                    response.setLikedByMe(likedMap.containsKey(targetId));
-
-                    return response;
-                })
-                .collect(Collectors.toList());
+        engagementCounterService.mergePending(responses); // 📌 아직 DB에 반영되지 않은 카운트 합산
+        return responses;
     }
 
     @Override
-    public List<TweetResponse> searchAllTweets(Long currentUserId, TweetSearchRequest request) { // 📌 [수정] currentUserId 인자 추가
+    @Transactional(readOnly = true) // 📌 replica에서 읽음 (방금 직접 쓴 유저는 primary)
+    public CursorResponse<TweetResponse> searchAllTweets(Long currentUserId, TweetSearchRequest request) { // 📌 [수정] currentUserId 인자 추가
         if (!request.isValid()) {
             throw new IllegalArgumentException("검색 키워드 또는 기간이 필요합니다.");
         }
 
-        // -------------------------------------------------------------
-        // 📌 [추가] 검색 기간 LocalTime 설정 로직
-        // -------------------------------------------------------------
-        LocalDateTime since = null;
-        if (request.getSince() != null) {
-            // 'since' 날짜의 시작 시간 (00:00:00)으로 변환
-            since = request.getSince().atStartOfDay();
+        // 📌 키워드가 있으면 검색 색인 사용 (LIKE 전체 스캔 없음), 기간만 있으면 DB에서 최신순 조회
+        //    기간은 두 경로 모두 같은 트윗 ID 범위로 거름 (TweetSearchRequest.minTweetId / maxTweetIdExclusive)
+        if (request.hasKeyword()) {
+            return searchByIndex(currentUserId, request, null);
         }
 
-        LocalDateTime until = null;
-        if (request.getUntil() != null) {
-            // 'until' 날짜의 종료 시간 (23:59:59.999...)으로 변환
-            // JDBC/JPA는 보통 23:59:59.999999999까지 처리할 수 있지만,
-            // 안전하게 다음 날의 시작 시간 직전으로 처리하는 것이 일반적입니다.
-            // 여기서는 명확성을 위해 23:59:59로 설정합니다.
-            until = request.getUntil().atTime(23, 59, 59);
-        }
-        // -------------------------------------------------------------
+        TweetCursor cursor = TweetCursor.decode(request.getCursor());
+        int limit = resolvePageSize(request.getSize());
+
+        // 📌 기간은 트윗 ID 범위로 변환하여 PK 범위 스캔 (createdAt 조건 없음)
         List<Tweet> tweets = tweetRepository.searchTweetsByConditions(
-                request.getKeyword(),
-                since, // 변환된 LocalDateTime
-                until, // 변환된 LocalDateTime
-                null
+                request.minTweetId(),
+                null,
+                Math.min(cursor.getTweetId(), request.maxTweetIdExclusive()), // 📌 커서 이후 + 종료 시점 이전
+                PageRequest.of(0, limit) // 📌 한 페이지 분량만 조회
         );
 
         // 2. 📌 [추가] 헬퍼 메서드를 사용하여 플래그 처리 후 반환
-        return mapTweetsToResponseWithFlags(currentUserId, tweets);
+        return new CursorResponse<>(mapTweetsToResponseWithFlags(currentUserId, tweets), nextCursorOf(tweets, limit));
     }
 
     @Override
-    public List<TweetResponse> searchUserTweets(
+    @Transactional(readOnly = true) // 📌 replica에서 읽음 (방금 직접 쓴 유저는 primary)
+    public CursorResponse<TweetResponse> searchUserTweets(
             Long currentUserId,
             // 📌 [수정] targetUsername으로 인자 변경
             String targetUsername,
@@ -410,51 +484,71 @@ public class TweetServiceImpl implements TweetService {
         User targetUser = userRepository.findByUsername(targetUsername)
                 .orElseThrow(() -> new NotFoundException("검색 대상 사용자를 찾을 수 없습니다: " + targetUsername));
 
-        // -------------------------------------------------------------
-        // 📌 [추가] 검색 기간 LocalTime 설정 로직
-        // -------------------------------------------------------------
-        LocalDateTime since = null;
-        if (request.getSince() != null) {
-            // 'since' 날짜의 시작 시간 (00:00:00)으로 변환
-            since = request.getSince().atStartOfDay();
+        if (request.hasKeyword()) {
+            return searchByIndex(currentUserId, request, targetUser.getId());
         }
 
-        LocalDateTime until = null;
-        if (request.getUntil() != null) {
-            // 'until' 날짜의 종료 시간 (23:59:59.999...)으로 변환
-            // JDBC/JPA는 보통 23:59:59.999999999까지 처리할 수 있지만,
-            // 안전하게 다음 날의 시작 시간 직전으로 처리하는 것이 일반적입니다.
-            // 여기서는 명확성을 위해 23:59:59로 설정합니다.
-            until = request.getUntil().atTime(23, 59, 59);
-        }
-        // -------------------------------------------------------------
+        TweetCursor cursor = TweetCursor.decode(request.getCursor());
+        int limit = resolvePageSize(request.getSize());
 
         List<Tweet> tweets = tweetRepository.searchTweetsByUserAndConditions(
                 targetUser,
-                request.getKeyword(),
-                since, // 변환된 LocalDateTime
-                until // 변환된 LocalDateTime
+                request.minTweetId(), // 📌 기간 → 트윗 ID 범위
+                Math.min(cursor.getTweetId(), request.maxTweetIdExclusive()), // 📌 커서 이후 + 종료 시점 이전
+                PageRequest.of(0, limit) // 📌 한 페이지 분량만 조회
         );
 
         // 2. 📌 [추가] 헬퍼 메서드를 사용하여 플래그 처리 후 반환
-        return mapTweetsToResponseWithFlags(currentUserId, tweets);
+        return new CursorResponse<>(mapTweetsToResponseWithFlags(currentUserId, tweets), nextCursorOf(tweets, limit));
+    }
+
+    // 📌 키워드 검색: 색인에서 정렬/커서 처리된 트윗 ID를 받아 한 번에 조회
+    private CursorResponse<TweetResponse> searchByIndex(Long currentUserId, TweetSearchRequest request, Long authorId) {
+        SearchSort sort = request.getSort() == null ? SearchSort.RELEVANCE : request.getSort();
+        int limit = resolvePageSize(request.getSize());
+
+        SearchQuery.SearchQueryBuilder query = SearchQuery.builder()
+                .keyword(request.getKeyword())
+                .minTweetId(request.minTweetId())
+                .maxTweetIdExclusive(request.maxTweetIdExclusive())
+                .userId(authorId)
+                .sort(sort)
+                .limit(limit);
+        if (sort == SearchSort.LATEST) {
+            query.latestCursor(TweetCursor.decode(request.getCursor()));
+        } else {
+            query.relevanceCursor(RelevanceCursor.decode(request.getCursor()));
+        }
+
+        List<SearchHit> hits = tweetSearchService.search(query.build());
+        List<Tweet> tweets = findTweetsInOrder(hits.stream()
+                .map(SearchHit::getTweetId)
+                .collect(Collectors.toList()));
+
+        // 색인 결과가 limit개를 꽉 채웠다면 마지막 결과 위치가 다음 커서
+        String nextCursor = null;
+        if (hits.size() >= limit) {
+            SearchHit last = hits.get(hits.size() - 1);
+            nextCursor = sort == SearchSort.LATEST
+                    ? new TweetCursor(last.getTweetId()).encode()
+                    : new RelevanceCursor(last.getScore(), last.getTweetId()).encode();
+        }
+        return new CursorResponse<>(mapTweetsToResponseWithFlags(currentUserId, tweets), nextCursor);
     }
 
     // TweetServiceImpl.java 내부에 추가
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS) // 📌 캐시 적중 시 트랜잭션(커넥션) 없이 응답, 조회는 replica
     public TweetStatsResponse getTweetStats(Long tweetId) {
-        Tweet tweet = tweetRepository.findById(tweetId)
-                .orElseThrow(() -> new NotFoundException("트윗을 찾을 수 없습니다. ID: " + tweetId));
+        TweetCounts counts = tweetDetailCache.getCounts(tweetId, this::loadTweetCounts);
 
-        // 만약 엔티티에 카운트 필드가 관리되고 있다면 바로 꺼내오고,
-        // 아니라면 리포지토리의 countBy 메서드를 사용하세요.
+        // 📌 DB에 반영된 카운트(캐시) + 아직 반영되지 않은 증감분
         return TweetStatsResponse.builder()
                 .tweetId(tweetId)
-                .likeCount(tweet.getLikeCount())   // 엔티티 필드 사용 시
-                .replyCount(tweet.getReplyCount()) // 엔티티 필드 사용 시
-                .retweetCount(tweet.getRetweetCount()) // 엔티티 필드 사용 시
+                .likeCount(engagementCounterService.withPending(counts.getLikeCount(), tweetId, EngagementType.LIKE))
+                .replyCount(engagementCounterService.withPending(counts.getReplyCount(), tweetId, EngagementType.REPLY))
+                .retweetCount(engagementCounterService.withPending(counts.getRetweetCount(), tweetId, EngagementType.RETWEET))
                 .build();
     }
 
@@ -0,0 +1,65 @@
+package com.langjoo.prac.tweet.service;
+
+import com.langjoo.prac.domain.RetweetType;
+import com.langjoo.prac.like.writebehind.LikeWriteBehindQueue;
+import com.langjoo.prac.tweet.dto.TweetResponse;
+import com.langjoo.prac.tweet.repository.ViewerStateRepository;
+import com.langjoo.prac.tweet.repository.ViewerStateRepository.ViewerState;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// 📌 트윗 응답 목록에 보는 사람 기준 플래그(isLikedByMe / isRetweetedByMe / isBookmarkedByMe)를 채움
+// 홈/검색/프로필/북마크 응답이 모두 같은 기준으로 채우도록 한 곳에 모았습니다.
+// - 기준 트윗: 리트윗(순수/인용)이면 원본 트윗, 아니면 자기 자신
+// - 인용 트윗은 "내가 리트윗함"이 아니라 "내가 작성함"이므로 isRetweetedByMe는 항상 false
+// - 조회: 페이지당 한 번 (ViewerStateRepository), 비로그인이면 조회하지 않음
+//   hydrate()는 응답으로 바꾼 뒤 조회, prefetch() + apply()는 트윗 조회와 동시에 조회한 뒤 적용
+@Component
+@RequiredArgsConstructor
+public class ViewerStateHydrator {
+
+    private final ViewerStateRepository viewerStateRepository;
+    private final LikeWriteBehindQueue likeWriteBehindQueue; // 📌 아직 DB에 반영되지 않은 내 좋아요 (read-your-writes)
+
+    public void hydrate(Long viewerId, List<TweetResponse> responses) {
+        if (viewerId == null || responses.isEmpty()) {
+            return;
+        }
+
+        Set<Long> targetIds = new LinkedHashSet<>();
+        for (TweetResponse response : responses) {
+            targetIds.add(targetIdOf(response));
+        }
+        apply(viewerId, responses, viewerStateRepository.findViewerState(viewerId, targetIds));
+    }
+
+    // 📌 트윗을 읽기 전에 페이지의 트윗 ID만으로 미리 조회 (트윗 조회와 동시에 실행할 때 사용, 결과는 apply()로 적용)
+    public ViewerState prefetch(Long viewerId, List<Long> pageTweetIds) {
+        if (viewerId == null) {
+            return new ViewerState();
+        }
+        return viewerStateRepository.findViewerStateForPage(viewerId, pageTweetIds);
+    }
+
+    public void apply(Long viewerId, List<TweetResponse> responses, ViewerState state) {
+        if (viewerId == null) {
+            return;
+        }
+        for (TweetResponse response : responses) {
+            Long targetId = targetIdOf(response);
+            response.setLikedByMe(likeWriteBehindQueue.isLiked(viewerId, targetId, state.isLiked(targetId)));
+            response.setRetweetedByMe(response.getType() != RetweetType.QUOTE_RETWEET && state.isRetweeted(targetId));
+            response.setBookmarkedByMe(state.isBookmarked(targetId));
+        }
+    }
+
+    private static Long targetIdOf(TweetResponse response) {
+        return response.getType() != RetweetType.ORIGINAL && response.getOriginalTweetId() != null
+                ? response.getOriginalTweetId()
+                : response.getTweetId();
+    }
+}
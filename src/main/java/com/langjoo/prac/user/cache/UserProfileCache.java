@@ -0,0 +1,163 @@
+package com.langjoo.prac.user.cache;
+
+import com.langjoo.prac.common.datasource.PrimaryReads;
+import com.langjoo.prac.user.dto.UserProfileResponse;
+import com.langjoo.prac.user.event.UserProfileChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 📌 프로필 응답 중 보는 사람과 무관한 부분(유저 정보, 집계, 최신 트윗)을 username 기준으로 보관하는 캐시
+// - 팔로우 여부(isFollowing)는 보관하지 않고 요청마다 합침
+// - 트윗 작성/삭제, 팔로우/언팔로우, 회원 정보 수정 시 커밋 후 해당 유저만 제거 (UserProfileChangedEvent)
+// - 다른 유저의 좋아요 등으로 바뀌는 트윗 카운트는 이벤트 대상이 아니므로 TTL(user.profile-cache.ttl-ms) 안에서만 오래될 수 있음
+@Component
+public class UserProfileCache {
+
+    // 제거 시각을 기록하는 슬롯 수 (유저 ID로 나눠 담음)
+    private static final int INVALIDATION_SLOTS = 1024;
+
+    private final long ttlNanos;
+    private final long replicaLagNanos; // replica를 쓰지 않으면 0
+
+    // accessOrder = true → LRU, max-size명까지만 유지 (username → 프로필), usernameById와 함께 cache 락 안에서만 접근
+    private final Map<String, CachedProfile> cache;
+    private final Map<Long, String> usernameById = new HashMap<>();
+
+    // 📌 조회 중에 제거 이벤트가 지나가면, 조회한(이미 오래된) 값을 캐시에 넣지 않기 위한 슬롯별 마지막 제거 시각
+    private final AtomicLongArray invalidatedAt = new AtomicLongArray(INVALIDATION_SLOTS);
+
+    // 📌 튜닝용 지표 (/actuator/metrics/user.profile.cache.*)
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter invalidations;
+    private final DistributionSummary servedAge; // 캐시에서 응답한 프로필의 나이 (ms) = 최대 staleness
+
+    public UserProfileCache(MeterRegistry meterRegistry,
+                            PrimaryReads primaryReads,
+                            @Value("${user.profile-cache.ttl-ms:30000}") long ttlMillis,
+                            @Value("${user.profile-cache.max-size:10000}") int maxSize) {
+        this.ttlNanos = ttlMillis * 1_000_000L;
+        this.replicaLagNanos = primaryReads.maxLagNanos();
+        long createdAt = System.nanoTime();
+        for (int i = 0; i < INVALIDATION_SLOTS; i++) {
+            invalidatedAt.set(i, createdAt);
+        }
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedProfile> eldest) {
+                if (size() > maxSize) {
+                    usernameById.remove(eldest.getValue().profile.getUserId());
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        this.hits = meterRegistry.counter("user.profile.cache", "result", "hit");
+        this.misses = meterRegistry.counter("user.profile.cache", "result", "miss");
+        this.invalidations = meterRegistry.counter("user.profile.cache.invalidations");
+        this.servedAge = DistributionSummary.builder("user.profile.cache.age")
+                .baseUnit("milliseconds")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("user.profile.cache.size", this, UserProfileCache::size)
+                .register(meterRegistry);
+        Gauge.builder("user.profile.cache.hit.ratio", this, UserProfileCache::hitRatio)
+                .register(meterRegistry);
+    }
+
+    // -------------------------------------------------------------
+    // 1. 조회 / 적재
+    // -------------------------------------------------------------
+
+    // 캐시된 프로필 (없거나 TTL이 지났으면 null)
+    public UserProfileResponse get(String username) {
+        long now = System.nanoTime();
+        CachedProfile cached;
+        synchronized (cache) {
+            cached = cache.get(username);
+        }
+        if (cached == null || now - cached.loadedAt > ttlNanos) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        servedAge.record((now - cached.loadedAt) / 1_000_000.0);
+        return cached.profile;
+    }
+
+    // 📌 DB 조회를 시작하기 전에 호출하여 받은 값을 put()에 넘김
+    public long beginLoad() {
+        return System.nanoTime();
+    }
+
+    // 조회를 시작한 뒤 이 유저의 제거 이벤트가 있었다면 넣지 않음 (다음 요청에서 다시 조회)
+    // 📌 replica를 쓰면 제거 후 복제 지연 시간 안에 시작한 조회도 넣지 않음 (replica가 아직 변경 전 값을 돌려줄 수 있음)
+    //    username으로 조회하므로 조회 전에는 유저 ID(제거 시각 슬롯)를 알 수 없어 primary로 보내는 대신 캐시하지 않는 쪽을 택함
+    public void put(UserProfileResponse profile, long loadStartedAt) {
+        if (ttlNanos <= 0 || invalidatedAt.get(slot(profile.getUserId())) + replicaLagNanos - loadStartedAt >= 0) {
+            return;
+        }
+        synchronized (cache) {
+            String previousUsername = usernameById.put(profile.getUserId(), profile.getUsername());
+            if (previousUsername != null && !previousUsername.equals(profile.getUsername())) {
+                cache.remove(previousUsername);
+            }
+            cache.put(profile.getUsername(), new CachedProfile(profile, loadStartedAt));
+        }
+    }
+
+    // -------------------------------------------------------------
+    // 2. 제거 (트랜잭션 커밋 후, 트랜잭션 밖에서 발행되면 즉시)
+    // -------------------------------------------------------------
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfileChanged(UserProfileChangedEvent event) {
+        invalidate(event.getUserId());
+    }
+
+    public void invalidate(Long userId) {
+        invalidatedAt.set(slot(userId), System.nanoTime());
+        synchronized (cache) {
+            String username = usernameById.remove(userId);
+            if (username != null) {
+                cache.remove(username);
+            }
+        }
+        invalidations.increment();
+    }
+
+    private int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0 : hits.count() / total;
+    }
+
+    private static int slot(Long userId) {
+        return (int) Math.floorMod(userId, (long) INVALIDATION_SLOTS);
+    }
+
+    private static final class CachedProfile {
+        private final UserProfileResponse profile;
+        private final long loadedAt;
+
+        private CachedProfile(UserProfileResponse profile, long loadedAt) {
+            this.profile = profile;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
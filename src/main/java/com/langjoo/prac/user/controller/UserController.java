@@ -1,6 +1,7 @@
 package com.langjoo.prac.user.controller;
 
 import com.langjoo.prac.auth.config.UserDetailsImpl; // 인증된 사용자 정보를 가정
+import com.langjoo.prac.auth.config.UserDetailsServiceImpl;
 import com.langjoo.prac.auth.dto.AuthResponse; // 로그인 응답 (JWT 토큰 포함)
 import com.langjoo.prac.auth.dto.LoginRequest; // 로그인 요청 DTO
 import com.langjoo.prac.user.dto.UserMeResponse;
@@ -27,6 +28,7 @@ public class UserController {
 
     private final UserService userService;
     private final AuthService authService; // 인증 로직을 전담하는 서비스 주입
+    private final UserDetailsServiceImpl userDetailsService; // 📌 엔티티가 필요한 경우의 (캐시된) 유저 조회
 
     // 1. 신규 회원 가입
     // POST /api/users/register
@@ -54,11 +56,12 @@ public class UserController {
     public ResponseEntity<UserMeResponse> getMyInfo(
             @AuthenticationPrincipal UserDetailsImpl userDetails) {
 
-        // userDetails에 이미 정보가 담겨 있으므로 바로 DTO로 변환
+        // 📌 토큰 인증 주체에는 엔티티가 없으므로 닉네임이 필요한 이 API만 (캐시된) 유저 정보를 조회
+        UserDetailsImpl user = userDetailsService.loadUserById(userDetails.getUserId());
         UserMeResponse response = UserMeResponse.builder()
-                .userId(userDetails.getUser().getId())
-                .username(userDetails.getUsername())
-                .nickname(userDetails.getUser().getNickname())
+                .userId(user.getUserId())
+                .username(user.getUsername())
+                .nickname(user.getUser().getNickname())
                 .build();
 
         return ResponseEntity.ok(response);
@@ -0,0 +1,13 @@
+package com.langjoo.prac.user.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 📌 프로필 응답(유저 정보/집계/최신 트윗)이 바뀌었음을 알리는 이벤트
+// 트윗 작성/삭제, 팔로우/언팔로우, 회원 정보 수정/탈퇴 시 발행 → 커밋 후 프로필 캐시에서 제거
+@Getter
+@RequiredArgsConstructor
+public class UserProfileChangedEvent {
+
+    private final Long userId;
+}
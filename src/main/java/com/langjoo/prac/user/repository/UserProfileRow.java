@@ -0,0 +1,19 @@
+package com.langjoo.prac.user.repository;
+
+import com.langjoo.prac.domain.User;
+import lombok.Getter;
+
+// 📌 프로필 조회 한 번으로 가져오는 값 (유저 + 현재 로그인 유저의 팔로우 여부)
+// 트윗/팔로워/팔로잉 수는 User의 집계 컬럼에 있으므로 COUNT 쿼리가 필요 없습니다.
+@Getter
+public class UserProfileRow {
+
+    private final User user;
+    private final boolean following;
+
+    // JPQL 생성자 표현식(SELECT new ...)에서 사용
+    public UserProfileRow(User user, Boolean following) {
+        this.user = user;
+        this.following = Boolean.TRUE.equals(following);
+    }
+}
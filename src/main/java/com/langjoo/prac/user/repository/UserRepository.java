@@ -5,7 +5,12 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -21,4 +26,37 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     // username 중복 여부를 확인하는 메서드
     boolean existsByUsername(String username);
+
+    // 📌 프로필 조회: 유저 + 현재 로그인 유저의 팔로우 여부를 한 번에 조회 (viewerId가 null이면 false)
+    @Query("SELECT new com.langjoo.prac.user.repository.UserProfileRow(u, " +
+            "CASE WHEN EXISTS (SELECT 1 FROM Follow f WHERE f.follower.id = :viewerId AND f.following = u) " +
+            "THEN true ELSE false END) " +
+            "FROM User u WHERE u.username = :username")
+    Optional<UserProfileRow> findProfileByUsername(@Param("username") String username, @Param("viewerId") Long viewerId);
+
+    // 📌 팔로워 수가 threshold를 초과하는 유저 ID 목록 (하이브리드 타임라인의 pull 대상, 집계 컬럼 인덱스 사용)
+    @Query("SELECT u.id FROM User u WHERE u.followerCount > :threshold")
+    List<Long> findIdsByFollowerCountGreaterThan(@Param("threshold") long threshold);
+
+    // 📌 트윗 수 증감 (읽고 쓰지 않고 DB에서 더하므로 동시 작성에도 값이 유실되지 않음)
+    @Modifying
+    @Query("UPDATE User u SET u.tweetCount = u.tweetCount + :delta WHERE u.id = :userId")
+    int addTweetCount(@Param("userId") Long userId, @Param("delta") long delta);
+
+    // 📌 팔로우/언팔로우 시 두 유저의 팔로잉/팔로워 수를 UPDATE 한 번으로 증감
+    @Modifying
+    @Query("UPDATE User u SET " +
+            "u.followingCount = u.followingCount + CASE WHEN u.id = :followerId THEN :delta ELSE 0 END, " +
+            "u.followerCount = u.followerCount + CASE WHEN u.id = :followingId THEN :delta ELSE 0 END " +
+            "WHERE u.id IN (:followerId, :followingId)")
+    int addFollowCounts(@Param("followerId") Long followerId, @Param("followingId") Long followingId, @Param("delta") long delta);
+
+    // 📌 탈퇴 시 상대편 유저들의 팔로워/팔로잉 수를 UPDATE 한 번으로 감소 (Follow 행은 User cascade로 삭제됨)
+    @Modifying
+    @Query("UPDATE User u SET u.followerCount = u.followerCount - 1 WHERE u.id IN :userIds")
+    int decrementFollowerCounts(@Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query("UPDATE User u SET u.followingCount = u.followingCount - 1 WHERE u.id IN :userIds")
+    int decrementFollowingCounts(@Param("userIds") Collection<Long> userIds);
 }
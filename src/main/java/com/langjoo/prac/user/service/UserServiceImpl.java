@@ -1,23 +1,40 @@
 package com.langjoo.prac.user.service;
 
+import static com.langjoo.prac.common.TransactionHooks.afterCommit;
+
+import com.langjoo.prac.auth.config.UserDetailsServiceImpl;
+import com.langjoo.prac.common.concurrency.ParallelQueries;
 import com.langjoo.prac.domain.Tweet;
 import com.langjoo.prac.domain.User;
+import com.langjoo.prac.engagement.service.EngagementCounterService;
+import com.langjoo.prac.follow.event.FollowChangedEvent;
+import com.langjoo.prac.follow.graph.FollowGraph;
 import com.langjoo.prac.follow.repository.FollowRepository;
+import com.langjoo.prac.timeline.service.TimelineService;
 import com.langjoo.prac.tweet.dto.TweetResponse;
 import com.langjoo.prac.tweet.repository.TweetRepository;
+import com.langjoo.prac.tweet.service.ViewerStateHydrator;
+import com.langjoo.prac.user.cache.UserProfileCache;
 import com.langjoo.prac.user.dto.UserRegisterRequest;
 import com.langjoo.prac.user.dto.UserProfileResponse;
 import com.langjoo.prac.user.dto.UserUpdateRequest;
+import com.langjoo.prac.user.event.UserProfileChangedEvent;
+import com.langjoo.prac.user.repository.UserProfileRow;
 import com.langjoo.prac.user.repository.UserRepository;
 import com.langjoo.prac.common.exception.DuplicateException;
 import com.langjoo.prac.common.exception.NotFoundException;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder; // 비밀번호 암호화
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,7 +45,18 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder; // Spring Security 설정 시 주입
     private final TweetRepository tweetRepository;
-    private final FollowRepository followRepository;
+    private final EngagementCounterService engagementCounterService; // 📌 미반영 카운트 합산용
+    private final UserDetailsServiceImpl userDetailsService; // 📌 인증 유저 캐시 무효화용
+    private final FollowGraph followGraph; // 📌 캐시된 프로필에 팔로우 여부를 합칠 때 사용
+    private final UserProfileCache userProfileCache; // 📌 보는 사람과 무관한 프로필 응답 캐시
+    private final ViewerStateHydrator viewerStateHydrator; // 📌 최신 트윗의 좋아요/리트윗/북마크 여부 플래그
+    private final ParallelQueries parallelQueries; // 📌 프로필 조회의 독립 쿼리 동시 실행
+    private final FollowRepository followRepository; // 📌 탈퇴 시 팔로우 상대 ID 조회
+    private final TimelineService timelineService; // 📌 탈퇴한 유저를 팔로우하던 유저의 타임라인 재구성
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 📌 탈퇴 시 집계 컬럼 감소 UPDATE의 IN 절 크기 상한
+    private static final int COUNT_UPDATE_BATCH_SIZE = 1000;
 
     // -------------------------------------------------------------
     // 1. 신규 회원 가입
@@ -65,50 +93,40 @@ public class UserServiceImpl implements UserService {
     // 2. 특정 사용자의 프로필 조회
     // -------------------------------------------------------------
     @Override
-    @Transactional // 읽기 전용 트랜잭션으로 최적화 (데이터 변경이 없으므로)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS) // 📌 트랜잭션(커넥션)을 잡은 채로 동시 조회를 기다리지 않도록 조회마다 짧은 읽기 전용 트랜잭션 (replica)
     public UserProfileResponse getUserProfile(Long currentUserId, String username) {
 
-        // 1. username으로 사용자 조회 (NotFoundException 발생 가능)
-        User profileUser = userRepository.findByUsername( username)
-                .orElseThrow(() -> new NotFoundException("사용자 @" + username + "을(를) 찾을 수 없습니다."));
-
-        // 2. 현재 로그인 사용자 (A) 조회
-        User currentUser = findUserById(currentUserId);
-
-        // 2. 통계 정보 조회 및 계산
-        // 좋아요/리트윗 카운트까지 통합하여 UserProfileResponse를 구성
-
-        // 작성한 총 트윗 수
-        long tweetCount = tweetRepository.countByUser(profileUser);
-
-        // 팔로잉 수 (User가 Follower인 관계의 수)
-        long followingCount = followRepository.countByFollower(profileUser);
-
-        // 팔로워 수 (User가 Following인 관계의 수)
-        long followerCount = followRepository.countByFollowing(profileUser);
-
-        /// 3. 📌 [추가] 팔로우 여부 확인 로직
-        // 현재 로그인 유저(Follower)가 프로필 대상 유저(Following)를 팔로우하는지 확인
-        boolean isFollowing = followRepository.findByFollowerAndFollowing(
-                currentUser,
-                profileUser
-        ).isPresent();
+        // 1. 📌 캐시에 있으면 팔로우 여부만 팔로우 그래프에서 확인하여 합침 (그래프에 적재된 유저면 플래그 조회 1회)
+        UserProfileResponse cached = userProfileCache.get(username);
+        if (cached != null) {
+            Long profileUserId = cached.getUserId();
+            boolean isFollowing = currentUserId != null
+                    && !currentUserId.equals(profileUserId)
+                    && followGraph.isFollowing(currentUserId, profileUserId);
+            return personalize(cached, currentUserId, isFollowing);
+        }
 
-        // 3. 최신 트윗 목록 조회 (페이지네이션 없이 20개만 조회한다고 가정)
-        // 트윗을 가져올 때 User 엔티티가 필요합니다.
-        List<TweetResponse> recentTweets = tweetRepository.findTop20ByUserOrderByCreatedAtDesc(profileUser).stream()
-                .map(TweetResponse::from)
-                .collect(Collectors.toList());
+        // 2. 📌 username만으로 실행할 수 있는 두 조회를 동시에 실행 (플래그 조회 포함 총 3회 조회)
+        //    - 사용자 + 현재 로그인 유저의 팔로우 여부 (NotFoundException 발생 가능)
+        //    - 최신 트윗 20개 (연관 엔티티를 읽으므로 조회한 트랜잭션 안에서 DTO로 변환)
+        // 트윗/팔로잉/팔로워 수는 User의 집계 컬럼을 그대로 사용하므로 COUNT 쿼리가 없습니다.
+        long loadStartedAt = userProfileCache.beginLoad();
+        UserProfileRow row;
+        List<TweetResponse> recentTweets;
+        try (ParallelQueries.Scope scope = parallelQueries.open()) {
+            Supplier<Optional<UserProfileRow>> rowQuery = scope.fork(() -> userRepository.findProfileByUsername(username, currentUserId));
+            Supplier<List<TweetResponse>> recentTweetsQuery = scope.fork(() -> toResponses(tweetRepository.findTop20ByUserUsernameOrderByIdDesc(username)));
+            scope.join();
+
+            row = rowQuery.get()
+                    .orElseThrow(() -> new NotFoundException("사용자 @" + username + "을(를) 찾을 수 없습니다."));
+            recentTweets = recentTweetsQuery.get();
+        }
 
-        // 4. DTO로 변환하여 반환
-        return UserProfileResponse.from(
-                profileUser,
-                tweetCount,
-                followingCount,
-                followerCount,
-                isFollowing,
-                recentTweets
-        );
+        // 3. 보는 사람과 무관한 부분만 캐시에 보관
+        UserProfileResponse profile = buildProfile(row.getUser(), recentTweets);
+        userProfileCache.put(profile, loadStartedAt);
+        return personalize(profile, currentUserId, row.isFollowing());
     }
 
     // -------------------------------------------------------------
@@ -123,9 +141,30 @@ public class UserServiceImpl implements UserService {
         // 2. 실제 트위터는 계정을 삭제하지 않고 '비활성화' 상태로 30일간 유지합니다.
         // 여기서는 간단하게 DB에서 삭제 처리 또는 'is_active' 플래그를 false로 변경합니다.
 
+        // 📌 Follow 행은 cascade로 함께 삭제되므로, 삭제 전에 상대편 유저들의 집계 컬럼/캐시를 정리
+        //    - 내가 팔로우하던 유저들: 팔로워 수 -1 / 나를 팔로우하던 유저들: 팔로잉 수 -1 (대상 수와 무관하게 배치당 UPDATE 한 번)
+        //    - 팔로우 그래프/프로필 캐시는 커밋 후 이벤트로 반영, 나를 팔로우하던 유저의 타임라인은 다음 조회 시 재구성
+        List<Long> followingIds = followRepository.findFollowingIdsByFollowerId(userId);
+        List<Long> followerIds = followRepository.findFollowerIdsByFollowingId(userId);
+        forEachBatch(followingIds, userRepository::decrementFollowerCounts);
+        forEachBatch(followerIds, userRepository::decrementFollowingCounts);
+        for (Long followingId : followingIds) {
+            eventPublisher.publishEvent(new FollowChangedEvent(userId, followingId, false));
+            eventPublisher.publishEvent(new UserProfileChangedEvent(followingId));
+        }
+        for (Long followerId : followerIds) {
+            eventPublisher.publishEvent(new FollowChangedEvent(followerId, userId, false));
+            eventPublisher.publishEvent(new UserProfileChangedEvent(followerId));
+            timelineService.invalidate(followerId);
+        }
+
         // 예시: 삭제 처리 (주의: cascade 설정에 따라 관련 데이터가 모두 삭제됨)
         userRepository.delete(user);
 
+        // 📌 커밋 후 캐시 제거 + 이미 발급된 토큰 거부 (토큰 인증은 DB를 조회하지 않으므로)
+        afterCommit(() -> userDetailsService.revoke(userId));
+        eventPublisher.publishEvent(new UserProfileChangedEvent(userId));
+
         // 💡 실제 서비스에서는 user.setActive(false)와 같이 상태를 변경하는 것이 좋습니다.
     }
 
@@ -153,42 +192,51 @@ public class UserServiceImpl implements UserService {
             user.setAddress(request.getAddress());
         }
 
-        // -------------------------------------------------------------
-        // 📌 4. [추가] 프로필 타임라인 로딩 값 (집계 정보) 계산
-        // -------------------------------------------------------------
+        // 📌 커밋 후 캐시된 유저 정보 제거 (다음 조회 시 변경된 값으로 다시 읽음)
+        afterCommit(() -> userDetailsService.evict(currentUserId));
+        eventPublisher.publishEvent(new UserProfileChangedEvent(currentUserId)); // 📌 커밋 후 프로필 캐시 제거
+
+        // 4. 집계 정보는 User의 집계 컬럼 사용, '내가 나를 팔로우 하는가' 플래그는 항상 false
+        return personalize(buildProfile(user, toResponses(tweetRepository.findTop20ByUserOrderByIdDesc(user))), currentUserId, false);
+    }
 
-        // 이 로직은 getUserProfile 메서드에서 가져와야 합니다.
-        // 4-1. 트윗 카운트 계산
-        long tweetCount = tweetRepository.countByUser(user);
+    // 📌 보는 사람과 무관한 프로필: 집계 컬럼 + 최신 트윗 20개 (연관 엔티티 포함 1회 조회)
+    // 캐시에 보관되므로 트윗 카운트는 DB 값 그대로 두고, 미반영 증감분은 personalize()에서 합산
+    private UserProfileResponse buildProfile(User user, List<TweetResponse> recentTweets) {
+        return UserProfileResponse.from(
+                user,
+                user.getTweetCount(),
+                user.getFollowingCount(),
+                user.getFollowerCount(),
+                false,
+                recentTweets
+        );
+    }
 
-        // 4-2. 팔로잉 카운트 계산 (user가 Follower)
-        long followingCount = followRepository.countByFollower(user);
+    // 📌 요청별 응답: 캐시된 객체는 건드리지 않고 복사본에 팔로우 여부 + 내 좋아요/리트윗/북마크 여부 + 미반영 카운트를 합침
+    private UserProfileResponse personalize(UserProfileResponse profile, Long viewerId, boolean isFollowing) {
+        List<TweetResponse> recentTweets = profile.getRecentTweets().stream()
+                .map(tweet -> tweet.toBuilder().build())
+                .collect(Collectors.toList());
+        viewerStateHydrator.hydrate(viewerId, recentTweets);
+        engagementCounterService.mergePending(recentTweets);
 
-        // 4-3. 팔로워 카운트 계산 (user가 Following)
-        long followerCount = followRepository.countByFollowing(user);
+        return profile.toBuilder()
+                .isFollowing(isFollowing)
+                .recentTweets(recentTweets)
+                .build();
+    }
 
-        // 4-4. [중요] '내가 나를 팔로우 하는가' 플래그는 항상 false여야 함
-        //      (만약 이 메서드가 프로필 주인의 정보를 반환하는 것이라면, isFollowing은 이 로직에서 필요 없음)
-        //      하지만 DTO 구조상 필요하므로, 여기서는 기본값인 false를 가정합니다.
-        boolean isFollowing = false; // 프로필 주인의 관점에서는 의미가 없으므로 false
+    private static void forEachBatch(List<Long> ids, Consumer<List<Long>> action) {
+        for (int from = 0; from < ids.size(); from += COUNT_UPDATE_BATCH_SIZE) {
+            action.accept(ids.subList(from, Math.min(from + COUNT_UPDATE_BATCH_SIZE, ids.size())));
+        }
+    }
 
-        // 4-5. 최근 트윗 목록 조회 (필요하다면 로직 추가)
-        List<Tweet> recentTweets = tweetRepository.findTop20ByUserOrderByCreatedAtDesc(user);
-        List<TweetResponse> recentTweetResponses = recentTweets.stream()
+    private List<TweetResponse> toResponses(List<Tweet> tweets) {
+        return tweets.stream()
                 .map(TweetResponse::from)
                 .collect(Collectors.toList());
-
-        // -------------------------------------------------------------
-        // 5. [수정] 모든 집계 정보를 포함한 긴 팩토리 메서드 호출
-        // -------------------------------------------------------------
-        return UserProfileResponse.from(
-                user,
-                tweetCount,
-                followingCount,
-                followerCount,
-                isFollowing,
-                recentTweetResponses
-        );
     }
 
     private User findUserById(Long userId) {
@@ -0,0 +1,109 @@
+package com.langjoo.prac;
+
+import com.langjoo.prac.bookmark.repository.BookmarkRepository;
+import com.langjoo.prac.bookmark.service.BookmarkService;
+import com.langjoo.prac.common.dto.ToggleResult;
+import com.langjoo.prac.domain.RetweetType;
+import com.langjoo.prac.domain.Tweet;
+import com.langjoo.prac.domain.User;
+import com.langjoo.prac.engagement.service.EngagementCounterService;
+import com.langjoo.prac.like.repository.LikeRepository;
+import com.langjoo.prac.like.service.LikeService;
+import com.langjoo.prac.tweet.repository.TweetRepository;
+import com.langjoo.prac.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 📌 같은 유저의 좋아요/북마크 요청이 동시에 들어와도(더블탭) 예외 없이 한 행만 남고 카운트가 행 수와 일치하는지 검증
+@SpringBootTest
+class EngagementToggleConcurrencyTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired private LikeService likeService;
+    @Autowired private BookmarkService bookmarkService;
+    @Autowired private EngagementCounterService engagementCounterService;
+    @Autowired private LikeRepository likeRepository;
+    @Autowired private BookmarkRepository bookmarkRepository;
+    @Autowired private TweetRepository tweetRepository;
+    @Autowired private UserRepository userRepository;
+
+    private User user;
+    private Tweet tweet;
+
+    @BeforeEach
+    void setUp() {
+        user = saveUser("liker");
+        tweet = tweetRepository.save(new Tweet(saveUser("author"), "tweet", null, RetweetType.ORIGINAL, null));
+    }
+
+    @Test
+    void concurrentLikesInsertOneRow() throws Exception {
+        List<ToggleResult> results = runConcurrently(() -> likeService.setLiked(user.getId(), tweet.getId(), true));
+
+        assertThat(results).allMatch(ToggleResult::isActive);
+        assertThat(likeRepository.countByTweet_Id(tweet.getId())).isEqualTo(1);
+        assertThat(persistedLikeCount()).isEqualTo(1);
+
+        // 이미 좋아요 상태에서 다시 등록해도 카운트는 그대로
+        assertThat(likeService.setLiked(user.getId(), tweet.getId(), true).getCount()).isEqualTo(1);
+        assertThat(likeService.setLiked(user.getId(), tweet.getId(), false).getCount()).isZero();
+        assertThat(likeService.setLiked(user.getId(), tweet.getId(), false).getCount()).isZero();
+    }
+
+    @Test
+    void concurrentTogglesKeepCountInSyncWithRows() throws Exception {
+        runConcurrently(() -> likeService.toggleLike(user.getId(), tweet.getId()));
+        runConcurrently(() -> bookmarkService.toggleBookmark(user.getId(), tweet.getId()));
+
+        assertThat(persistedLikeCount()).isEqualTo(likeRepository.countByTweet_Id(tweet.getId()));
+        assertThat(tweetRepository.findBookmarkCountById(tweet.getId())).contains(bookmarkRepository.countByTweet_Id(tweet.getId()));
+    }
+
+    private int persistedLikeCount() {
+        engagementCounterService.flush();
+        return tweetRepository.findLikeCountById(tweet.getId()).orElseThrow();
+    }
+
+    // 모든 스레드가 동시에 출발하도록 맞춘 뒤 실행, 하나라도 예외가 나면 실패
+    private <T> List<T> runConcurrently(Callable<T> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<T>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private User saveUser(String prefix) {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return userRepository.save(new User(prefix + suffix, prefix + suffix, prefix, "password"));
+    }
+}
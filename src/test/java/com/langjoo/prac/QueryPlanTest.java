@@ -0,0 +1,172 @@
+package com.langjoo.prac;
+
+import com.langjoo.prac.bookmark.repository.BookmarkRepository;
+import com.langjoo.prac.common.id.SnowflakeIdGenerator;
+import com.langjoo.prac.domain.Bookmark;
+import com.langjoo.prac.domain.Follow;
+import com.langjoo.prac.domain.Like;
+import com.langjoo.prac.domain.RetweetType;
+import com.langjoo.prac.domain.Tweet;
+import com.langjoo.prac.domain.User;
+import com.langjoo.prac.follow.repository.FollowRepository;
+import com.langjoo.prac.like.repository.LikeRepository;
+import com.langjoo.prac.support.SqlCapture;
+import com.langjoo.prac.tweet.dto.TweetCursor;
+import com.langjoo.prac.tweet.repository.TweetRepository;
+import com.langjoo.prac.tweet.repository.ViewerStateRepository;
+import com.langjoo.prac.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 📌 리포지토리 쿼리가 전체 테이블 스캔 없이 인덱스로 처리되는지 EXPLAIN으로 검증 (H2 MySQL 모드)
+// 리포지토리에 쿼리 메서드를 추가하면 여기에도 추가합니다.
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.langjoo.prac.support.SqlCapture")
+@Transactional
+class QueryPlanTest {
+
+    private static final String TABLE_SCAN = "tableScan";
+
+    @Autowired private TweetRepository tweetRepository;
+    @Autowired private FollowRepository followRepository;
+    @Autowired private LikeRepository likeRepository;
+    @Autowired private BookmarkRepository bookmarkRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ViewerStateRepository viewerStateRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private User reader;
+    private User author;
+    private Tweet original;
+
+    @BeforeEach
+    void setUp() {
+        reader = saveUser("reader");
+        author = saveUser("author");
+        followRepository.save(new Follow(reader, author));
+
+        original = tweetRepository.save(new Tweet(author, "original", null, RetweetType.ORIGINAL, null));
+        tweetRepository.save(Tweet.createRetweet(reader, original, null, RetweetType.PURE_RETWEET));
+        tweetRepository.save(new Tweet(reader, "reply", original, RetweetType.ORIGINAL, null));
+        likeRepository.save(new Like(reader, original));
+        bookmarkRepository.save(new Bookmark(reader, original));
+        tweetRepository.flush();
+    }
+
+    @Test
+    void repositoryQueriesAvoidFullTableScans() {
+        long minId = SnowflakeIdGenerator.minIdAt(Instant.now().minus(1, ChronoUnit.DAYS));
+        long untilId = SnowflakeIdGenerator.minIdAt(Instant.now().plus(1, ChronoUnit.DAYS));
+        Long cursorId = TweetCursor.FIRST.getTweetId();
+        List<Long> userIds = List.of(reader.getId(), author.getId());
+        List<Long> tweetIds = List.of(original.getId());
+
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+
+        // TweetRepository
+        queries.put("Tweet.countByUser", () -> tweetRepository.countByUser(author));
+        queries.put("Tweet.findAllByUserIdIn", () -> tweetRepository.findAllByUserIdIn(userIds, PageRequest.of(0, 20)));
+        queries.put("Tweet.findTimelineEntriesByUserIdIn", () -> tweetRepository.findTimelineEntriesByUserIdIn(userIds, cursorId, PageRequest.of(0, 20)));
+        queries.put("Tweet.findFeedByUserIdIn", () -> tweetRepository.findFeedByUserIdIn(userIds, cursorId, PageRequest.of(0, 20)));
+        queries.put("Tweet.findByUserAndRetweetTypeOrderByIdDesc", () -> tweetRepository.findByUserAndRetweetTypeOrderByIdDesc(author, RetweetType.ORIGINAL));
+        queries.put("Tweet.findTop20ByUserOrderByIdDesc", () -> tweetRepository.findTop20ByUserOrderByIdDesc(author));
+        queries.put("Tweet.findTop20ByUserUsernameOrderByIdDesc", () -> tweetRepository.findTop20ByUserUsernameOrderByIdDesc(author.getUsername()));
+        queries.put("Tweet.findWithResponseGraphById", () -> tweetRepository.findWithResponseGraphById(original.getId()));
+        queries.put("Tweet.findLikeCountById", () -> tweetRepository.findLikeCountById(original.getId()));
+        queries.put("Tweet.findBookmarkCountById", () -> tweetRepository.findBookmarkCountById(original.getId()));
+        queries.put("Tweet.findAllWithResponseGraphByIdIn", () -> tweetRepository.findAllWithResponseGraphByIdIn(tweetIds));
+        queries.put("Tweet.findLiveRowsByIdIn", () -> tweetRepository.findLiveRowsByIdIn(tweetIds));
+        queries.put("Tweet.findByUserAndOriginalTweet", () -> tweetRepository.findByUserAndOriginalTweet(reader, original));
+        queries.put("Tweet.findByOriginalTweetOrderByIdDesc", () -> tweetRepository.findByOriginalTweetOrderByIdDesc(original));
+        queries.put("Tweet.findByUserAndOriginalTweetAndRetweetType", () -> tweetRepository.findByUserAndOriginalTweetAndRetweetType(reader, original, RetweetType.PURE_RETWEET));
+        queries.put("Tweet.findByUserAndOriginalTweetIdIn", () -> tweetRepository.findByUserAndOriginalTweetIdIn(reader, tweetIds));
+        queries.put("Tweet.searchTweetsByConditions", () -> tweetRepository.searchTweetsByConditions(minId, null, untilId, PageRequest.of(0, 20)));
+        queries.put("Tweet.searchTweetsByUserAndConditions", () -> tweetRepository.searchTweetsByUserAndConditions(author, minId, untilId, PageRequest.of(0, 20)));
+        queries.put("Tweet.findSearchDocumentsAfter", () -> tweetRepository.findSearchDocumentsAfter(0L, PageRequest.of(0, 1000)));
+
+        // FollowRepository
+        queries.put("Follow.findByFollowerAndFollowing", () -> followRepository.findByFollowerAndFollowing(reader, author));
+        queries.put("Follow.findByFollowing", () -> followRepository.findByFollowing(author));
+        queries.put("Follow.findByFollower", () -> followRepository.findByFollower(reader));
+        queries.put("Follow.findFollowingIdsByFollowerId", () -> followRepository.findFollowingIdsByFollowerId(reader.getId()));
+        queries.put("Follow.findFollowerIdsByFollowingId", () -> followRepository.findFollowerIdsByFollowingId(author.getId()));
+        queries.put("Follow.existsByFollowerAndFollowing", () -> followRepository.existsByFollowerAndFollowing(reader, author));
+        queries.put("Follow.existsByFollower_IdAndFollowing_Id", () -> followRepository.existsByFollower_IdAndFollowing_Id(reader.getId(), author.getId()));
+        queries.put("Follow.countByFollower", () -> followRepository.countByFollower(reader));
+        queries.put("Follow.countByFollowing", () -> followRepository.countByFollowing(author));
+        queries.put("Follow.deleteByFollowerIdAndFollowingId", () -> followRepository.deleteByFollowerIdAndFollowingId(reader.getId(), author.getId()));
+
+        // LikeRepository
+        queries.put("Like.findByUserAndTweet", () -> likeRepository.findByUserAndTweet(reader, original));
+        queries.put("Like.findByUserIdAndTweetIdIn", () -> likeRepository.findByUserIdAndTweetIdIn(reader.getId(), tweetIds));
+        queries.put("Like.findByTweet", () -> likeRepository.findByTweet(original));
+        queries.put("Like.findByUser", () -> likeRepository.findByUser(reader));
+        queries.put("Like.countByTweet_Id", () -> likeRepository.countByTweet_Id(original.getId()));
+        queries.put("Like.existsByUserAndTweet", () -> likeRepository.existsByUserAndTweet(reader, original));
+        queries.put("Like.existsByUserIdAndTweetId", () -> likeRepository.existsByUserIdAndTweetId(reader.getId(), original.getId()));
+        queries.put("Like.deleteByUserIdAndTweetId", () -> likeRepository.deleteByUserIdAndTweetId(reader.getId(), original.getId()));
+
+        // BookmarkRepository
+        queries.put("Bookmark.findByUserAndTweet", () -> bookmarkRepository.findByUserAndTweet(reader, original));
+        queries.put("Bookmark.countByTweet_Id", () -> bookmarkRepository.countByTweet_Id(original.getId()));
+        queries.put("Bookmark.findByUserOrderByCreatedAtDesc", () -> bookmarkRepository.findByUserOrderByCreatedAtDesc(reader));
+        queries.put("Bookmark.findTweetIdsByUser", () -> bookmarkRepository.findTweetIdsByUser(reader));
+        queries.put("Bookmark.findBookmarkedTweetsByConditions", () -> bookmarkRepository.findBookmarkedTweetsByConditions(reader, minId, untilId, PageRequest.of(0, 20)));
+        queries.put("Bookmark.deleteByUserIdAndTweetId", () -> bookmarkRepository.deleteByUserIdAndTweetId(reader.getId(), original.getId()));
+
+        // ViewerStateRepository (좋아요/리트윗/북마크 여부 UNION ALL)
+        queries.put("ViewerState.findViewerState", () -> viewerStateRepository.findViewerState(reader.getId(), tweetIds));
+        queries.put("ViewerState.findViewerStateForPage", () -> viewerStateRepository.findViewerStateForPage(reader.getId(), tweetIds));
+
+        // UserRepository (셀럽 목록)
+        queries.put("User.findIdsByFollowerCountGreaterThan", () -> userRepository.findIdsByFollowerCountGreaterThan(10_000));
+
+        List<String> failures = new ArrayList<>();
+        for (Map.Entry<String, Runnable> query : queries.entrySet()) {
+            List<String> statements = SqlCapture.capture(query.getValue());
+            assertThat(statements).as("%s: 실행된 SQL이 없습니다.", query.getKey()).isNotEmpty();
+            for (String sql : statements) {
+                String plan = explain(sql);
+                if (plan.contains(TABLE_SCAN)) {
+                    failures.add(query.getKey() + "\n    " + plan);
+                }
+            }
+        }
+        assertThat(failures).as("전체 테이블 스캔 쿼리").isEmpty();
+    }
+
+    // 파라미터는 실행 계획과 무관하므로 모두 NULL로 바인딩
+    private String explain(String sql) {
+        int parameterCount = (int) sql.chars().filter(c -> c == '?').count();
+        return jdbcTemplate.query("EXPLAIN " + sql, statement -> {
+            for (int i = 1; i <= parameterCount; i++) {
+                statement.setObject(i, null);
+            }
+        }, resultSet -> {
+            StringBuilder plan = new StringBuilder();
+            while (resultSet.next()) {
+                plan.append(resultSet.getString(1));
+            }
+            return plan.toString();
+        });
+    }
+
+    private User saveUser(String prefix) {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return userRepository.save(new User(prefix + suffix, prefix + suffix, prefix, "password"));
+    }
+}
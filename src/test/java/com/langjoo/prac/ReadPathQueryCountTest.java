@@ -0,0 +1,165 @@
+package com.langjoo.prac;
+
+import com.langjoo.prac.bookmark.repository.BookmarkRepository;
+import com.langjoo.prac.bookmark.service.BookmarkService;
+import com.langjoo.prac.common.dto.CursorResponse;
+import com.langjoo.prac.domain.Bookmark;
+import com.langjoo.prac.domain.Follow;
+import com.langjoo.prac.domain.Like;
+import com.langjoo.prac.domain.RetweetType;
+import com.langjoo.prac.domain.Tweet;
+import com.langjoo.prac.domain.User;
+import com.langjoo.prac.follow.repository.FollowRepository;
+import com.langjoo.prac.like.repository.LikeRepository;
+import com.langjoo.prac.support.QueryCounter;
+import com.langjoo.prac.tweet.dto.TweetResponse;
+import com.langjoo.prac.tweet.dto.TweetSearchRequest;
+import com.langjoo.prac.tweet.repository.TweetRepository;
+import com.langjoo.prac.tweet.service.TweetService;
+import com.langjoo.prac.user.repository.UserRepository;
+import com.langjoo.prac.user.service.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 📌 피드/검색/프로필 조회가 트윗 개수와 무관하게 고정된 SQL 횟수 안에서 끝나는지 검증 (N+1 회귀 방지)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ReadPathQueryCountTest {
+
+    // 엔드포인트별 허용 SQL 횟수
+    private static final long FEED_BUDGET = 5;
+    private static final long SEARCH_BUDGET = 2;
+    private static final long BOOKMARK_SEARCH_BUDGET = 4; // 유저 + 내 북마크 ID + 트윗 + 플래그
+    private static final long PROFILE_BUDGET = 3;
+    private static final long CACHED_PROFILE_BUDGET = 2; // 팔로우 그래프 적재 + 내 좋아요/리트윗/북마크 여부
+    private static final long WARM_PROFILE_BUDGET = 1; // 프로필 캐시 + 팔로우 그래프 모두 적재된 상태 (보는 사람별 플래그만 조회)
+
+    @Autowired private TweetService tweetService;
+    @Autowired private UserService userService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private TweetRepository tweetRepository;
+    @Autowired private FollowRepository followRepository;
+    @Autowired private LikeRepository likeRepository;
+    @Autowired private BookmarkRepository bookmarkRepository;
+    @Autowired private BookmarkService bookmarkService;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private QueryCounter queryCounter;
+    private User reader;
+    private User author;
+
+    @BeforeEach
+    void setUp() {
+        queryCounter = new QueryCounter(entityManagerFactory);
+
+        reader = saveUser("reader");
+        author = saveUser("author");
+        User other = saveUser("other");
+        followRepository.save(new Follow(reader, author));
+        followRepository.save(new Follow(reader, other));
+
+        // 일반 트윗, 다른 유저 트윗에 대한 답글, 순수 리트윗, 인용 트윗을 섞어서 20개 이상 생성
+        List<Tweet> originals = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            originals.add(tweetRepository.save(new Tweet(other, "other keyword " + i, null, RetweetType.ORIGINAL, null)));
+        }
+        for (Tweet original : originals) {
+            tweetRepository.save(new Tweet(author, "reply keyword", original, RetweetType.ORIGINAL, null));
+            tweetRepository.save(Tweet.createRetweet(author, original, null, RetweetType.PURE_RETWEET));
+            tweetRepository.save(Tweet.createRetweet(author, original, "quote keyword", RetweetType.QUOTE_RETWEET));
+            likeRepository.save(new Like(reader, original));
+            bookmarkRepository.save(new Bookmark(reader, original));
+        }
+    }
+
+    @Test
+    void timelineFeedStaysWithinBudget() {
+        queryCounter.assertAtMost("home feed", FEED_BUDGET,
+                () -> assertThat(tweetService.getTimelineFeed(reader.getId(), null, 20).getItems()).hasSize(20));
+    }
+
+    // 두 번째 조회는 오프힙 트윗 저장소에서 내용을 꺼내고 카운트/작성자 이름만 조회 → 처음과 같은 응답
+    @Test
+    void warmTimelineFeedMatchesColdFeed() {
+        List<TweetResponse> cold = tweetService.getTimelineFeed(reader.getId(), null, 20).getItems();
+
+        List<TweetResponse> warm = new ArrayList<>();
+        queryCounter.assertAtMost("warm home feed", FEED_BUDGET,
+                () -> warm.addAll(tweetService.getTimelineFeed(reader.getId(), null, 20).getItems()));
+        assertThat(warm).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(cold);
+        assertThat(warm).anySatisfy(response -> assertThat(response.getReplyToUsername()).isNotNull());
+    }
+
+    @Test
+    void searchStaysWithinBudget() {
+        TweetSearchRequest request = new TweetSearchRequest();
+        request.setKeyword("keyword");
+
+        queryCounter.assertAtMost("search all", SEARCH_BUDGET,
+                () -> assertThat(tweetService.searchAllTweets(reader.getId(), request).getItems()).isNotEmpty());
+        queryCounter.assertAtMost("search user", SEARCH_BUDGET + 1, // 대상 유저 조회 1회 추가
+                () -> assertThat(tweetService.searchUserTweets(reader.getId(), author.getUsername(), request).getItems()).isNotEmpty());
+    }
+
+    // 📌 북마크 검색도 size만큼 한 페이지씩, nextCursor로 이어서 조회 (키워드: 색인, 기간만: DB)
+    @Test
+    void bookmarkSearchIsPagedWithinBudget() {
+        TweetSearchRequest request = new TweetSearchRequest();
+        request.setKeyword("keyword");
+        request.setSize(2);
+        List<Long> seen = new ArrayList<>();
+        do {
+            queryCounter.assertAtMost("bookmark search", BOOKMARK_SEARCH_BUDGET, () -> {
+                CursorResponse<TweetResponse> page = bookmarkService.searchBookmarkedTweets(reader.getId(), request);
+                assertThat(page.getItems()).hasSizeLessThanOrEqualTo(2);
+                page.getItems().forEach(item -> seen.add(item.getTweetId()));
+                request.setCursor(page.getNextCursor());
+            });
+        } while (request.getCursor() != null);
+        assertThat(seen).hasSize(5).doesNotHaveDuplicates();
+
+        TweetSearchRequest byPeriod = new TweetSearchRequest();
+        byPeriod.setSince(LocalDate.now().minusDays(1));
+        byPeriod.setSize(3);
+        CursorResponse<TweetResponse> first = bookmarkService.searchBookmarkedTweets(reader.getId(), byPeriod);
+        byPeriod.setCursor(first.getNextCursor());
+        CursorResponse<TweetResponse> second = bookmarkService.searchBookmarkedTweets(reader.getId(), byPeriod);
+        assertThat(first.getItems()).hasSize(3);
+        assertThat(second.getItems()).hasSize(2);
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    // 📌 트윗 통계(캐시 미적중)는 카운트 컬럼만 조회 → 엔티티를 만들지 않음
+    @Test
+    void tweetStatsLoadCountsWithoutEntities() {
+        Tweet tweet = tweetRepository.save(new Tweet(author, "stats", null, RetweetType.ORIGINAL, null));
+
+        long loaded = queryCounter.countEntityLoads(
+                () -> assertThat(tweetService.getTweetStats(tweet.getId()).getLikeCount()).isZero());
+        assertThat(loaded).isZero();
+    }
+
+    @Test
+    void profileStaysWithinBudget() {
+        queryCounter.assertAtMost("profile", PROFILE_BUDGET,
+                () -> assertThat(userService.getUserProfile(reader.getId(), author.getUsername()).getRecentTweets()).hasSize(15));
+        queryCounter.assertAtMost("cached profile", CACHED_PROFILE_BUDGET,
+                () -> assertThat(userService.getUserProfile(reader.getId(), author.getUsername()).isFollowing()).isTrue());
+        queryCounter.assertAtMost("warm profile", WARM_PROFILE_BUDGET,
+                () -> assertThat(userService.getUserProfile(reader.getId(), author.getUsername()).isFollowing()).isTrue());
+    }
+
+    private User saveUser(String prefix) {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return userRepository.save(new User(prefix + suffix, prefix + suffix, prefix, "password"));
+    }
+}
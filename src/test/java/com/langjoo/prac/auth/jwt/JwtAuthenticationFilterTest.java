@@ -0,0 +1,69 @@
+package com.langjoo.prac.auth.jwt;
+
+import com.langjoo.prac.auth.config.UserDetailsServiceImpl;
+import com.langjoo.prac.user.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JwtAuthenticationFilterTest {
+
+    private static final String TOKEN = "token";
+
+    private final JwtTokenProvider tokenProvider = mock(JwtTokenProvider.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(
+            tokenProvider, new UserDetailsServiceImpl(userRepository, 0, 10, 60_000));
+
+    @BeforeEach
+    void setUp() {
+        Claims claims = Jwts.claims().subject("deleted01").add("userId", 1L).build();
+        when(tokenProvider.parseVerifiedClaims(TOKEN)).thenReturn(claims);
+        when(tokenProvider.getUserId(claims)).thenReturn(1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    // 📌 다른 서버에서 탈퇴했거나 재시작으로 거부 목록이 비어 있어도, 쓰기 요청은 DB에 유저가 없으면 인증하지 않음
+    @Test
+    void writeWithTokenOfDeletedUserIsNotAuthenticated() throws Exception {
+        when(userRepository.existsById(1L)).thenReturn(false);
+
+        assertThat(authenticates("POST")).isFalse();
+        assertThat(authenticates("GET")).isFalse(); // 확인된 뒤에는 이 서버의 거부 목록에 남음
+    }
+
+    @Test
+    void readsSkipTheDatabaseAndWritesCheckIt() throws Exception {
+        when(userRepository.existsById(1L)).thenReturn(true);
+
+        assertThat(authenticates("GET")).isTrue();
+        verify(userRepository, never()).existsById(1L);
+
+        assertThat(authenticates("DELETE")).isTrue();
+        verify(userRepository).existsById(1L);
+    }
+
+    private boolean authenticates(String method) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/tweets");
+        request.addHeader("Authorization", "Bearer " + TOKEN);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication() != null;
+    }
+}
@@ -0,0 +1,79 @@
+package com.langjoo.prac.auth.jwt;
+
+import com.langjoo.prac.common.exception.AuthException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "SGVsbG8gV29ybGQgTWVzc2FnZSBGb3IgVGhlIERldmVsb3BlciE=";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void repeatedTokenIsServedFromCache() {
+        JwtTokenProvider provider = provider(100, 1_800_000);
+        String token = provider.createAccessToken(1L, "user01");
+
+        assertThat(provider.getUserId(provider.parseVerifiedClaims(token))).isEqualTo(1L);
+        assertThat(provider.getUserId(provider.parseVerifiedClaims(token))).isEqualTo(1L);
+
+        assertThat(count("auth.token.cache", "miss")).isEqualTo(1);
+        assertThat(count("auth.token.cache", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    void invalidTokenIsRejectedAndNotCached() {
+        JwtTokenProvider provider = provider(100, 1_800_000);
+        String token = provider.createAccessToken(1L, "user01");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThat(provider.parseVerifiedClaims(tampered)).isNull();
+        assertThat(provider.parseVerifiedClaims(tampered)).isNull();
+        assertThat(count("auth.token.cache", "hit")).isZero();
+        assertThat(meterRegistry.get("auth.token.cache.size").gauge().value()).isZero();
+    }
+
+    // 📌 캐시에 있어도 exp가 지나면 만료 처리
+    @Test
+    void cachedTokenExpiresAtItsExp() throws InterruptedException {
+        JwtTokenProvider provider = provider(100, 1_000);
+        String token = provider.createAccessToken(1L, "user01");
+        assertThat(provider.parseVerifiedClaims(token)).isNotNull();
+
+        Thread.sleep(1_100); // exp는 초 단위로 잘림 → 1초 뒤에는 반드시 지남
+
+        assertThatThrownBy(() -> provider.parseVerifiedClaims(token)).isInstanceOf(AuthException.class);
+    }
+
+    // 📌 한도를 넘지 않으면서, 전체 정리는 미스마다가 아니라 (한도 × 10%)번에 한 번만 수행
+    @Test
+    void cacheStaysBoundedAndSweepsAreAmortized() {
+        JwtTokenProvider provider = provider(100, 1_800_000);
+
+        for (long userId = 1; userId <= 1_000; userId++) {
+            assertThat(provider.parseVerifiedClaims(provider.createAccessToken(userId, "user" + userId))).isNotNull();
+            assertThat(meterRegistry.get("auth.token.cache.size").gauge().value()).isLessThanOrEqualTo(100);
+        }
+
+        double sweeps = meterRegistry.counter("auth.token.cache.sweeps").count();
+        assertThat(sweeps).isPositive().isLessThanOrEqualTo(1_000 / 10 + 1);
+    }
+
+    private JwtTokenProvider provider(int maxSize, long accessExpiration) {
+        JwtTokenProvider provider = new JwtTokenProvider(meterRegistry, maxSize);
+        ReflectionTestUtils.setField(provider, "secretKey", SECRET);
+        ReflectionTestUtils.setField(provider, "accessTokenExpiration", accessExpiration);
+        ReflectionTestUtils.setField(provider, "refreshTokenExpiration", accessExpiration);
+        provider.init();
+        return provider;
+    }
+
+    private double count(String name, String result) {
+        return meterRegistry.counter(name, "result", result).count();
+    }
+}
@@ -0,0 +1,99 @@
+package com.langjoo.prac.common.concurrency;
+
+import com.langjoo.prac.common.exception.NotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParallelQueriesTest {
+
+    private final DataSourceTransactionManager transactionManager =
+            new DataSourceTransactionManager(new DriverManagerDataSource("jdbc:h2:mem:parallel-queries"));
+    private final ParallelQueries parallelQueries =
+            new ParallelQueries(transactionManager, new MockEnvironment(), true, 4, 10);
+
+    @AfterEach
+    void tearDown() {
+        parallelQueries.shutdown();
+    }
+
+    @Test
+    void forkedQueriesRunConcurrentlyInTheirOwnReadOnlyTransactions() {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        try (ParallelQueries.Scope scope = parallelQueries.open()) {
+            Supplier<Boolean> first = scope.fork(() -> awaitOther(bothStarted));
+            Supplier<Boolean> second = scope.fork(() -> awaitOther(bothStarted));
+            scope.join();
+
+            // 순서대로 실행됐다면 서로를 기다리다 false
+            assertThat(first.get()).isTrue();
+            assertThat(second.get()).isTrue();
+        }
+    }
+
+    @Test
+    void joinRethrowsTheFirstFailureWithoutWaitingForTheRest() {
+        CountDownLatch never = new CountDownLatch(1);
+
+        try (ParallelQueries.Scope scope = parallelQueries.open()) {
+            scope.fork(() -> awaitOther(never));
+            scope.fork(() -> {
+                throw new NotFoundException("사용자를 찾을 수 없습니다.");
+            });
+
+            assertThatThrownBy(scope::join).isInstanceOf(NotFoundException.class);
+        }
+    }
+
+    @Test
+    void forkedQueriesSeeTheCallersAuthentication() {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("viewer", null));
+
+        try (ParallelQueries.Scope scope = parallelQueries.open()) {
+            Supplier<Object> principal = scope.fork(() -> SecurityContextHolder.getContext().getAuthentication().getPrincipal());
+            scope.join();
+
+            assertThat(principal.get()).isEqualTo("viewer"); // replica 라우팅의 read-your-writes 판단에 필요
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Test
+    void runsInlineInsideAnExistingTransaction() {
+        Thread caller = Thread.currentThread();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            try (ParallelQueries.Scope scope = parallelQueries.open()) {
+                Supplier<Thread> thread = scope.fork(Thread::currentThread);
+                scope.join();
+                assertThat(thread.get()).isSameAs(caller);
+            }
+        });
+    }
+
+    private static boolean awaitOther(CountDownLatch latch) {
+        assertThat(TransactionSynchronizationManager.isCurrentTransactionReadOnly()).isTrue();
+        latch.countDown();
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.langjoo.prac.common.concurrency;
+
+import com.langjoo.prac.common.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestAdmissionInterceptorTest {
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    void rejectsWhenAllPermitsAreHeldAndAdmitsAfterRelease() throws Exception {
+        RequestAdmissionInterceptor interceptor = new RequestAdmissionInterceptor(1, 10, new SimpleMeterRegistry());
+        MockHttpServletRequest first = new MockHttpServletRequest();
+        MockHttpServletRequest second = new MockHttpServletRequest();
+
+        assertThat(interceptor.preHandle(first, response, null)).isTrue();
+        assertThatThrownBy(() -> interceptor.preHandle(second, response, null))
+                .isInstanceOf(ServiceUnavailableException.class);
+
+        interceptor.afterCompletion(first, response, null, null);
+        assertThat(interceptor.preHandle(second, response, null)).isTrue();
+    }
+
+    @Test
+    void releasesOnlyRequestsThatWereAdmitted() throws Exception {
+        RequestAdmissionInterceptor interceptor = new RequestAdmissionInterceptor(1, 10, new SimpleMeterRegistry());
+        MockHttpServletRequest admitted = new MockHttpServletRequest();
+        MockHttpServletRequest rejected = new MockHttpServletRequest();
+
+        interceptor.preHandle(admitted, response, null);
+        assertThatThrownBy(() -> interceptor.preHandle(rejected, response, null))
+                .isInstanceOf(ServiceUnavailableException.class);
+        interceptor.afterCompletion(rejected, response, null, null); // 자리를 돌려주지 않아야 함
+
+        assertThatThrownBy(() -> interceptor.preHandle(new MockHttpServletRequest(), response, null))
+                .isInstanceOf(ServiceUnavailableException.class);
+    }
+}
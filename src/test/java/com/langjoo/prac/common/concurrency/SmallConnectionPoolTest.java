@@ -0,0 +1,79 @@
+package com.langjoo.prac.common.concurrency;
+
+import com.langjoo.prac.auth.jwt.JwtTokenProvider;
+import com.langjoo.prac.domain.Follow;
+import com.langjoo.prac.domain.RetweetType;
+import com.langjoo.prac.domain.Tweet;
+import com.langjoo.prac.domain.User;
+import com.langjoo.prac.follow.repository.FollowRepository;
+import com.langjoo.prac.tweet.repository.TweetRepository;
+import com.langjoo.prac.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+// 📌 커넥션 풀이 작아도 홈 피드의 동시 조회(fork)가 교착되지 않는지 검증
+// 요청 스레드가 커넥션을 쥔 채로(OSIV, fork 전 조회) fork를 기다리면, 풀 크기만큼의 동시 요청만으로 fork가 커넥션을 얻지 못해 타임아웃(500)
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:small-pool;MODE=MYSQL",
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.connection-timeout=1000",
+        "query-fanout.threads=8"
+})
+@AutoConfigureMockMvc
+class SmallConnectionPoolTest {
+
+    private static final int CLIENTS = 8;
+    private static final int REQUESTS_PER_CLIENT = 5;
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private JwtTokenProvider jwtTokenProvider;
+    @Autowired private UserRepository userRepository;
+    @Autowired private FollowRepository followRepository;
+    @Autowired private TweetRepository tweetRepository;
+
+    @Test
+    void concurrentHomeFeedsDoNotExhaustTheConnectionPool() throws Exception {
+        User author = userRepository.save(new User("poolauthor", "poolauthor", "author", "password"));
+        for (int i = 0; i < 5; i++) {
+            tweetRepository.save(new Tweet(author, "tweet " + i, null, RetweetType.ORIGINAL, null));
+        }
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < CLIENTS; i++) {
+            User reader = userRepository.save(new User("poolreader" + i, "poolreader" + i, "reader", "password"));
+            followRepository.save(new Follow(reader, author));
+            tokens.add(jwtTokenProvider.createAccessToken(reader.getId(), reader.getLoginId()));
+        }
+
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            List<Future<List<Integer>>> results = new ArrayList<>();
+            for (String token : tokens) {
+                results.add(clients.submit(() -> {
+                    List<Integer> statuses = new ArrayList<>();
+                    for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+                        statuses.add(mockMvc.perform(get("/api/home").header("Authorization", "Bearer " + token))
+                                .andReturn().getResponse().getStatus());
+                    }
+                    return statuses;
+                }));
+            }
+            for (Future<List<Integer>> result : results) {
+                assertThat(result.get()).containsOnly(200);
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.langjoo.prac.common.datasource;
+
+import com.langjoo.prac.auth.config.UserDetailsImpl;
+import com.langjoo.prac.common.exception.NotFoundException;
+import com.langjoo.prac.domain.RetweetType;
+import com.langjoo.prac.domain.Tweet;
+import com.langjoo.prac.domain.User;
+import com.langjoo.prac.tweet.repository.TweetRepository;
+import com.langjoo.prac.tweet.service.TweetService;
+import com.langjoo.prac.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 📌 H2 두 개(primary / replica)로 읽기 전용 트랜잭션 라우팅과 read-your-writes를 검증
+// 복제는 replicate()로 primary의 스냅샷을 replica에 복사해서 흉내 냄 → 그 이후 primary에 쓴 데이터는 "아직 복제되지 않은" 상태
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;MODE=MYSQL",
+        "datasource.replica.enabled=true",
+        "datasource.replica.url=jdbc:h2:mem:routing-replica;MODE=MYSQL",
+        "datasource.replica.max-lag-ms=300",
+        "tweet.detail-cache.content-ttl-ms=0", // 트윗 상세 캐시를 끄고 조회마다 DB로 감 (어느 DB에서 읽었는지 보기 위해)
+        "tweet.detail-cache.counts-ttl-ms=0"
+})
+class ReadReplicaRoutingTest {
+
+    @Autowired private TweetService tweetService;
+    @Autowired private TweetRepository tweetRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired @Qualifier("primaryDataSource") private DataSource primaryDataSource;
+    @Autowired @Qualifier("replicaDataSource") private DataSource replicaDataSource;
+
+    private User author;
+    private User reader;
+    private Tweet replicated;
+
+    @BeforeEach
+    void setUp() {
+        author = saveUser("author");
+        reader = saveUser("reader");
+        replicated = tweetRepository.save(new Tweet(author, "replicated", null, RetweetType.ORIGINAL, null));
+        replicate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionsReadFromReplica() {
+        Tweet notYetReplicated = tweetRepository.save(new Tweet(author, "not yet", null, RetweetType.ORIGINAL, null));
+
+        assertThat(tweetService.getTweetById(replicated.getId()).getContent()).isEqualTo("replicated");
+        assertThatThrownBy(() -> tweetService.getTweetById(notYetReplicated.getId()))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    void writerReadsOwnWritesFromPrimaryUntilReplicaCatchesUp() throws InterruptedException {
+        signIn(author);
+        Tweet mine = tweetRepository.save(new Tweet(author, "mine", null, RetweetType.ORIGINAL, null));
+
+        // 1. 쓴 유저는 primary에서 읽음
+        assertThat(tweetService.getTweetById(mine.getId()).getContent()).isEqualTo("mine");
+
+        // 2. 다른 유저는 계속 replica에서 읽음
+        signIn(reader);
+        assertThatThrownBy(() -> tweetService.getTweetById(mine.getId())).isInstanceOf(NotFoundException.class);
+
+        // 3. 복제 지연 시간이 지나면 쓴 유저도 replica로 돌아감
+        Thread.sleep(400);
+        signIn(author);
+        assertThatThrownBy(() -> tweetService.getTweetById(mine.getId())).isInstanceOf(NotFoundException.class);
+    }
+
+    // primary 전체를 SQL 스크립트로 떠서 replica에 다시 적재
+    private void replicate() {
+        List<String> script = new JdbcTemplate(primaryDataSource).queryForList("SCRIPT", String.class);
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+        replica.execute("DROP ALL OBJECTS");
+        script.forEach(replica::execute);
+    }
+
+    private void signIn(User user) {
+        UserDetailsImpl principal = UserDetailsImpl.fromClaims(user.getId(), user.getLoginId());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    private User saveUser(String prefix) {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return userRepository.save(new User(prefix + suffix, prefix + suffix, prefix, "password"));
+    }
+}
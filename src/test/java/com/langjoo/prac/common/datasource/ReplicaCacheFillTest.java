@@ -0,0 +1,111 @@
+package com.langjoo.prac.common.datasource;
+
+import com.langjoo.prac.domain.Follow;
+import com.langjoo.prac.domain.RetweetType;
+import com.langjoo.prac.domain.Tweet;
+import com.langjoo.prac.domain.User;
+import com.langjoo.prac.engagement.event.EngagementFlushedEvent;
+import com.langjoo.prac.follow.repository.FollowRepository;
+import com.langjoo.prac.tweet.dto.TweetResponse;
+import com.langjoo.prac.tweet.repository.TweetRepository;
+import com.langjoo.prac.tweet.service.TweetService;
+import com.langjoo.prac.user.cache.UserProfileCache;
+import com.langjoo.prac.user.repository.UserRepository;
+import com.langjoo.prac.user.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 📌 공유 캐시(트윗 상세, 프로필, 타임라인 저장소)가 제거 직후 replica의 오래된 값으로 다시 채워지지 않는지 검증
+// ReadReplicaRoutingTest와 같은 방식: replicate() 이후 primary에만 쓴 데이터는 "아직 복제되지 않은" 상태
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:cache-fill-primary;MODE=MYSQL",
+        "datasource.replica.enabled=true",
+        "datasource.replica.url=jdbc:h2:mem:cache-fill-replica;MODE=MYSQL",
+        "datasource.replica.max-lag-ms=300"
+})
+class ReplicaCacheFillTest {
+
+    @Autowired private TweetService tweetService;
+    @Autowired private UserService userService;
+    @Autowired private UserProfileCache userProfileCache;
+    @Autowired private TweetRepository tweetRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private FollowRepository followRepository;
+    @Autowired private ApplicationEventPublisher eventPublisher;
+    @Autowired @Qualifier("primaryDataSource") private DataSource primaryDataSource;
+    @Autowired @Qualifier("replicaDataSource") private DataSource replicaDataSource;
+
+    private User author;
+    private User reader;
+    private Tweet replicated;
+
+    @BeforeEach
+    void setUp() {
+        author = saveUser("author");
+        reader = saveUser("reader");
+        replicated = tweetRepository.save(new Tweet(author, "replicated", null, RetweetType.ORIGINAL, null));
+        replicate();
+    }
+
+    @Test
+    void countsReloadedRightAfterFlushAreReadFromPrimary() throws InterruptedException {
+        assertThat(tweetService.getTweetStats(replicated.getId()).getLikeCount()).isZero();
+
+        // 카운터 반영: primary에만 반영된 상태에서 캐시 제거
+        new JdbcTemplate(primaryDataSource).update("UPDATE tweets SET like_count = 5 WHERE tweet_id = ?", replicated.getId());
+        eventPublisher.publishEvent(new EngagementFlushedEvent(List.of(replicated.getId())));
+
+        assertThat(tweetService.getTweetStats(replicated.getId()).getLikeCount()).isEqualTo(5);
+
+        // 복제 지연 시간이 지난 뒤에도 캐시에는 primary의 값이 남아 있음
+        Thread.sleep(400);
+        assertThat(tweetService.getTweetStats(replicated.getId()).getLikeCount()).isEqualTo(5);
+    }
+
+    @Test
+    void profileLoadedFromReplicaRightAfterInvalidationIsNotCached() {
+        assertThat(userService.getUserProfile(null, author.getUsername()).getNickname()).isEqualTo("author");
+
+        new JdbcTemplate(primaryDataSource).update("UPDATE users SET nickname = 'renamed' WHERE user_id = ?", author.getId());
+        userProfileCache.invalidate(author.getId());
+
+        // 복제 전에는 replica의 이전 값을 응답할 수 있지만 캐시에는 넣지 않음
+        assertThat(userService.getUserProfile(null, author.getUsername()).getNickname()).isEqualTo("author");
+
+        replicate();
+        assertThat(userService.getUserProfile(null, author.getUsername()).getNickname()).isEqualTo("renamed");
+    }
+
+    @Test
+    void timelineRebuildReadsFollowsFromPrimary() {
+        followRepository.save(new Follow(reader, author)); // 아직 복제되지 않은 팔로우
+
+        List<TweetResponse> feed = tweetService.getTimelineFeed(reader.getId(), null, 20).getItems();
+
+        assertThat(feed).extracting(TweetResponse::getTweetId).containsExactly(replicated.getId());
+    }
+
+    // primary 전체를 SQL 스크립트로 떠서 replica에 다시 적재
+    private void replicate() {
+        List<String> script = new JdbcTemplate(primaryDataSource).queryForList("SCRIPT", String.class);
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+        replica.execute("DROP ALL OBJECTS");
+        script.forEach(replica::execute);
+    }
+
+    private User saveUser(String prefix) {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return userRepository.save(new User(prefix + suffix, prefix + suffix, prefix, "password"));
+    }
+}
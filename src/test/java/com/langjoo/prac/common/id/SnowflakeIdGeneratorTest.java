@@ -0,0 +1,95 @@
+package com.langjoo.prac.common.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeIdGeneratorTest {
+
+    private static final long NOW = Instant.parse("2025-06-01T00:00:00Z").toEpochMilli();
+
+    @Test
+    void idsIncreaseWithinAndAcrossMilliseconds() {
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3, clock::get);
+
+        long previous = 0;
+        for (int i = 0; i < 1_000; i++) { // 같은 ms 안에서 순번(256개)을 넘겨도 계속 증가
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+        clock.addAndGet(10_000);
+        assertThat(generator.nextId()).isGreaterThan(previous);
+        assertThat(SnowflakeIdGenerator.timestampOf(generator.nextId())).isEqualTo(Instant.ofEpochMilli(NOW + 10_000));
+    }
+
+    @Test
+    void keepsIncreasingWhenClockMovesBackwards() {
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0, clock::get);
+
+        long beforeRegression = generator.nextId();
+        clock.addAndGet(-5_000);
+        long afterRegression = generator.nextId();
+
+        assertThat(afterRegression).isGreaterThan(beforeRegression);
+        assertThat(generator.clockRegressions()).isEqualTo(1);
+    }
+
+    @Test
+    void nodesNeverCollideAndStayWithinJavaScriptSafeRange() throws InterruptedException {
+        SnowflakeIdGenerator nodeA = new SnowflakeIdGenerator(1);
+        SnowflakeIdGenerator nodeB = new SnowflakeIdGenerator(2);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int thread = 0; thread < 8; thread++) {
+            SnowflakeIdGenerator generator = thread % 2 == 0 ? nodeA : nodeB;
+            executor.submit(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    ids.add(generator.nextId());
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(ids).hasSize(8 * 20_000);
+        assertThat(ids).allMatch(id -> id > 0 && id <= (1L << 53) - 1);
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // 📌 재시작 후 시계가 뒤로 가 있어도 이전 프로세스(다른 노드 포함)가 발급한 ID보다 큰 ID부터 발급
+    @Test
+    void seededGeneratorIssuesIdsAfterPreviouslyIssuedOnesEvenWithClockBehind() {
+        long issuedBeforeRestart = new SnowflakeIdGenerator(5, () -> NOW + 5_000).nextId();
+        SnowflakeIdGenerator restarted = new SnowflakeIdGenerator(0, () -> NOW);
+
+        restarted.seedAfter(issuedBeforeRestart);
+        restarted.seedAfter(1L); // 더 작은 ID로는 뒤로 가지 않음
+
+        assertThat(restarted.nextId()).isGreaterThan(issuedBeforeRestart);
+        assertThat(restarted.nextId()).isGreaterThan(issuedBeforeRestart);
+    }
+
+    @Test
+    void minIdAtBoundsIdsCreatedAfterThatInstant() {
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID, clock::get);
+
+        long id = generator.nextId();
+        assertThat(id).isGreaterThanOrEqualTo(SnowflakeIdGenerator.minIdAt(Instant.ofEpochMilli(NOW)));
+        assertThat(id).isLessThan(SnowflakeIdGenerator.minIdAt(Instant.ofEpochMilli(NOW + 1)));
+    }
+}
@@ -0,0 +1,65 @@
+package com.langjoo.prac.engagement.service;
+
+import com.langjoo.prac.engagement.EngagementType;
+import com.langjoo.prac.engagement.event.EngagementFlushedEvent;
+import com.langjoo.prac.engagement.repository.EngagementCountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EngagementCounterServiceImplTest {
+
+    private final EngagementCountRepository repository = mock(EngagementCountRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final List<Long> pendingSeenAtCommit = new ArrayList<>();
+    private final List<Long> pendingSeenByEventListener = new ArrayList<>();
+
+    private EngagementCounterServiceImpl service;
+
+    // 📌 꺼낸 증감분이 DB에 커밋되고 캐시가 비워질 때까지 pending()에 계속 보여야 함 (그 사이 적게 보이지 않도록)
+    @Test
+    void drainedDeltasStayVisibleUntilCommitAndCacheInvalidation() {
+        ApplicationEventPublisher publisher = event -> {
+            if (event instanceof EngagementFlushedEvent) {
+                pendingSeenByEventListener.add(service.pending(1L, EngagementType.LIKE));
+            }
+        };
+        service = new EngagementCounterServiceImpl(repository, transactionManager, publisher, new SimpleMeterRegistry());
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        doAnswer(invocation -> {
+            pendingSeenAtCommit.add(service.pending(1L, EngagementType.LIKE));
+            return null;
+        }).when(transactionManager).commit(any());
+
+        service.increment(1L, EngagementType.LIKE, 3);
+        service.flush();
+
+        assertThat(pendingSeenAtCommit).containsExactly(3L);
+        assertThat(pendingSeenByEventListener).containsExactly(3L);
+        assertThat(service.pending(1L, EngagementType.LIKE)).isZero(); // 커밋 후에는 DB 값에 포함됨
+    }
+
+    @Test
+    void failedFlushKeepsDeltasPendingForRetry() {
+        service = new EngagementCounterServiceImpl(repository, transactionManager, event -> { }, new SimpleMeterRegistry());
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        doThrow(new IllegalStateException("DB 장애")).when(repository).applyDeltas(any());
+
+        service.increment(1L, EngagementType.LIKE, 2);
+        service.flush();
+
+        assertThat(service.pending(1L, EngagementType.LIKE)).isEqualTo(2);
+    }
+}
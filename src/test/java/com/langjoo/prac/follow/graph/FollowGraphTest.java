@@ -0,0 +1,85 @@
+package com.langjoo.prac.follow.graph;
+
+import com.langjoo.prac.follow.event.FollowChangedEvent;
+import com.langjoo.prac.follow.repository.FollowRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FollowGraphTest {
+
+    private final FollowRepository followRepository = mock(FollowRepository.class);
+
+    @Test
+    void loadsOnceAndAppliesCommittedChanges() {
+        when(followRepository.findFollowingIdsByFollowerId(1L)).thenReturn(List.of(30L, 10L, 20L, 10L));
+        FollowGraph graph = new FollowGraph(followRepository, new SimpleMeterRegistry(), 1_000, 60_000);
+
+        assertThat(graph.isFollowing(1L, 20L)).isTrue();
+        assertThat(graph.isFollowing(1L, 40L)).isFalse();
+        assertThat(graph.followingIds(1L).toList()).containsExactly(10L, 20L, 30L);
+
+        graph.onFollowChanged(new FollowChangedEvent(1L, 40L, true));
+        graph.onFollowChanged(new FollowChangedEvent(1L, 10L, false));
+
+        assertThat(graph.followingIds(1L).toList()).containsExactly(20L, 30L, 40L);
+        verify(followRepository, times(1)).findFollowingIdsByFollowerId(1L);
+    }
+
+    @Test
+    void doesNotKeepSetLoadedBeforeConcurrentChange() {
+        FollowGraph graph = new FollowGraph(followRepository, new SimpleMeterRegistry(), 1_000, 60_000);
+        // 조회 도중 팔로우가 커밋된 상황: 조회 결과에는 새 팔로우가 없음
+        when(followRepository.findFollowerIdsByFollowingId(2L)).thenAnswer(invocation -> {
+            graph.onFollowChanged(new FollowChangedEvent(7L, 2L, true));
+            return List.of(5L);
+        });
+
+        assertThat(graph.followerIds(2L).contains(7L)).isFalse();
+
+        when(followRepository.findFollowerIdsByFollowingId(2L)).thenReturn(List.of(5L, 7L));
+        assertThat(graph.followerIds(2L).contains(7L)).isTrue();
+        verify(followRepository, times(2)).findFollowerIdsByFollowingId(2L);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedUsersBeyondIdLimit() {
+        when(followRepository.findFollowingIdsByFollowerId(1L)).thenReturn(List.of(10L, 11L));
+        when(followRepository.findFollowingIdsByFollowerId(2L)).thenReturn(List.of(20L, 21L));
+        when(followRepository.findFollowingIdsByFollowerId(3L)).thenReturn(List.of(30L, 31L));
+        FollowGraph graph = new FollowGraph(followRepository, new SimpleMeterRegistry(), 4, 60_000);
+
+        graph.followingIds(1L);
+        graph.followingIds(2L);
+        graph.followingIds(1L); // 1번이 최근 사용 → 2번이 밀려남
+        graph.followingIds(3L);
+        graph.followingIds(1L);
+        graph.followingIds(2L);
+
+        verify(followRepository, times(1)).findFollowingIdsByFollowerId(1L);
+        verify(followRepository, times(2)).findFollowingIdsByFollowerId(2L);
+    }
+
+    // 📌 이벤트로 오지 않는 변경(다른 인스턴스 등)도 만료/무효화 후에는 DB에서 다시 적재
+    @Test
+    void reloadsAfterTtlOrEviction() {
+        when(followRepository.findFollowingIdsByFollowerId(1L)).thenReturn(List.of(10L));
+        FollowGraph expiring = new FollowGraph(followRepository, new SimpleMeterRegistry(), 1_000, 0);
+        expiring.isFollowing(1L, 10L);
+        expiring.isFollowing(1L, 10L);
+        verify(followRepository, times(2)).findFollowingIdsByFollowerId(1L);
+
+        FollowGraph graph = new FollowGraph(followRepository, new SimpleMeterRegistry(), 1_000, 60_000);
+        assertThat(graph.isFollowing(1L, 20L)).isFalse();
+        when(followRepository.findFollowingIdsByFollowerId(1L)).thenReturn(List.of(10L, 20L));
+        graph.evict(1L);
+        assertThat(graph.isFollowing(1L, 20L)).isTrue();
+    }
+}
@@ -0,0 +1,45 @@
+package com.langjoo.prac.follow.service;
+
+import com.langjoo.prac.common.exception.DuplicateException;
+import com.langjoo.prac.domain.Follow;
+import com.langjoo.prac.domain.User;
+import com.langjoo.prac.follow.graph.FollowGraph;
+import com.langjoo.prac.follow.repository.FollowRepository;
+import com.langjoo.prac.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:follow-service;MODE=MYSQL")
+class FollowServiceImplTest {
+
+    @Autowired private FollowService followService;
+    @Autowired private FollowGraph followGraph;
+    @Autowired private FollowRepository followRepository;
+    @Autowired private UserRepository userRepository;
+
+    // 📌 그래프에 아직 반영되지 않은 팔로우(다른 인스턴스 등)를 다시 요청하면 유니크 제약 위반이 500이 아닌 중복 예외(409)로
+    @Test
+    void duplicateFollowMissedByStaleGraphIsReportedAsDuplicate() {
+        User follower = saveUser("follower");
+        User following = saveUser("following");
+        assertThat(followGraph.isFollowing(follower.getId(), following.getId())).isFalse(); // 그래프 적재
+        followRepository.save(new Follow(follower, following)); // 이벤트 없이 DB에만 생긴 팔로우
+
+        assertThatThrownBy(() -> followService.follow(follower.getId(), following.getUsername()))
+                .isInstanceOf(DuplicateException.class);
+
+        assertThat(followGraph.isFollowing(follower.getId(), following.getId())).isTrue(); // 다시 적재됨
+        assertThat(userRepository.findById(following.getId()).orElseThrow().getFollowerCount()).isZero();
+    }
+
+    private User saveUser(String prefix) {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return userRepository.save(new User(prefix + suffix, prefix + suffix, prefix, "password"));
+    }
+}
@@ -0,0 +1,81 @@
+package com.langjoo.prac.like.service;
+
+import com.langjoo.prac.auth.jwt.JwtTokenProvider;
+import com.langjoo.prac.domain.RetweetType;
+import com.langjoo.prac.domain.Tweet;
+import com.langjoo.prac.domain.User;
+import com.langjoo.prac.engagement.EngagementLink;
+import com.langjoo.prac.engagement.repository.EngagementLinkRepository;
+import com.langjoo.prac.like.repository.LikeRepository;
+import com.langjoo.prac.tweet.repository.TweetRepository;
+import com.langjoo.prac.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 📌 없는(또는 좋아요 수를 읽은 뒤 삭제된) 트윗에 좋아요 → 404, 등록된 행도 카운트 증감도 없음
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:like-service;MODE=MYSQL")
+@AutoConfigureMockMvc
+class LikeServiceImplTest {
+
+    private static final long DELETED_TWEET_ID = 987_654_321L;
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private JwtTokenProvider jwtTokenProvider;
+    @Autowired private UserRepository userRepository;
+    @Autowired private LikeRepository likeRepository;
+    @Autowired private EngagementLinkRepository engagementLinkRepository;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @MockitoSpyBean private TweetRepository tweetRepository;
+
+    private User user;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("liker" + System.nanoTime(), "liker" + System.nanoTime(), "liker", "password"));
+        token = jwtTokenProvider.createAccessToken(user.getId(), user.getLoginId());
+    }
+
+    @Test
+    void likingMissingTweetReturns404() throws Exception {
+        mockMvc.perform(post("/api/tweets/{tweetId}/like", DELETED_TWEET_ID).header("Authorization", "Bearer " + token))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void tweetDeletedAfterCountReadReturns404() throws Exception {
+        doReturn(Optional.of(0)).when(tweetRepository).findLikeCountById(DELETED_TWEET_ID); // 읽은 직후 삭제된 상황
+
+        mockMvc.perform(post("/api/tweets/{tweetId}/like", DELETED_TWEET_ID).header("Authorization", "Bearer " + token))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(put("/api/tweets/{tweetId}/like", DELETED_TWEET_ID).header("Authorization", "Bearer " + token))
+                .andExpect(status().isNotFound());
+        assertThat(likeRepository.existsByUserIdAndTweetId(user.getId(), DELETED_TWEET_ID)).isFalse();
+    }
+
+    @Test
+    void duplicateInsertIsSwallowed() {
+        Tweet tweet = tweetRepository.save(new Tweet(user, "liked", null, RetweetType.ORIGINAL, null));
+
+        assertThat(insertLike(tweet.getId())).isEqualTo(1);
+        assertThat(insertLike(tweet.getId())).isZero();
+    }
+
+    private int insertLike(Long tweetId) {
+        return transactionTemplate.execute(status -> engagementLinkRepository.insertIfAbsent(EngagementLink.LIKE, user.getId(), tweetId));
+    }
+}
@@ -0,0 +1,156 @@
+package com.langjoo.prac.like.writebehind;
+
+import com.langjoo.prac.common.exception.TooManyRequestsException;
+import com.langjoo.prac.domain.RetweetType;
+import com.langjoo.prac.domain.Tweet;
+import com.langjoo.prac.domain.User;
+import com.langjoo.prac.engagement.repository.EngagementLinkRepository;
+import com.langjoo.prac.engagement.service.EngagementCounterService;
+import com.langjoo.prac.like.repository.LikeRepository;
+import com.langjoo.prac.like.service.LikeService;
+import com.langjoo.prac.like.service.LikeServiceImpl;
+import com.langjoo.prac.tweet.repository.TweetRepository;
+import com.langjoo.prac.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 📌 write-behind 모드: 응답은 즉시, DB에는 drain 시점에 (유저, 트윗)별 최종 상태만 반영되는지 검증
+// 주기 반영이 끼어들지 않도록 주기를 길게 두고 drain()을 직접 호출합니다.
+@SpringBootTest(properties = {
+        "like.write-behind.enabled=true",
+        "like.write-behind.flush-interval-ms=3600000"
+})
+class LikeWriteBehindQueueTest {
+
+    @Autowired private LikeService likeService;
+    @Autowired private LikeWriteBehindQueue likeWriteBehindQueue;
+    @Autowired private EngagementCounterService engagementCounterService;
+    @Autowired private LikeRepository likeRepository;
+    @Autowired private TweetRepository tweetRepository;
+    @Autowired private UserRepository userRepository;
+
+    private User user;
+    private Tweet tweet;
+
+    @BeforeEach
+    void setUp() {
+        user = saveUser("liker");
+        tweet = tweetRepository.save(new Tweet(saveUser("author"), "tweet", null, RetweetType.ORIGINAL, null));
+    }
+
+    @Test
+    void acknowledgesImmediatelyAndAppliesFinalStateOnDrain() {
+        assertThat(likeService.toggleLike(user.getId(), tweet.getId()).isActive()).isTrue();
+        assertThat(likeService.toggleLike(user.getId(), tweet.getId()).isActive()).isFalse();
+        assertThat(likeService.toggleLike(user.getId(), tweet.getId()).getCount()).isEqualTo(1);
+
+        // 반영 전: DB에는 없지만 내 화면에는 좋아요 상태
+        assertThat(likeRepository.existsByUserIdAndTweetId(user.getId(), tweet.getId())).isFalse();
+        assertThat(likeWriteBehindQueue.isLiked(user.getId(), tweet.getId(), false)).isTrue();
+
+        likeWriteBehindQueue.drain(Integer.MAX_VALUE);
+        engagementCounterService.flush();
+
+        assertThat(likeRepository.countByTweet_Id(tweet.getId())).isEqualTo(1);
+        assertThat(tweetRepository.findLikeCountById(tweet.getId())).contains(1);
+    }
+
+    @Test
+    void likeThenUnlikeBeforeDrainWritesNothing() {
+        likeService.setLiked(user.getId(), tweet.getId(), true);
+        likeService.setLiked(user.getId(), tweet.getId(), false);
+
+        likeWriteBehindQueue.drain(Integer.MAX_VALUE);
+        engagementCounterService.flush();
+
+        assertThat(likeRepository.countByTweet_Id(tweet.getId())).isZero();
+        assertThat(tweetRepository.findLikeCountById(tweet.getId())).contains(0);
+        assertThat(likeWriteBehindQueue.isLiked(user.getId(), tweet.getId(), false)).isFalse();
+    }
+
+    @Test
+    void acknowledgedCountIgnoresOwnQueuedChanges() {
+        likeService.setLiked(user.getId(), tweet.getId(), true);
+        likeWriteBehindQueue.drain(Integer.MAX_VALUE);
+
+        // DB에는 좋아요가 있고, 취소/좋아요가 차례로 대기 중인 상태
+        assertThat(likeService.toggleLike(user.getId(), tweet.getId()).getCount()).isZero();
+        assertThat(likeService.toggleLike(user.getId(), tweet.getId()).getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsNewPairsWhenQueueIsFull() {
+        LikeWriteBehindQueue queue = new LikeWriteBehindQueue(
+                mock(EngagementLinkRepository.class), mock(EngagementCounterService.class),
+                mock(PlatformTransactionManager.class), new SimpleMeterRegistry(),
+                true, 1, 10, 10);
+
+        queue.offer(1L, 1L, true);
+        queue.offer(1L, 1L, false); // 같은 쌍은 자리를 차지하지 않음
+
+        assertThatThrownBy(() -> queue.offer(2L, 1L, true)).isInstanceOf(TooManyRequestsException.class);
+    }
+
+    // 📌 읽은 뒤 다른 경로가 먼저 등록해 INSERT가 중복 키로 0행이면 좋아요 수를 올리지 않음
+    @Test
+    void ignoredInsertsAreNotCounted() {
+        EngagementLinkRepository linkRepository = mock(EngagementLinkRepository.class);
+        EngagementCounterService counterService = mock(EngagementCounterService.class);
+        when(linkRepository.findExisting(any(), any(), any())).thenReturn(List.of());
+        when(linkRepository.insertAll(any(), any())).thenReturn(List.of());
+        LikeWriteBehindQueue queue = new LikeWriteBehindQueue(
+                linkRepository, counterService, mock(PlatformTransactionManager.class), new SimpleMeterRegistry(),
+                true, 10, 10, 10);
+
+        queue.offer(1L, 1L, true);
+        queue.drain(Integer.MAX_VALUE);
+
+        verify(linkRepository).insertAll(any(), any());
+        verify(counterService, never()).increment(any(), any(), anyLong());
+    }
+
+    // 📌 토글이 DB를 읽는 사이 대기 중이던 좋아요가 반영(커밋 후 대기열에서 제거)되어도, 좋아요 상태에서 취소로 토글
+    @Test
+    void toggleUsesQueuedStateEvenIfDrainCommitsDuringDatabaseRead() {
+        EngagementLinkRepository linkRepository = mock(EngagementLinkRepository.class);
+        when(linkRepository.findExisting(any(), any(), any())).thenReturn(List.of());
+        when(linkRepository.insertAll(any(), any())).thenAnswer(invocation -> invocation.getArgument(1));
+        LikeWriteBehindQueue queue = new LikeWriteBehindQueue(
+                linkRepository, mock(EngagementCounterService.class), mock(PlatformTransactionManager.class), new SimpleMeterRegistry(),
+                true, 10, 10, 10);
+        LikeRepository likes = mock(LikeRepository.class);
+        TweetRepository tweets = mock(TweetRepository.class);
+        when(tweets.findLikeCountById(1L)).thenReturn(Optional.of(0));
+        when(likes.existsByUserIdAndTweetId(1L, 1L)).thenAnswer(invocation -> {
+            queue.drain(Integer.MAX_VALUE); // 커밋 전 스냅샷을 읽는 동안 반영이 끝남
+            return false;
+        });
+        LikeService service = new LikeServiceImpl(likes, tweets, linkRepository, mock(EngagementCounterService.class), queue);
+
+        queue.offer(1L, 1L, true);
+
+        assertThat(service.toggleLike(1L, 1L).isActive()).isFalse();
+    }
+
+    private User saveUser(String prefix) {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return userRepository.save(new User(prefix + suffix, prefix + suffix, prefix, "password"));
+    }
+}
@@ -0,0 +1,36 @@
+package com.langjoo.prac.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ZipfSamplerTest {
+
+    @Test
+    void headRanksDominateAndSamplesStayInRange() {
+        ZipfSampler sampler = new ZipfSampler(1_000, 1.0);
+        Random random = new Random(42);
+        int[] counts = new int[1_000];
+        int samples = 200_000;
+        for (int i = 0; i < samples; i++) {
+            counts[sampler.sample(random)]++;
+        }
+
+        // P(0) = 1 / H(1000) ≈ 13.4%, P(1) ≈ 6.7% (순위 0이 순위 1의 약 2배)
+        assertThat(counts[0] / (double) samples).isBetween(0.12, 0.15);
+        assertThat(counts[0] / (double) counts[1]).isBetween(1.8, 2.2);
+        assertThat(counts[999]).isLessThan(counts[0] / 100);
+    }
+
+    @Test
+    void sameSeedProducesSameSequence() {
+        ZipfSampler sampler = new ZipfSampler(500, 1.2);
+        Random first = new Random(7);
+        Random second = new Random(7);
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(sampler.sample(first)).isEqualTo(sampler.sample(second));
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.langjoo.prac.search.index;
+
+import com.langjoo.prac.common.id.SnowflakeIdGenerator;
+import com.langjoo.prac.tweet.dto.RelevanceCursor;
+import com.langjoo.prac.tweet.dto.SearchSort;
+import com.langjoo.prac.tweet.dto.TweetCursor;
+import com.langjoo.prac.tweet.dto.TweetSearchRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 📌 검색 색인: 한글 부분 검색, 구 검색, 필터, 정렬/커서 동작 검증
+class InMemoryTweetSearchIndexTest {
+
+    private InMemoryTweetSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InMemoryTweetSearchIndex();
+        index(1, 10, "오늘 날씨가 정말 좋네요");
+        index(2, 10, "날씨 좋은 날에는 산책을");
+        index(3, 20, "Hello World, 좋은 아침입니다");
+        index(4, 20, "hello there");
+        index(5, 30, "날씨 날씨 날씨");
+    }
+
+    @Test
+    void matchesKoreanSubstringsInsideWords() {
+        // "날씨가"처럼 조사가 붙어 있어도 부분 문자열로 검색됨
+        assertThat(ids(search("날씨", SearchSort.LATEST))).containsExactly(5L, 2L, 1L);
+        assertThat(ids(search("아침", SearchSort.LATEST))).containsExactly(3L);
+        // 한 글자 검색어
+        assertThat(ids(search("씨", SearchSort.LATEST))).containsExactly(5L, 2L, 1L);
+        // 글자가 모두 있어도 연속되지 않으면 일치하지 않음 ("좋네요"에는 "좋은"이 없음)
+        assertThat(ids(search("좋은", SearchSort.LATEST))).containsExactly(3L, 2L);
+    }
+
+    @Test
+    void latinWordsAreCaseInsensitiveAndPhrasesMustBeAdjacent() {
+        assertThat(ids(search("HELLO", SearchSort.LATEST))).containsExactly(4L, 3L);
+        assertThat(ids(search("\"hello world\"", SearchSort.LATEST))).containsExactly(3L);
+        assertThat(ids(search("\"world hello\"", SearchSort.LATEST))).isEmpty();
+        // 따옴표 밖의 단어는 모두 포함되어야 함 (AND)
+        assertThat(ids(search("날씨 산책", SearchSort.LATEST))).containsExactly(2L);
+    }
+
+    @Test
+    void appliesAuthorTweetIdAndPeriodFilters() {
+        assertThat(ids(index.search(query("날씨").userId(10L).build()))).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(ids(index.search(query("날씨").tweetIds(Set.of(1L, 5L)).build()))).containsExactlyInAnyOrder(1L, 5L);
+        assertThat(ids(index.search(query("날씨").minTweetId(2L).maxTweetIdExclusive(5L).build())))
+                .containsExactly(2L);
+    }
+
+    // 📌 until 날짜의 마지막 1초에 작성된 트윗도 포함 (DB 경로와 같은 트윗 ID 범위), 다음 날 0시 트윗은 제외
+    @Test
+    void periodCoversTheWholeUntilDay() {
+        LocalDate day = LocalDate.of(2025, 3, 1);
+        long lastSecond = idAt(day, LocalTime.of(23, 59, 59, 500_000_000));
+        long nextDay = idAt(day.plusDays(1), LocalTime.MIDNIGHT);
+        index(lastSecond, 10, "날씨 마감");
+        index(nextDay, 10, "날씨 다음 날");
+
+        TweetSearchRequest request = new TweetSearchRequest();
+        request.setSince(day);
+        request.setUntil(day);
+        List<SearchHit> hits = index.search(query("날씨")
+                .minTweetId(request.minTweetId())
+                .maxTweetIdExclusive(request.maxTweetIdExclusive())
+                .build());
+
+        assertThat(ids(hits)).containsExactly(lastSecond);
+    }
+
+    @Test
+    void ranksByRelevanceAndPagesWithCursor() {
+        // 짧고 검색어가 많이 등장하는 트윗이 먼저
+        List<SearchHit> first = index.search(query("날씨").limit(2).build());
+        assertThat(ids(first)).containsExactly(5L, 2L);
+
+        SearchHit last = first.get(first.size() - 1);
+        List<SearchHit> second = index.search(query("날씨").limit(2)
+                .relevanceCursor(new RelevanceCursor(last.getScore(), last.getTweetId())).build());
+        assertThat(ids(second)).containsExactly(1L);
+
+        List<SearchHit> latest = index.search(query("날씨").sort(SearchSort.LATEST).limit(1)
+                .latestCursor(new TweetCursor(5L)).build());
+        assertThat(ids(latest)).containsExactly(2L);
+    }
+
+    @Test
+    void reflectsUpdatesAndRemovals() {
+        index.remove(5L);
+        index(6, 40, "새로운 날씨 소식");
+
+        assertThat(ids(search("날씨", SearchSort.LATEST))).containsExactly(6L, 2L, 1L);
+        assertThat(index.documentCount()).isEqualTo(5);
+    }
+
+    private void index(long tweetId, long userId, String content) {
+        index.index(new TweetDocument(tweetId, userId, content));
+    }
+
+    private static long idAt(LocalDate date, LocalTime time) {
+        return SnowflakeIdGenerator.minIdAt(date.atTime(time).atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    private List<SearchHit> search(String keyword, SearchSort sort) {
+        return index.search(query(keyword).sort(sort).build());
+    }
+
+    private static SearchQuery.SearchQueryBuilder query(String keyword) {
+        return SearchQuery.builder().keyword(keyword).limit(20);
+    }
+
+    private static List<Long> ids(List<SearchHit> hits) {
+        return hits.stream().map(SearchHit::getTweetId).collect(Collectors.toList());
+    }
+}
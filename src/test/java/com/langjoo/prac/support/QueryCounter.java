@@ -0,0 +1,40 @@
+package com.langjoo.prac.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 📌 테스트용 SQL 실행 횟수 측정기 (Hibernate Statistics 기반)
+// 사용 전 spring.jpa.properties.hibernate.generate_statistics=true 설정이 필요합니다.
+public class QueryCounter {
+
+    private final Statistics statistics;
+
+    public QueryCounter(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    // action 실행 중 준비(prepare)된 JDBC statement 수
+    public long count(Runnable action) {
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    // action 실행 중 DB에서 읽어 만든 엔티티 수
+    public long countEntityLoads(Runnable action) {
+        statistics.clear();
+        action.run();
+        return statistics.getEntityLoadCount();
+    }
+
+    // action 실행 중 statement 수가 budget을 넘으면 실패
+    public void assertAtMost(String name, long budget, Runnable action) {
+        long executed = count(action);
+        assertThat(executed)
+                .as("%s: SQL %d회 실행 (허용 %d회)", name, executed, budget)
+                .isLessThanOrEqualTo(budget);
+    }
+}
@@ -0,0 +1,33 @@
+package com.langjoo.prac.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 📌 테스트용 SQL 수집기: Hibernate가 실행하려는 SQL 문자열을 현재 스레드 기준으로 모음
+// 사용 전 spring.jpa.properties.hibernate.session_factory.statement_inspector에 이 클래스를 지정해야 합니다.
+public class SqlCapture implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        List<String> captured = CAPTURED.get();
+        if (captured != null) {
+            captured.add(sql);
+        }
+        return sql;
+    }
+
+    // action 실행 중 Hibernate가 실행한 SQL 목록
+    public static List<String> capture(Runnable action) {
+        CAPTURED.set(new ArrayList<>());
+        try {
+            action.run();
+            return CAPTURED.get();
+        } finally {
+            CAPTURED.remove();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.langjoo.prac.timeline.store;
+
+import com.langjoo.prac.tweet.dto.TweetCursor;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryTimelineStoreTest {
+
+    private final InMemoryTimelineStore store = new InMemoryTimelineStore(10, 100);
+
+    // 재구성 쿼리가 도는 동안 커밋된 fan-out/삭제가 적재 결과에 반영되어야 함
+    @Test
+    void pushesAndRemovesDuringLoadAreMergedIntoLoadedTimeline() {
+        long token = store.beginLoad(1L);
+        assertThat(store.isLoaded(1L)).isFalse();
+
+        store.push(1L, new TimelineEntry(30L));   // 쿼리 스냅샷 이후에 커밋된 트윗
+        store.remove(1L, 10L);                    // 쿼리 스냅샷 이후에 삭제된 트윗
+        assertThat(store.range(1L, TweetCursor.FIRST, 10)).isEmpty(); // 적재 중에는 조회에 쓰지 않음
+
+        store.load(1L, token, entries(20L, 10L));
+
+        assertThat(store.isLoaded(1L)).isTrue();
+        assertThat(tweetIds(1L)).containsExactly(30L, 20L);
+    }
+
+    @Test
+    void loadIsDiscardedWhenEvictedDuringQuery() {
+        long token = store.beginLoad(1L);
+        store.evict(1L); // 팔로우 변경 등
+
+        store.load(1L, token, entries(10L));
+
+        assertThat(store.isLoaded(1L)).isFalse();
+    }
+
+    @Test
+    void concurrentRebuildsShareOneLoadAndOnlyTheFirstApplies() {
+        long first = store.beginLoad(1L);
+        long second = store.beginLoad(1L);
+        assertThat(second).isEqualTo(first);
+
+        store.load(1L, first, entries(20L));
+        store.remove(1L, 20L);
+        store.load(1L, second, entries(20L)); // 삭제 전에 조회한 결과가 다시 넣지 않아야 함
+
+        assertThat(tweetIds(1L)).isEmpty();
+        assertThat(store.beginLoad(1L)).isEqualTo(TimelineStore.NO_LOAD);
+    }
+
+    private static List<TimelineEntry> entries(Long... tweetIds) {
+        return Arrays.stream(tweetIds).map(TimelineEntry::new).toList();
+    }
+
+    private List<Long> tweetIds(Long userId) {
+        return store.range(userId, TweetCursor.FIRST, 10).orElseThrow().stream()
+                .map(TimelineEntry::getTweetId)
+                .toList();
+    }
+}
@@ -0,0 +1,146 @@
+package com.langjoo.prac.timeline.store;
+
+import com.langjoo.prac.domain.RetweetType;
+import com.langjoo.prac.tweet.dto.TweetResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OffHeapTweetStoreTest {
+
+    private static final int SLAB_BYTES = 4096;
+    private static final String CONTENT = "x".repeat(100); // 레코드 하나 = 헤더 51 + 100바이트
+    private static final int RECORDS_PER_SLAB = SLAB_BYTES / (51 + CONTENT.length());
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OffHeapTweetStore store = new OffHeapTweetStore(meterRegistry, true, 3L * SLAB_BYTES, SLAB_BYTES);
+
+    @Test
+    void recordsRoundTripWithoutEntities() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123_456_789);
+        store.put(TweetResponse.builder()
+                .tweetId(10L).userId(3L).type(RetweetType.QUOTE_RETWEET)
+                .originalTweetId(7L).replyToTweetId(5L)
+                .content("안녕하세요 👋 " + "가".repeat(270)).createdAt(createdAt)
+                .username("author").likeCount(9) // 바뀌는 값은 저장하지 않음
+                .build());
+        store.put(TweetResponse.builder().tweetId(11L).userId(3L).type(RetweetType.PURE_RETWEET).build());
+
+        TweetResponse quote = store.get(10L);
+        assertThat(quote.getUserId()).isEqualTo(3L);
+        assertThat(quote.getType()).isEqualTo(RetweetType.QUOTE_RETWEET);
+        assertThat(quote.getOriginalTweetId()).isEqualTo(7L);
+        assertThat(quote.getReplyToTweetId()).isEqualTo(5L);
+        assertThat(quote.getContent()).isEqualTo("안녕하세요 👋 " + "가".repeat(270));
+        assertThat(quote.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(quote.getUsername()).isNull();
+        assertThat(quote.getLikeCount()).isZero();
+
+        TweetResponse pure = store.get(11L);
+        assertThat(pure.getContent()).isNull();
+        assertThat(pure.getCreatedAt()).isNull();
+        assertThat(pure.getOriginalTweetId()).isNull();
+        assertThat(store.get(12L)).isNull();
+    }
+
+    @Test
+    void putReplacesAndRemoveDrops() {
+        store.put(response(1L, "first"));
+        store.put(response(1L, "second"));
+        assertThat(store.get(1L).getContent()).isEqualTo("second");
+        assertThat(store.size()).isEqualTo(1);
+
+        store.remove(1L);
+        assertThat(store.get(1L)).isNull();
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    void fragmentedSlabIsCompactedBeforeAnythingIsEvicted() {
+        int filled = RECORDS_PER_SLAB * 3;
+        for (long id = 1; id <= filled; id++) {
+            store.put(response(id, CONTENT));
+        }
+        for (long id = 1; id <= filled; id++) {
+            if (id % 3 != 0) {
+                store.remove(id); // 슬랩마다 2/3가 죽은 레코드
+            }
+        }
+
+        for (long id = filled + 1; id <= filled + RECORDS_PER_SLAB; id++) {
+            store.put(response(id, CONTENT));
+        }
+
+        assertThat(meterRegistry.counter("timeline.tweet-store.reclaims", "type", "compaction").count()).isPositive();
+        assertThat(meterRegistry.counter("timeline.tweet-store.reclaims", "type", "eviction").count()).isZero();
+        for (long id = 3; id <= filled; id += 3) {
+            assertThat(store.get(id).getTweetId()).isEqualTo(id);
+        }
+        for (long id = filled + 1; id <= filled + RECORDS_PER_SLAB; id++) {
+            assertThat(store.get(id).getContent()).isEqualTo(CONTENT);
+        }
+    }
+
+    @Test
+    void leastRecentlyReadSlabIsEvictedWhenFull() {
+        long firstOfSecondSlab = RECORDS_PER_SLAB + 1;
+        long firstOfThirdSlab = RECORDS_PER_SLAB * 2L + 1;
+        for (long id = 1; id <= RECORDS_PER_SLAB * 3L; id++) {
+            store.put(response(id, CONTENT));
+        }
+        store.get(1L); // 첫 번째 슬랩을 최근에 조회 → 두 번째 슬랩이 가장 오래됨
+
+        store.put(response(RECORDS_PER_SLAB * 3L + 1, CONTENT));
+
+        assertThat(store.get(1L)).isNotNull();
+        assertThat(store.get(firstOfSecondSlab)).isNull();
+        assertThat(store.get(firstOfThirdSlab)).isNotNull();
+        assertThat(store.size()).isEqualTo(RECORDS_PER_SLAB * 2 + 1);
+        assertThat(meterRegistry.counter("timeline.tweet-store.evicted-records").count()).isEqualTo(RECORDS_PER_SLAB);
+    }
+
+    @Test
+    void disabledStoreKeepsNothing() {
+        OffHeapTweetStore disabled = new OffHeapTweetStore(new SimpleMeterRegistry(), false, SLAB_BYTES * 2L, SLAB_BYTES);
+        disabled.put(response(1L, CONTENT));
+        assertThat(disabled.getAll(List.of(1L))).isEmpty();
+    }
+
+    // 좁은 키 범위에서 추가/삭제를 반복해 충돌과 삭제 후 당겨 채우기를 HashMap과 비교
+    @Test
+    void indexMatchesHashMapUnderRandomPutsAndRemoves() {
+        LongLongIndex index = new LongLongIndex(4);
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 200_000; i++) {
+            long key = 1 + random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                assertThat(index.remove(key)).isEqualTo(expected.getOrDefault(key, LongLongIndex.MISSING));
+                expected.remove(key);
+            } else {
+                long value = random.nextLong() & Long.MAX_VALUE;
+                assertThat(index.put(key, value)).isEqualTo(expected.getOrDefault(key, LongLongIndex.MISSING));
+                expected.put(key, value);
+            }
+        }
+
+        assertThat(index.size()).isEqualTo(expected.size());
+        for (long key = 1; key <= 2_000; key++) {
+            assertThat(index.get(key)).isEqualTo(expected.getOrDefault(key, LongLongIndex.MISSING));
+        }
+    }
+
+    private static TweetResponse response(long tweetId, String content) {
+        return TweetResponse.builder()
+                .tweetId(tweetId).userId(1L).type(RetweetType.ORIGINAL)
+                .content(content).createdAt(LocalDateTime.of(2025, 1, 1, 0, 0))
+                .build();
+    }
+}
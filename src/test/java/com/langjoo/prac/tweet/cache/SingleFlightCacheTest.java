@@ -0,0 +1,103 @@
+package com.langjoo.prac.tweet.cache;
+
+import com.langjoo.prac.common.datasource.PrimaryReads;
+import com.langjoo.prac.common.exception.NotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightCacheTest {
+
+    private final SingleFlightCache<String> cache = new SingleFlightCache<>("test", 60_000, 2, PrimaryReads.disabled(), new SimpleMeterRegistry());
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> cache.get(1L, key -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return "tweet-" + key;
+                })));
+            }
+            Thread.sleep(200); // 나머지 요청이 첫 조회를 기다리도록
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("tweet-1");
+            }
+            assertThat(loads.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void failedLoadIsNotCached() {
+        assertThatThrownBy(() -> cache.get(1L, key -> {
+            throw new NotFoundException("트윗을 찾을 수 없습니다.");
+        })).isInstanceOf(NotFoundException.class);
+
+        assertThat(cache.get(1L, key -> "loaded")).isEqualTo("loaded");
+    }
+
+    @Test
+    void valueLoadedAcrossAnInvalidationIsNotCached() {
+        cache.get(1L, key -> {
+            cache.invalidate(1L); // 조회 중에 삭제/카운터 반영이 지나감
+            return "stale";
+        });
+
+        assertThat(cache.get(1L, key -> "fresh")).isEqualTo("fresh");
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedBeyondMaxSize() {
+        cache.get(1L, key -> "one");
+        cache.get(2L, key -> "two");
+        cache.get(1L, key -> "reloaded");
+        cache.get(3L, key -> "three"); // 가장 오래 쓰지 않은 2가 빠짐
+
+        assertThat(cache.get(1L, key -> "reloaded")).isEqualTo("one");
+        assertThat(cache.get(2L, key -> "reloaded")).isEqualTo("reloaded");
+    }
+
+    // 📌 한도를 넘을 때마다 전부 훑지 않고 목표 크기(90%)까지 한 번에 줄임 → 정리 횟수는 적재 횟수의 일부
+    @Test
+    void staysBoundedWithAmortizedSweeps() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SingleFlightCache<String> bounded = new SingleFlightCache<>("bounded", 60_000, 100, PrimaryReads.disabled(), registry);
+
+        for (long key = 1; key <= 1000; key++) {
+            bounded.get(key, id -> "tweet-" + id);
+            bounded.get(1000L, id -> "hot"); // 계속 쓰는 항목은 정리되지 않음
+        }
+
+        assertThat(registry.get("tweet.detail.cache.size").tag("part", "bounded").gauge().value()).isLessThanOrEqualTo(100);
+        assertThat(registry.get("tweet.detail.cache.sweeps").tag("part", "bounded").counter().count()).isLessThanOrEqualTo(100);
+        assertThat(bounded.get(1000L, id -> "reloaded")).isEqualTo("hot");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
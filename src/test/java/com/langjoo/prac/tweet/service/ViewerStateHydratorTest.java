@@ -0,0 +1,98 @@
+package com.langjoo.prac.tweet.service;
+
+import com.langjoo.prac.bookmark.repository.BookmarkRepository;
+import com.langjoo.prac.domain.Bookmark;
+import com.langjoo.prac.domain.Like;
+import com.langjoo.prac.domain.RetweetType;
+import com.langjoo.prac.domain.Tweet;
+import com.langjoo.prac.domain.User;
+import com.langjoo.prac.like.repository.LikeRepository;
+import com.langjoo.prac.tweet.dto.TweetResponse;
+import com.langjoo.prac.tweet.repository.TweetRepository;
+import com.langjoo.prac.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 📌 원본/순수 리트윗/인용 트윗이 섞인 페이지에서 플래그가 원본 트윗 기준으로 채워지는지 검증
+// 다른 테스트 컨텍스트가 스키마를 다시 만들어도 영향받지 않도록 별도 인메모리 DB 사용
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:viewer-state;MODE=MYSQL")
+class ViewerStateHydratorTest {
+
+    @Autowired private ViewerStateHydrator viewerStateHydrator;
+    @Autowired private TweetRepository tweetRepository;
+    @Autowired private LikeRepository likeRepository;
+    @Autowired private BookmarkRepository bookmarkRepository;
+    @Autowired private UserRepository userRepository;
+
+    private User viewer;
+    private Tweet original;
+    private Tweet pureRetweet;
+    private Tweet quoteRetweet;
+    private Tweet untouched;
+
+    @BeforeEach
+    void setUp() {
+        viewer = saveUser("viewer");
+        User author = saveUser("author");
+        User other = saveUser("other");
+
+        original = tweetRepository.save(new Tweet(author, "original", null, RetweetType.ORIGINAL, null));
+        untouched = tweetRepository.save(new Tweet(author, "untouched", null, RetweetType.ORIGINAL, null));
+        pureRetweet = tweetRepository.save(Tweet.createRetweet(other, original, null, RetweetType.PURE_RETWEET));
+        quoteRetweet = tweetRepository.save(Tweet.createRetweet(other, original, "quote", RetweetType.QUOTE_RETWEET));
+
+        tweetRepository.save(Tweet.createRetweet(viewer, original, null, RetweetType.PURE_RETWEET));
+        tweetRepository.save(Tweet.createRetweet(viewer, untouched, "my quote", RetweetType.QUOTE_RETWEET)); // 인용은 리트윗으로 치지 않음
+        likeRepository.save(new Like(viewer, original));
+        bookmarkRepository.save(new Bookmark(viewer, original));
+    }
+
+    @Test
+    void hydratesFlagsAgainstOriginalTweet() {
+        List<TweetResponse> responses = hydrate(viewer.getId(), original, pureRetweet, quoteRetweet, untouched);
+
+        assertThat(responses).extracting(TweetResponse::isLikedByMe).containsExactly(true, true, true, false);
+        assertThat(responses).extracting(TweetResponse::isBookmarkedByMe).containsExactly(true, true, true, false);
+        assertThat(responses).extracting(TweetResponse::isRetweetedByMe).containsExactly(true, true, false, false);
+    }
+
+    @Test
+    void prefetchByPageIdsMatchesHydrate() {
+        List<TweetResponse> responses = Stream.of(original, pureRetweet, quoteRetweet, untouched)
+                .map(TweetResponse::from).collect(Collectors.toList());
+        List<Long> pageIds = responses.stream().map(TweetResponse::getTweetId).collect(Collectors.toList());
+
+        viewerStateHydrator.apply(viewer.getId(), responses, viewerStateHydrator.prefetch(viewer.getId(), pageIds));
+
+        assertThat(responses).extracting(TweetResponse::isLikedByMe).containsExactly(true, true, true, false);
+        assertThat(responses).extracting(TweetResponse::isBookmarkedByMe).containsExactly(true, true, true, false);
+        assertThat(responses).extracting(TweetResponse::isRetweetedByMe).containsExactly(true, true, false, false);
+    }
+
+    @Test
+    void leavesFlagsUnsetForAnonymousViewer() {
+        List<TweetResponse> responses = hydrate(null, original, pureRetweet);
+
+        assertThat(responses).noneMatch(r -> r.isLikedByMe() || r.isRetweetedByMe() || r.isBookmarkedByMe());
+    }
+
+    private List<TweetResponse> hydrate(Long viewerId, Tweet... tweets) {
+        List<TweetResponse> responses = Stream.of(tweets).map(TweetResponse::from).collect(Collectors.toList());
+        viewerStateHydrator.hydrate(viewerId, responses);
+        return responses;
+    }
+
+    private User saveUser(String prefix) {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return userRepository.save(new User(prefix + suffix, prefix + suffix, prefix, "password"));
+    }
+}
@@ -0,0 +1,52 @@
+package com.langjoo.prac.user.service;
+
+import com.langjoo.prac.domain.User;
+import com.langjoo.prac.follow.graph.FollowGraph;
+import com.langjoo.prac.follow.service.FollowService;
+import com.langjoo.prac.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 📌 탈퇴로 Follow 행이 cascade 삭제될 때 상대편 유저들의 집계 컬럼/프로필 캐시/팔로우 그래프도 함께 정리되는지 검증
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:user-deactivation;MODE=MYSQL")
+class UserDeactivationTest {
+
+    @Autowired private UserService userService;
+    @Autowired private FollowService followService;
+    @Autowired private FollowGraph followGraph;
+    @Autowired private UserRepository userRepository;
+
+    @Test
+    void deactivationUpdatesCountsAndCachesOfBothSides() {
+        User leaving = saveUser("leaving");
+        User followed = saveUser("followed");
+        User fan = saveUser("fan");
+        followService.follow(leaving.getId(), followed.getUsername());
+        followService.follow(fan.getId(), leaving.getUsername());
+
+        // 탈퇴 전에 프로필 캐시와 팔로우 그래프를 채워 둠
+        assertThat(userService.getUserProfile(null, followed.getUsername()).getFollowerCount()).isEqualTo(1);
+        assertThat(userService.getUserProfile(null, fan.getUsername()).getFollowingCount()).isEqualTo(1);
+        assertThat(followGraph.isFollowing(fan.getId(), leaving.getId())).isTrue();
+        assertThat(followGraph.followerIds(followed.getId()).contains(leaving.getId())).isTrue();
+
+        userService.deactivateUser(leaving.getId());
+
+        assertThat(userRepository.findById(followed.getId()).orElseThrow().getFollowerCount()).isZero();
+        assertThat(userRepository.findById(fan.getId()).orElseThrow().getFollowingCount()).isZero();
+        assertThat(userService.getUserProfile(null, followed.getUsername()).getFollowerCount()).isZero();
+        assertThat(userService.getUserProfile(null, fan.getUsername()).getFollowingCount()).isZero();
+        assertThat(followGraph.isFollowing(fan.getId(), leaving.getId())).isFalse();
+        assertThat(followGraph.followerIds(followed.getId()).contains(leaving.getId())).isFalse();
+    }
+
+    private User saveUser(String prefix) {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return userRepository.save(new User(prefix + suffix, prefix + suffix, prefix, "password"));
+    }
+}